@@ -19,6 +19,7 @@
 
 use std::ffi::c_char;
 
+use itertools::Itertools;
 use typedb_driver::{
     answer::{ConceptMap, ConceptMapGroup, Explainable, Explainables, ValueGroup},
     box_stream,
@@ -30,10 +31,22 @@ use super::{
     common::{StringIterator, StringPairIterator},
     concept::ConceptIterator,
     iterator::CIterator,
-    memory::{borrow, free, release, release_optional, release_string, string_view},
+    memory::{array_view, borrow, free, release, release_optional, release_string, string_array_view, string_view},
     query::ConceptMapIterator,
 };
 
+/// Creates a new <code>ConceptMap</code> binding each of the given variables to the concept at the same position,
+/// with no explainable concepts. Used to build answers in-process, e.g. to benchmark answer handling without a server.
+///
+/// @param variables A null-terminated array holding the variable names
+/// @param values A null-terminated array holding the concepts. This array <i>must</i> have the same length as
+/// <code>variables</code>
+#[no_mangle]
+pub extern "C" fn concept_map_new(variables: *const *const c_char, values: *const *const Concept) -> *mut ConceptMap {
+    let map = string_array_view(variables).map(str::to_owned).zip_eq(array_view(values).cloned()).collect();
+    release(ConceptMap { map, explainables: Explainables::default() })
+}
+
 /// Frees the native rust <code>ConceptMap</code> object
 #[no_mangle]
 pub extern "C" fn concept_map_drop(concept_map: *mut ConceptMap) {
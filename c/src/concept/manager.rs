@@ -25,11 +25,11 @@ use typedb_driver::{
     Promise, Result, Transaction, IID,
 };
 
-use super::ConceptPromise;
+use super::{ConceptPromise, OptionalConceptIterator};
 use crate::{
     error::try_release,
     iterator::{iterator_try_next, CIterator},
-    memory::{borrow, free, release, release_string, string_view},
+    memory::{borrow, free, release, release_string, string_array_view, string_view},
 };
 
 /// Retrieves the root ``EntityType``, “entity”.
@@ -146,6 +146,65 @@ pub extern "C" fn concepts_get_attribute(
     release(ConceptPromise::attribute(borrow(transaction).concept().get_attribute(iid_from_str(string_view(iid)))))
 }
 
+/// Retrieves the <code>Thing</code> instances with the given iids in a single batched request.
+/// The results follow the order of the given iids, with one result for each iid,
+/// empty if the iid does not identify an instance.
+#[no_mangle]
+pub extern "C" fn concepts_get_things(
+    transaction: *const Transaction<'static>,
+    iids: *const *const c_char,
+) -> *mut OptionalConceptIterator {
+    let iids = string_array_view(iids).map(iid_from_str).collect();
+    try_release(
+        borrow(transaction).concept().get_things(iids).map(|it| OptionalConceptIterator::things(box_stream(it))),
+    )
+}
+
+/// Retrieves the <code>Entity</code> instances with the given iids in a single batched request.
+/// The results follow the order of the given iids, with one result for each iid,
+/// empty if the iid does not identify an entity.
+#[no_mangle]
+pub extern "C" fn concepts_get_entities(
+    transaction: *const Transaction<'static>,
+    iids: *const *const c_char,
+) -> *mut OptionalConceptIterator {
+    let iids = string_array_view(iids).map(iid_from_str).collect();
+    try_release(
+        borrow(transaction).concept().get_entities(iids).map(|it| OptionalConceptIterator::entities(box_stream(it))),
+    )
+}
+
+/// Retrieves the <code>Relation</code> instances with the given iids in a single batched request.
+/// The results follow the order of the given iids, with one result for each iid,
+/// empty if the iid does not identify a relation.
+#[no_mangle]
+pub extern "C" fn concepts_get_relations(
+    transaction: *const Transaction<'static>,
+    iids: *const *const c_char,
+) -> *mut OptionalConceptIterator {
+    let iids = string_array_view(iids).map(iid_from_str).collect();
+    try_release(
+        borrow(transaction).concept().get_relations(iids).map(|it| OptionalConceptIterator::relations(box_stream(it))),
+    )
+}
+
+/// Retrieves the <code>Attribute</code> instances with the given iids in a single batched request.
+/// The results follow the order of the given iids, with one result for each iid,
+/// empty if the iid does not identify an attribute.
+#[no_mangle]
+pub extern "C" fn concepts_get_attributes(
+    transaction: *const Transaction<'static>,
+    iids: *const *const c_char,
+) -> *mut OptionalConceptIterator {
+    let iids = string_array_view(iids).map(iid_from_str).collect();
+    try_release(
+        borrow(transaction)
+            .concept()
+            .get_attributes(iids)
+            .map(|it| OptionalConceptIterator::attributes(box_stream(it))),
+    )
+}
+
 /// Iterator over the <code>SchemaException</code>s in the result of \ref concepts_get_schema_exceptions(Transaction*).
 pub struct SchemaExceptionIterator(CIterator<Result<SchemaException>>);
 
@@ -36,7 +36,7 @@ use typedb_driver::{
 
 use super::{
     iterator::iterator_try_next,
-    memory::{borrow, free, release},
+    memory::{borrow, free, release, release_optional},
 };
 use crate::{error::try_release_optional, iterator::CIterator, memory::take_ownership};
 
@@ -149,6 +149,62 @@ pub extern "C" fn concept_iterator_drop(it: *mut ConceptIterator) {
     free(it);
 }
 
+/// Iterator over the results of looking up concepts by iid, with one <code>OptionalConcept</code> for each iid,
+/// in the order of the iids.
+pub struct OptionalConceptIterator(CIterator<Result<OptionalConcept>>);
+
+impl OptionalConceptIterator {
+    fn things(it: BoxStream<'static, Result<Option<Thing>>>) -> Self {
+        Self(CIterator(box_stream(it.map_ok(|thing| {
+            OptionalConcept(thing.map(|thing| match thing {
+                Thing::Entity(entity) => Concept::Entity(entity),
+                Thing::Relation(relation) => Concept::Relation(relation),
+                Thing::Attribute(attribute) => Concept::Attribute(attribute),
+            }))
+        }))))
+    }
+
+    fn entities(it: BoxStream<'static, Result<Option<Entity>>>) -> Self {
+        Self(CIterator(box_stream(it.map_ok(|entity| OptionalConcept(entity.map(Concept::Entity))))))
+    }
+
+    fn relations(it: BoxStream<'static, Result<Option<Relation>>>) -> Self {
+        Self(CIterator(box_stream(it.map_ok(|relation| OptionalConcept(relation.map(Concept::Relation))))))
+    }
+
+    fn attributes(it: BoxStream<'static, Result<Option<Attribute>>>) -> Self {
+        Self(CIterator(box_stream(it.map_ok(|attribute| OptionalConcept(attribute.map(Concept::Attribute))))))
+    }
+}
+
+/// Forwards the <code>OptionalConceptIterator</code> and returns the next <code>OptionalConcept</code> if it exists,
+/// or null if there are no more elements.
+#[no_mangle]
+pub extern "C" fn optional_concept_iterator_next(it: *mut OptionalConceptIterator) -> *mut OptionalConcept {
+    unsafe { iterator_try_next(addr_of_mut!((*it).0)) }
+}
+
+/// Frees the native rust <code>OptionalConceptIterator</code> object
+#[no_mangle]
+pub extern "C" fn optional_concept_iterator_drop(it: *mut OptionalConceptIterator) {
+    free(it);
+}
+
+/// The result of looking up a concept by its iid, holding the concept if one was found.
+pub struct OptionalConcept(Option<Concept>);
+
+/// Frees the native rust <code>OptionalConcept</code> object
+#[no_mangle]
+pub extern "C" fn optional_concept_drop(optional: *mut OptionalConcept) {
+    free(optional);
+}
+
+/// Returns the <code>Concept</code> held by the <code>OptionalConcept</code>, or null if none was found.
+#[no_mangle]
+pub extern "C" fn optional_concept_get(optional: *const OptionalConcept) -> *mut Concept {
+    release_optional(borrow(optional).0.clone())
+}
+
 type RolePlayerIteratorInner = CIterator<Result<RolePlayer>>;
 
 /// An iterator over <code>RolePlayer</code> pairs returned by \ref relation_get_role_players(Transaction*, Concept*)
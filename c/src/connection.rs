@@ -17,10 +17,10 @@
  * under the License.
  */
 
-use std::{ffi::c_char, path::Path};
+use std::{ffi::c_char, path::Path, time::Duration};
 
 use itertools::Itertools;
-use typedb_driver::{Connection, Credential};
+use typedb_driver::{CompressionStats, Connection, Credential, HedgePolicy, ReplicaSelector};
 
 use super::{
     error::{try_release, unwrap_void},
@@ -86,6 +86,100 @@ pub extern "C" fn connection_force_close(connection: *mut Connection) {
     unwrap_void(borrow(connection).force_close());
 }
 
+/// Sets how operations that may run on any replica choose the replica to try first.
+#[no_mangle]
+pub extern "C" fn connection_set_replica_selector(connection: *const Connection, replica_selector: ReplicaSelector) {
+    borrow(connection).set_replica_selector(replica_selector);
+}
+
+/// Returns the strategy used by operations that may run on any replica to choose the replica to try first.
+#[no_mangle]
+pub extern "C" fn connection_get_replica_selector(connection: *const Connection) -> ReplicaSelector {
+    borrow(connection).replica_selector()
+}
+
+/// Enables hedging when opening data sessions that read from any replica. If the first replica has not responded
+/// within the given percentile of its recent request latencies, the session is also opened on the next replica,
+/// and whichever opens first is used.
+///
+/// @param percentile The percentile (between 0 and 1) of recent request latencies used as the hedge delay
+/// @param fallback_delay_millis The hedge delay used while no latencies have been measured yet
+#[no_mangle]
+pub extern "C" fn connection_set_hedge_policy(
+    connection: *const Connection,
+    percentile: f64,
+    fallback_delay_millis: i64,
+) {
+    let fallback_delay = Duration::from_millis(fallback_delay_millis as u64);
+    borrow(connection).set_hedge_policy(Some(HedgePolicy { percentile, fallback_delay }));
+}
+
+/// Disables hedging when opening data sessions.
+#[no_mangle]
+pub extern "C" fn connection_disable_hedging(connection: *const Connection) {
+    borrow(connection).set_hedge_policy(None);
+}
+
+/// Limits the total size, in bytes, of the answers that all transactions opened through this connection have received
+/// but not yet consumed. While the limit is exceeded, streamed queries holding unconsumed answers stop requesting
+/// further answers.
+///
+/// @param limit_bytes The limit in bytes, or a non-positive value to remove the limit
+#[no_mangle]
+pub extern "C" fn connection_set_response_buffer_limit(connection: *const Connection, limit_bytes: i64) {
+    borrow(connection).set_response_buffer_limit(if limit_bytes > 0 { Some(limit_bytes as usize) } else { None });
+}
+
+/// Returns the total size, in bytes, of the answers that all transactions opened through this connection
+/// have received but not yet consumed.
+#[no_mangle]
+pub extern "C" fn connection_get_response_buffered_bytes(connection: *const Connection) -> i64 {
+    borrow(connection).response_buffer().buffered_bytes as i64
+}
+
+/// Returns the number of times streams opened through this connection stopped requesting further answers
+/// because a response buffer limit was exceeded.
+#[no_mangle]
+pub extern "C" fn connection_get_response_buffer_paused(connection: *const Connection) -> i64 {
+    borrow(connection).response_buffer().paused_continuations as i64
+}
+
+/// Returns the number of message bytes and wire bytes exchanged with the server(s) over this connection so far.
+#[no_mangle]
+pub extern "C" fn connection_get_compression_stats(connection: *const Connection) -> *mut CompressionStats {
+    release(borrow(connection).compression_stats())
+}
+
+/// Frees the native rust <code>CompressionStats</code> object.
+#[no_mangle]
+pub extern "C" fn compression_stats_drop(stats: *mut CompressionStats) {
+    free(stats);
+}
+
+/// Returns the size, in bytes, of the messages sent to the server(s) before compression.
+#[no_mangle]
+pub extern "C" fn compression_stats_get_message_bytes_sent(stats: *const CompressionStats) -> i64 {
+    borrow(stats).message_bytes_sent as i64
+}
+
+/// Returns the number of bytes sent to the server(s) on the wire, after compression.
+#[no_mangle]
+pub extern "C" fn compression_stats_get_wire_bytes_sent(stats: *const CompressionStats) -> i64 {
+    borrow(stats).wire_bytes_sent as i64
+}
+
+/// Returns the size, in bytes, of the messages received from the server(s) after decompression.
+#[no_mangle]
+pub extern "C" fn compression_stats_get_message_bytes_received(stats: *const CompressionStats) -> i64 {
+    borrow(stats).message_bytes_received as i64
+}
+
+/// Returns the number of bytes received from the server(s) on the wire, before decompression.
+#[no_mangle]
+pub extern "C" fn compression_stats_get_wire_bytes_received(stats: *const CompressionStats) -> i64 {
+    borrow(stats).wire_bytes_received as i64
+}
+
 /// Creates a new <code>Credential</code> for connecting to TypeDB Cloud.
 ///
 /// @param username The name of the user to connect as
@@ -17,7 +17,10 @@
  * under the License.
  */
 
-use std::{ffi::c_char, ptr::addr_of_mut};
+use std::{
+    ffi::{c_char, c_void},
+    ptr::addr_of_mut,
+};
 
 use typedb_driver::{box_stream, info::ReplicaInfo, Database};
 
@@ -25,6 +28,7 @@ use super::{
     error::{try_release_string, unwrap_void},
     iterator::{iterator_next, CIterator},
     memory::{borrow, borrow_mut, free, release, release_optional, release_string, take_ownership},
+    session::private::ForeignCallback,
 };
 
 /// Frees the native rust <code>Database</code> object
@@ -39,6 +43,25 @@ pub extern "C" fn database_get_name(database: *const Database) -> *mut c_char {
     release_string(borrow(database).name().to_owned())
 }
 
+/// Registers a callback function which will be executed when the replicas of this database change,
+/// such as when a new primary replica is elected. Only works in TypeDB Cloud.
+///
+/// @param database The database on which to register the callback
+/// @param data The argument to be passed to the callback function when it is executed
+/// @param callback The function to be called
+/// @param finished A function which will be executed when the database is destroyed, allowing cleanup
+#[no_mangle]
+pub extern "C" fn database_on_topology_change(
+    database: *const Database,
+    data: *mut c_void,
+    callback: extern "C" fn(*mut c_void),
+    finished: extern "C" fn(*mut c_void),
+) {
+    #[allow(clippy::redundant_closure)]
+    let mut callback = ForeignCallback::new(data, move |data| callback(data), move |data| finished(data));
+    borrow(database).on_topology_change(move || callback.call())
+}
+
 /// Deletes this database.
 #[no_mangle]
 pub extern "C" fn database_delete(database: *mut Database) {
@@ -131,3 +154,23 @@ pub extern "C" fn replica_info_is_preferred(replica_info: *const ReplicaInfo) ->
 pub extern "C" fn replica_info_get_term(replica_info: *const ReplicaInfo) -> i64 {
     borrow(replica_info).term
 }
+
+/// The number of requests from this driver currently in flight to the server hosting this replica.
+#[no_mangle]
+pub extern "C" fn replica_info_get_outstanding_requests(replica_info: *const ReplicaInfo) -> i64 {
+    borrow(replica_info).outstanding_requests as i64
+}
+
+/// Checks whether any request from this driver to the server hosting this replica has completed,
+/// so that its latency is known.
+#[no_mangle]
+pub extern "C" fn replica_info_has_latency(replica_info: *const ReplicaInfo) -> bool {
+    borrow(replica_info).latency.is_some()
+}
+
+/// The moving-average latency, in microseconds, of requests from this driver to the server hosting this replica.
+/// Only valid if \ref replica_info_has_latency(const ReplicaInfo*) returns true.
+#[no_mangle]
+pub extern "C" fn replica_info_get_latency_micros(replica_info: *const ReplicaInfo) -> i64 {
+    borrow(replica_info).latency.map(|latency| latency.as_micros() as i64).unwrap_or(0)
+}
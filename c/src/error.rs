@@ -111,3 +111,10 @@ pub extern "C" fn error_code(error: *const Error) -> *mut c_char {
 pub extern "C" fn error_message(error: *const Error) -> *mut c_char {
     unsafe { release_string((*error).message()) }
 }
+
+/// Returns true if the <code>Error</code> closed a transaction because its commit conflicted
+/// with a concurrent transaction
+#[no_mangle]
+pub extern "C" fn error_is_isolation_conflict(error: *const Error) -> bool {
+    unsafe { (*error).is_isolation_conflict() }
+}
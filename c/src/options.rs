@@ -19,7 +19,7 @@
 
 use std::time::Duration;
 
-use typedb_driver::Options;
+use typedb_driver::{Options, RequestPriority};
 
 use super::memory::{borrow, borrow_mut, free, release};
 
@@ -114,6 +114,30 @@ pub extern "C" fn options_set_read_any_replica(options: *mut Options, read_any_r
     borrow_mut(options).read_any_replica = Some(read_any_replica);
 }
 
+/// Explicitly sets a query timeout.
+/// If set, specifies how long the driver waits for a query to complete before cancelling it,
+/// leaving the transaction open.
+#[no_mangle]
+pub extern "C" fn options_set_query_timeout_millis(options: *mut Options, timeout_millis: i64) {
+    borrow_mut(options).query_timeout = Some(Duration::from_millis(timeout_millis as u64));
+}
+
+/// Explicitly sets the request priority.
+/// If set, specifies the priority lane in which requests are dispatched to the server.
+#[no_mangle]
+pub extern "C" fn options_set_priority(options: *mut Options, priority: RequestPriority) {
+    borrow_mut(options).priority = Some(priority);
+}
+
+/// Explicitly sets the response buffer limit in bytes.
+/// If set, limits the size of the answers a transaction has received but not yet consumed.
+/// While the limit is exceeded, streamed queries holding unconsumed answers stop requesting further answers.
+/// Only settable at transaction level.
+#[no_mangle]
+pub extern "C" fn options_set_response_buffer_limit(options: *mut Options, limit: i64) {
+    borrow_mut(options).response_buffer_limit = Some(limit as usize);
+}
+
 /// Returns the value set for the inference in this <code>TypeDBOptions</code> object.
 #[no_mangle]
 pub extern "C" fn options_get_infer(options: *const Options) -> bool {
@@ -188,6 +212,28 @@ pub extern "C" fn options_get_read_any_replica(options: *const Options) -> bool
     borrow(options).read_any_replica.unwrap()
 }
 
+/// Returns the value set for the query timeout in this <code>TypeDBOptions</code> object.
+/// If set, specifies how long the driver waits for a query to complete before cancelling it,
+/// leaving the transaction open.
+#[no_mangle]
+pub extern "C" fn options_get_query_timeout_millis(options: *const Options) -> i64 {
+    borrow(options).query_timeout.unwrap().as_millis() as i64
+}
+
+/// Returns the value set for the request priority in this <code>TypeDBOptions</code> object.
+/// If set, specifies the priority lane in which requests are dispatched to the server.
+#[no_mangle]
+pub extern "C" fn options_get_priority(options: *const Options) -> RequestPriority {
+    borrow(options).priority.unwrap()
+}
+
+/// Returns the value set for the response buffer limit in this <code>TypeDBOptions</code> object.
+/// If set, limits the size of the answers a transaction has received but not yet consumed.
+#[no_mangle]
+pub extern "C" fn options_get_response_buffer_limit(options: *const Options) -> i64 {
+    borrow(options).response_buffer_limit.unwrap() as i64
+}
+
 /// Checks whether the option for inference was explicitly set for this <code>TypeDBOptions</code> object.
 #[no_mangle]
 pub extern "C" fn options_has_infer(options: *const Options) -> bool {
@@ -247,3 +293,21 @@ pub extern "C" fn options_has_schema_lock_acquire_timeout_millis(options: *const
 pub extern "C" fn options_has_read_any_replica(options: *const Options) -> bool {
     borrow(options).read_any_replica.is_some()
 }
+
+/// Checks whether the option for query timeout was explicitly set for this <code>TypeDBOptions</code> object.
+#[no_mangle]
+pub extern "C" fn options_has_query_timeout_millis(options: *const Options) -> bool {
+    borrow(options).query_timeout.is_some()
+}
+
+/// Checks whether the option for request priority was explicitly set for this <code>TypeDBOptions</code> object.
+#[no_mangle]
+pub extern "C" fn options_has_priority(options: *const Options) -> bool {
+    borrow(options).priority.is_some()
+}
+
+/// Checks whether the option for response buffer limit was explicitly set for this <code>TypeDBOptions</code> object.
+#[no_mangle]
+pub extern "C" fn options_has_response_buffer_limit(options: *const Options) -> bool {
+    borrow(options).response_buffer_limit.is_some()
+}
@@ -59,6 +59,12 @@ pub extern "C" fn session_get_database_name(session: *const Session) -> *mut c_c
     release_string(borrow(session).database_name().to_owned())
 }
 
+/// Returns the address of the server this session is currently open on.
+#[no_mangle]
+pub extern "C" fn session_get_server_address(session: *const Session) -> *mut c_char {
+    release_string(borrow(session).server_address())
+}
+
 /// Checks whether this session is open.
 #[no_mangle]
 pub extern "C" fn session_is_open(session: *const Session) -> bool {
@@ -71,26 +77,26 @@ pub extern "C" fn session_force_close(session: *mut Session) {
     unwrap_void(borrow_mut(session).force_close())
 }
 
-mod private {
+pub(crate) mod private {
     use std::{ffi::c_void, mem::ManuallyDrop};
 
     struct SendPtr(*mut c_void);
     unsafe impl Send for SendPtr {}
 
-    pub(super) struct ForeignCallback<Callback, Finished: FnOnce(*mut c_void)> {
+    pub(crate) struct ForeignCallback<Callback, Finished: FnOnce(*mut c_void)> {
         data: SendPtr,
         callback: Callback,
         finished: ManuallyDrop<Finished>,
     }
 
     impl<Callback, Finished: FnOnce(*mut c_void)> ForeignCallback<Callback, Finished> {
-        pub(super) fn new(data: *mut c_void, callback: Callback, finished: Finished) -> Self {
+        pub(crate) fn new(data: *mut c_void, callback: Callback, finished: Finished) -> Self {
             Self { data: SendPtr(data), callback, finished: ManuallyDrop::new(finished) }
         }
     }
 
     impl<Callback: FnMut(*mut c_void), Finished: FnOnce(*mut c_void)> ForeignCallback<Callback, Finished> {
-        pub(super) fn call(&mut self) {
+        pub(crate) fn call(&mut self) {
             (self.callback)(self.data.0)
         }
     }
@@ -17,7 +17,7 @@
  * under the License.
  */
 
-use typedb_driver::{Error, Options, Session, Transaction, TransactionType};
+use typedb_driver::{Error, Options, RequestPriority, Session, Transaction, TransactionStats, TransactionType};
 
 use super::{
     error::try_release,
@@ -70,6 +70,115 @@ pub extern "C" fn transaction_is_open(txn: *const Transaction<'static>) -> bool
     borrow(txn).is_open()
 }
 
+/// Returns the number of requests this transaction has sent to the server from the given priority lane.
+#[no_mangle]
+pub extern "C" fn transaction_get_queue_delay_requests(
+    txn: *const Transaction<'static>,
+    priority: RequestPriority,
+) -> i64 {
+    borrow(txn).queue_delay(priority).requests as i64
+}
+
+/// Returns the total time, in microseconds, that the requests sent from the given priority lane spent queued
+/// before being sent to the server.
+#[no_mangle]
+pub extern "C" fn transaction_get_queue_delay_total_micros(
+    txn: *const Transaction<'static>,
+    priority: RequestPriority,
+) -> i64 {
+    borrow(txn).queue_delay(priority).total.as_micros() as i64
+}
+
+/// Returns the longest time, in microseconds, that any request sent from the given priority lane spent queued
+/// before being sent to the server.
+#[no_mangle]
+pub extern "C" fn transaction_get_queue_delay_max_micros(
+    txn: *const Transaction<'static>,
+    priority: RequestPriority,
+) -> i64 {
+    borrow(txn).queue_delay(priority).max.as_micros() as i64
+}
+
+/// Returns the size, in bytes, of the answers this transaction has received from the server but not yet consumed.
+#[no_mangle]
+pub extern "C" fn transaction_get_response_buffered_bytes(txn: *const Transaction<'static>) -> i64 {
+    borrow(txn).response_buffer().buffered_bytes as i64
+}
+
+/// Returns the peak size, in bytes, of the answers this transaction had received but not yet consumed.
+#[no_mangle]
+pub extern "C" fn transaction_get_response_buffer_peak_bytes(txn: *const Transaction<'static>) -> i64 {
+    borrow(txn).response_buffer().peak_bytes as i64
+}
+
+/// Returns the number of times this transaction's streams stopped requesting further answers
+/// because the response buffer limit was exceeded.
+#[no_mangle]
+pub extern "C" fn transaction_get_response_buffer_paused(txn: *const Transaction<'static>) -> i64 {
+    borrow(txn).response_buffer().paused_continuations as i64
+}
+
+/// Retrieves a snapshot of the execution statistics of this transaction.
+#[no_mangle]
+pub extern "C" fn transaction_get_stats(txn: *const Transaction<'static>) -> *mut TransactionStats {
+    release(borrow(txn).stats())
+}
+
+/// Frees the native rust <code>TransactionStats</code> object.
+#[no_mangle]
+pub extern "C" fn transaction_stats_drop(stats: *mut TransactionStats) {
+    free(stats);
+}
+
+/// Returns the number of requests the transaction sent to the server,
+/// including requests for further answers of streamed queries.
+#[no_mangle]
+pub extern "C" fn transaction_stats_get_round_trips(stats: *const TransactionStats) -> i64 {
+    borrow(stats).round_trips as i64
+}
+
+/// Returns the number of network messages the transaction's requests were batched into.
+#[no_mangle]
+pub extern "C" fn transaction_stats_get_dispatches(stats: *const TransactionStats) -> i64 {
+    borrow(stats).dispatches as i64
+}
+
+/// Returns the number of bytes the transaction sent to the server.
+#[no_mangle]
+pub extern "C" fn transaction_stats_get_bytes_sent(stats: *const TransactionStats) -> i64 {
+    borrow(stats).bytes_sent as i64
+}
+
+/// Returns the number of bytes the transaction received from the server.
+#[no_mangle]
+pub extern "C" fn transaction_stats_get_bytes_received(stats: *const TransactionStats) -> i64 {
+    borrow(stats).bytes_received as i64
+}
+
+/// Returns the number of queries the transaction sent to the server.
+#[no_mangle]
+pub extern "C" fn transaction_stats_get_queries(stats: *const TransactionStats) -> i64 {
+    borrow(stats).queries as i64
+}
+
+/// Returns the number of query answers the transaction received from the server.
+#[no_mangle]
+pub extern "C" fn transaction_stats_get_answers(stats: *const TransactionStats) -> i64 {
+    borrow(stats).answers as i64
+}
+
+/// Returns the number of single-response requests of the transaction whose promises have been resolved.
+#[no_mangle]
+pub extern "C" fn transaction_stats_get_promises_resolved(stats: *const TransactionStats) -> i64 {
+    borrow(stats).promises_resolved as i64
+}
+
+/// Returns the total time, in microseconds, spent blocked waiting for responses to the transaction's requests.
+#[no_mangle]
+pub extern "C" fn transaction_stats_get_native_wait_micros(stats: *const TransactionStats) -> i64 {
+    borrow(stats).native_wait.as_micros() as i64
+}
+
 /// Registers a callback function which will be executed when this transaction is closed.
 ///
 /// @param txn The transaction on which to register the callback
@@ -60,8 +60,10 @@ struct Type {};
 #define database_drop database_close
 
 %dropproxy(Connection, connection)
+%dropproxy(CompressionStats, compression_stats)
 %dropproxy(Session, session)
 %dropproxy(Transaction, transaction)
+%dropproxy(TransactionStats, transaction_stats)
 
 %dropproxy(DatabaseManager, database_manager);
 %dropproxy(Database, database)
@@ -81,6 +83,9 @@ struct Type {};
 %dropproxy(RolePlayer, role_player)
 %dropproxy(RolePlayerIterator, role_player_iterator)
 
+%dropproxy(OptionalConcept, optional_concept)
+%dropproxy(OptionalConceptIterator, optional_concept_iterator)
+
 %dropproxy(ConceptMap, concept_map)
 %dropproxy(ConceptMapIterator, concept_map_iterator)
 %dropproxy(Explainables, explainables)
@@ -159,6 +164,8 @@ static void session_callback_erase(void* ID) {
 %ignore session_on_close;
 %rename(session_on_reopen) session_on_reopen_register;
 %ignore session_on_reopen;
+%rename(database_on_topology_change) database_on_topology_change_register;
+%ignore database_on_topology_change;
 %inline %{
 void session_on_close_register(const Session* session, SessionCallbackDirector* handler) {
     std::uintptr_t ID = session_callback_register(handler);
@@ -169,6 +176,11 @@ void session_on_reopen_register(const Session* session, SessionCallbackDirector*
     std::uintptr_t ID = session_callback_register(handler);
     session_on_reopen(session, reinterpret_cast<void*>(ID), &session_callback_execute, &session_callback_erase);
 }
+
+void database_on_topology_change_register(const Database* database, SessionCallbackDirector* handler) {
+    std::uintptr_t ID = session_callback_register(handler);
+    database_on_topology_change(database, reinterpret_cast<void*>(ID), &session_callback_execute, &session_callback_erase);
+}
 %}
 
 %feature("director") TransactionCallbackDirector;
@@ -272,10 +284,17 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 %newobject concepts_get_entity;
 %newobject concepts_get_relation;
 %newobject concepts_get_attribute;
+%newobject concepts_get_things;
+%newobject concepts_get_entities;
+%newobject concepts_get_relations;
+%newobject concepts_get_attributes;
 %newobject concepts_get_schema_exceptions;
 
 %newobject concept_iterator_next;
 
+%newobject optional_concept_iterator_next;
+%newobject optional_concept_get;
+
 %newobject role_player_iterator_next;
 
 %newobject role_player_get_role_type;
@@ -403,6 +422,7 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 
 %newobject session_new;
 %newobject session_get_database_name;
+%newobject session_get_server_address;
 
 %newobject transaction_new;
 
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.api;
+
+import javax.annotation.CheckReturnValue;
+
+import static com.vaticle.typedb.driver.jni.typedb_driver.compression_stats_get_message_bytes_received;
+import static com.vaticle.typedb.driver.jni.typedb_driver.compression_stats_get_message_bytes_sent;
+import static com.vaticle.typedb.driver.jni.typedb_driver.compression_stats_get_wire_bytes_received;
+import static com.vaticle.typedb.driver.jni.typedb_driver.compression_stats_get_wire_bytes_sent;
+
+/**
+ * A snapshot of the sizes of the messages a driver has exchanged with the server(s), both before compression
+ * and as transferred, from which the achieved compression ratios can be read.
+ * Both sizes include the 5-byte gRPC message prefix, so a driver without compression reports ratios of 1.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * CompressionStats stats = driver.compressionStats();
+ * stats.sentRatio();
+ * </pre>
+ */
+public final class CompressionStats {
+    private final long messageBytesSent;
+    private final long wireBytesSent;
+    private final long messageBytesReceived;
+    private final long wireBytesReceived;
+
+    /**
+     * @hidden
+     */
+    public CompressionStats(com.vaticle.typedb.driver.jni.CompressionStats nativeStats) {
+        this.messageBytesSent = compression_stats_get_message_bytes_sent(nativeStats);
+        this.wireBytesSent = compression_stats_get_wire_bytes_sent(nativeStats);
+        this.messageBytesReceived = compression_stats_get_message_bytes_received(nativeStats);
+        this.wireBytesReceived = compression_stats_get_wire_bytes_received(nativeStats);
+    }
+
+    /**
+     * Returns the size, in bytes, of the messages sent, before compression.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.messageBytesSent();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long messageBytesSent() {
+        return messageBytesSent;
+    }
+
+    /**
+     * Returns the number of bytes sent, after compression.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.wireBytesSent();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long wireBytesSent() {
+        return wireBytesSent;
+    }
+
+    /**
+     * Returns the size, in bytes, of the messages received, after decompression.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.messageBytesReceived();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long messageBytesReceived() {
+        return messageBytesReceived;
+    }
+
+    /**
+     * Returns the number of bytes received, before decompression.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.wireBytesReceived();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long wireBytesReceived() {
+        return wireBytesReceived;
+    }
+
+    /**
+     * Returns the ratio of bytes sent to the size of the messages sent: 1 without compression,
+     * and smaller the better requests compress.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.sentRatio();
+     * </pre>
+     */
+    @CheckReturnValue
+    public double sentRatio() {
+        return messageBytesSent == 0 ? 1 : (double) wireBytesSent / messageBytesSent;
+    }
+
+    /**
+     * Returns the ratio of bytes received to the size of the messages received: 1 without compression,
+     * and smaller the better responses compress.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.receivedRatio();
+     * </pre>
+     */
+    @CheckReturnValue
+    public double receivedRatio() {
+        return messageBytesReceived == 0 ? 1 : (double) wireBytesReceived / messageBytesReceived;
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionStats{messageBytesSent=" + messageBytesSent + ", wireBytesSent=" + wireBytesSent +
+                ", messageBytesReceived=" + messageBytesReceived + ", wireBytesReceived=" + wireBytesReceived + "}";
+    }
+}
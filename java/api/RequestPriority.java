@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.driver.api;
+
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
+
+/**
+ * The priority lane in which the driver dispatches a transaction's requests to the server.
+ * Requests are sent in the order they are issued, except that requests for further answers of batch reads
+ * may be sent after interactive requests issued later, by weighted round-robin, so they are delayed but never starved.
+ * Writes, commits and rollbacks are only sent after every request issued before them.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * new TypeDBOptions().priority(RequestPriority.BATCH);
+ * </pre>
+ */
+public enum RequestPriority {
+    /**
+     * Latency-sensitive requests, which further answers of batch reads do not delay.
+     */
+    INTERACTIVE(0, com.vaticle.typedb.driver.jni.RequestPriority.Interactive),
+    /**
+     * Throughput-oriented requests, such as bulk loads and exports.
+     */
+    BATCH(1, com.vaticle.typedb.driver.jni.RequestPriority.Batch);
+
+    private final int id;
+    public final com.vaticle.typedb.driver.jni.RequestPriority nativeObject;
+
+    RequestPriority(int id, com.vaticle.typedb.driver.jni.RequestPriority nativeObject) {
+        this.id = id;
+        this.nativeObject = nativeObject;
+    }
+
+    @CheckReturnValue
+    public static RequestPriority of(com.vaticle.typedb.driver.jni.RequestPriority nativeObject) {
+        for (RequestPriority priority : values()) {
+            if (priority.nativeObject == nativeObject) return priority;
+        }
+        throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+    }
+
+    public int id() {
+        return id;
+    }
+}
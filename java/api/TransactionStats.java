@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.driver.api;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_stats_get_answers;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_stats_get_bytes_received;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_stats_get_bytes_sent;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_stats_get_dispatches;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_stats_get_native_wait_micros;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_stats_get_promises_resolved;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_stats_get_queries;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_stats_get_round_trips;
+
+/**
+ * A snapshot of the execution statistics of a transaction, as counted by the driver since the transaction was opened.
+ * Byte counts are those of the encoded messages exchanged with the server. The statistics of a committed transaction
+ * are taken just before the commit, so they do not count the commit request; its cost is given by
+ * <code>commitLatency()</code>.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * TransactionStats stats = transaction.stats();
+ * stats.roundTrips();
+ * </pre>
+ */
+public final class TransactionStats {
+    private final long roundTrips;
+    private final long dispatches;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final long queries;
+    private final long answers;
+    private final long promisesResolved;
+    private final Duration nativeWait;
+    private final @Nullable Duration commitLatency;
+
+    /**
+     * @hidden
+     */
+    public TransactionStats(com.vaticle.typedb.driver.jni.TransactionStats nativeStats, @Nullable Duration commitLatency) {
+        this.roundTrips = transaction_stats_get_round_trips(nativeStats);
+        this.dispatches = transaction_stats_get_dispatches(nativeStats);
+        this.bytesSent = transaction_stats_get_bytes_sent(nativeStats);
+        this.bytesReceived = transaction_stats_get_bytes_received(nativeStats);
+        this.queries = transaction_stats_get_queries(nativeStats);
+        this.answers = transaction_stats_get_answers(nativeStats);
+        this.promisesResolved = transaction_stats_get_promises_resolved(nativeStats);
+        this.nativeWait = Duration.of(transaction_stats_get_native_wait_micros(nativeStats), ChronoUnit.MICROS);
+        this.commitLatency = commitLatency;
+    }
+
+    /**
+     * Returns the number of requests sent to the server, including requests for further answers of streamed queries.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.roundTrips();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long roundTrips() {
+        return roundTrips;
+    }
+
+    /**
+     * Returns the number of network messages the requests were batched into.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.dispatches();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long dispatches() {
+        return dispatches;
+    }
+
+    /**
+     * Returns the mean number of requests batched into each network message.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.requestsPerDispatch();
+     * </pre>
+     */
+    @CheckReturnValue
+    public double requestsPerDispatch() {
+        return dispatches == 0 ? 0 : (double) roundTrips / dispatches;
+    }
+
+    /**
+     * Returns the number of bytes sent to the server.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.bytesSent();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long bytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Returns the number of bytes received from the server.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.bytesReceived();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long bytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Returns the number of queries sent to the server.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.queries();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long queries() {
+        return queries;
+    }
+
+    /**
+     * Returns the number of query answers received from the server, including answers not yet consumed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.answers();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long answers() {
+        return answers;
+    }
+
+    /**
+     * Returns the mean number of answers received per query.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.answersPerQuery();
+     * </pre>
+     */
+    @CheckReturnValue
+    public double answersPerQuery() {
+        return queries == 0 ? 0 : (double) answers / queries;
+    }
+
+    /**
+     * Returns the number of promises resolved, such as those of <code>define</code>, <code>delete</code>
+     * and concept API queries.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.promisesResolved();
+     * </pre>
+     */
+    @CheckReturnValue
+    public long promisesResolved() {
+        return promisesResolved;
+    }
+
+    /**
+     * Returns the total time spent blocked in the native library waiting for responses from the server,
+     * while resolving promises and iterating over answers.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.nativeWait();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Duration nativeWait() {
+        return nativeWait;
+    }
+
+    /**
+     * Returns the time from requesting the commit until the server acknowledged it,
+     * if the transaction has been committed successfully.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * stats.commitLatency();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<Duration> commitLatency() {
+        return Optional.ofNullable(commitLatency);
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionStats{roundTrips=" + roundTrips + ", dispatches=" + dispatches + ", bytesSent=" + bytesSent +
+                ", bytesReceived=" + bytesReceived + ", queries=" + queries + ", answers=" + answers +
+                ", promisesResolved=" + promisesResolved + ", nativeWait=" + nativeWait +
+                ", commitLatency=" + commitLatency + "}";
+    }
+}
@@ -20,10 +20,21 @@
 package com.vaticle.typedb.driver.api;
 
 import com.vaticle.typedb.driver.api.database.DatabaseManager;
+import com.vaticle.typedb.driver.api.database.ReplicaSelector;
+import com.vaticle.typedb.driver.api.query.QuerySpec;
 import com.vaticle.typedb.driver.api.user.User;
 import com.vaticle.typedb.driver.api.user.UserManager;
+import com.vaticle.typedb.driver.common.admission.AdmissionControl;
+import com.vaticle.typedb.driver.common.metrics.DriverMetrics;
+import com.vaticle.typedb.driver.common.metrics.SlowQueryLog;
+import com.vaticle.typedb.driver.common.tracing.DriverTracer;
 
 import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface TypeDBDriver extends AutoCloseable {
 
@@ -68,6 +79,234 @@ public interface TypeDBDriver extends AutoCloseable {
     @CheckReturnValue
     TypeDBSession session(String database, TypeDBSession.Type type, TypeDBOptions options);
 
+    /**
+     * Runs independent read queries concurrently with default parallelism and no overall deadline.
+     *
+     * @see TypeDBDriver#fanOut(String, List, int, Duration)
+     */
+    @CheckReturnValue
+    <T> List<CompletableFuture<T>> fanOut(String database, List<? extends QuerySpec<? extends T>> queries);
+
+    /**
+     * Runs independent read queries concurrently over a bounded set of read transactions, opened in a single
+     * data session to the given database. Returns one future per query, in the order of the given queries.
+     * A query that exceeds its own timeout is cancelled and completes exceptionally with the driver's query timeout
+     * error. A query not yet finished at the overall deadline completes exceptionally with a
+     * <code>TimeoutException</code>; if it is already running, it is left to finish or reach its own timeout.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.fanOut(database, List.of(QuerySpec.get(query1), QuerySpec.getAggregate(query2)), 4, Duration.ofSeconds(10));
+     * </pre>
+     *
+     * @param database The name of the database to query
+     * @param queries The queries to run
+     * @param parallelism The maximum number of read transactions running queries at once
+     * @param deadline The overall time limit for all queries, or <code>null</code> for none
+     */
+    @CheckReturnValue
+    <T> List<CompletableFuture<T>> fanOut(String database, List<? extends QuerySpec<? extends T>> queries, int parallelism, @Nullable Duration deadline);
+
+    /**
+     * Sets the strategy used by operations that may run on any replica to choose the replica to try first.
+     * Only affects TypeDB Cloud.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.replicaSelector(ReplicaSelector.LEAST_OUTSTANDING);
+     * </pre>
+     *
+     * @param selector The replica selection strategy
+     */
+    void replicaSelector(ReplicaSelector selector);
+
+    /**
+     * Returns the strategy used by operations that may run on any replica to choose the replica to try first.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.replicaSelector();
+     * </pre>
+     */
+    @CheckReturnValue
+    ReplicaSelector replicaSelector();
+
+    /**
+     * Enables hedging when opening data sessions with <code>readAnyReplica</code> enabled. If the first replica
+     * chosen has not responded within the given percentile of its recent request latencies, the session is also
+     * opened on the next replica; whichever opens first is used, and the other is closed. All transactions and
+     * queries in the session then run against the replica that won. Only affects TypeDB Cloud.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.hedgeReads(0.95, Duration.ofMillis(50));
+     * </pre>
+     *
+     * @param percentile The percentile (between 0 and 1) of recent request latencies used as the hedge delay
+     * @param fallbackDelay The hedge delay used while no latencies to the replica have been measured yet
+     */
+    void hedgeReads(double percentile, Duration fallbackDelay);
+
+    /**
+     * Disables hedging when opening data sessions. Hedging is disabled by default.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.disableHedging();
+     * </pre>
+     */
+    void disableHedging();
+
+    /**
+     * Limits the total size of the answers that all transactions opened through this driver have received from
+     * the server but not yet consumed. While the limit is exceeded, streamed queries holding unconsumed answers
+     * stop requesting further answers from the server until their consumers catch up. Each transaction may also be limited individually with
+     * <code>TypeDBOptions.responseBufferLimit</code>. Answers already requested are never dropped, so the limit may be
+     * exceeded by up to one batch of answers per stream. There is no limit by default.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.responseBufferLimit(64 * 1024 * 1024);
+     * </pre>
+     *
+     * @param limitBytes The limit in bytes
+     */
+    void responseBufferLimit(long limitBytes);
+
+    /**
+     * Removes the limit on the total size of the answers buffered by this driver's transactions.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.removeResponseBufferLimit();
+     * </pre>
+     */
+    void removeResponseBufferLimit();
+
+    /**
+     * Returns the total size, in bytes, of the answers that all transactions opened through this driver
+     * have received from the server but not yet consumed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.responseBufferedBytes();
+     * </pre>
+     */
+    @CheckReturnValue
+    long responseBufferedBytes();
+
+    /**
+     * Returns the sizes of the messages this driver has exchanged with the server(s), before compression
+     * and as transferred, from which the compression ratio achieved in each direction can be read.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.compressionStats().sentRatio();
+     * </pre>
+     */
+    @CheckReturnValue
+    CompressionStats compressionStats();
+
+    /**
+     * Registers the <code>DriverMetrics</code> to record sessions, transactions and queries to.
+     * Only sessions opened after registration report to it, so it should be registered before opening sessions.
+     * Passing <code>null</code> restores the default, which records nothing.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.metrics(new InMemoryDriverMetrics());
+     * </pre>
+     *
+     * @param metrics The metrics to record to
+     */
+    void metrics(DriverMetrics metrics);
+
+    /**
+     * Returns the <code>DriverMetrics</code> that newly opened sessions record to.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.metrics();
+     * </pre>
+     */
+    @CheckReturnValue
+    DriverMetrics metrics();
+
+    /**
+     * Registers the <code>DriverTracer</code> to start spans with around opening sessions and transactions,
+     * each query and each commit. Only sessions opened after registration are traced.
+     * Passing <code>null</code> restores the default, which traces nothing.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.tracer(new InMemorySpanExporter());
+     * </pre>
+     *
+     * @param tracer The tracer to start spans with
+     */
+    void tracer(DriverTracer tracer);
+
+    /**
+     * Returns the <code>DriverTracer</code> that newly opened sessions start spans with.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.tracer();
+     * </pre>
+     */
+    @CheckReturnValue
+    DriverTracer tracer();
+
+    /**
+     * Registers the <code>SlowQueryLog</code> to check queries and commits against.
+     * Only sessions opened after registration report to it. Passing <code>null</code> disables slow query logging,
+     * which is the default.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.slowQueryLog(new SlowQueryLog().streamThreshold(Duration.ofSeconds(1)));
+     * </pre>
+     *
+     * @param slowQueryLog The slow query log to report to
+     */
+    void slowQueryLog(@Nullable SlowQueryLog slowQueryLog);
+
+    /**
+     * Returns the <code>SlowQueryLog</code> that newly opened sessions report to, if any.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.slowQueryLog();
+     * </pre>
+     */
+    @CheckReturnValue
+    Optional<SlowQueryLog> slowQueryLog();
+
+    /**
+     * Registers the <code>AdmissionControl</code> that limits the sessions, transactions and in-flight queries
+     * open at once. Only sessions opened after registration, and their transactions and queries, are subject to it.
+     * Passing <code>null</code> disables admission control, which is the default.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.admissionControl(new AdmissionControl().maxTransactions(64).maxWait(Duration.ofSeconds(5)));
+     * </pre>
+     *
+     * @param admissionControl The admission control to admit operations with
+     */
+    void admissionControl(@Nullable AdmissionControl admissionControl);
+
+    /**
+     * Returns the <code>AdmissionControl</code> that newly opened sessions are admitted by, if any.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driver.admissionControl();
+     * </pre>
+     */
+    @CheckReturnValue
+    Optional<AdmissionControl> admissionControl();
+
     /**
      * Closes the driver. Before instantiating a new driver, the driver that’s currently open should first be closed.
      *
@@ -31,6 +31,9 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_infer;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_parallel;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_prefetch;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_prefetch_size;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_priority;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_response_buffer_limit;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_query_timeout_millis;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_read_any_replica;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_schema_lock_acquire_timeout_millis;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_get_session_idle_timeout_millis;
@@ -41,6 +44,9 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_infer;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_parallel;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_prefetch;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_prefetch_size;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_priority;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_response_buffer_limit;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_query_timeout_millis;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_read_any_replica;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_schema_lock_acquire_timeout_millis;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_has_session_idle_timeout_millis;
@@ -52,6 +58,9 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_infer;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_parallel;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_prefetch;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_prefetch_size;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_priority;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_response_buffer_limit;
+import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_query_timeout_millis;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_read_any_replica;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_schema_lock_acquire_timeout_millis;
 import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_session_idle_timeout_millis;
@@ -63,6 +72,8 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.options_set_transactio
  * the default server behaviour.
  */
 public class TypeDBOptions extends NativeObject<com.vaticle.typedb.driver.jni.Options> {
+    private Integer identityMapCapacity = null;
+
     /**
      * Produces a new <code>TypeDBOptions</code> object.
      *
@@ -411,4 +422,151 @@ public class TypeDBOptions extends NativeObject<com.vaticle.typedb.driver.jni.Op
         options_set_read_any_replica(nativeObject, readAnyReplica);
         return this;
     }
+
+    /**
+     * Returns the value set for the query timeout in this <code>TypeDBOptions</code> object.
+     * If set, specifies how long the driver waits for a query to complete before cancelling it.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.queryTimeoutMillis();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<Integer> queryTimeoutMillis() {
+        if (options_has_query_timeout_millis(nativeObject))
+            return Optional.of((int) options_get_query_timeout_millis(nativeObject));
+        return Optional.empty();
+    }
+
+    /**
+     * Explicitly sets a query timeout.
+     * If set, specifies how long the driver waits for a query to complete, including receiving all its answers,
+     * before cancelling it. A query that times out fails with an error while its transaction remains open,
+     * and any answers still arriving for it are discarded. When set on a transaction, applies to every query
+     * in the transaction without its own timeout. Client-side only.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.queryTimeoutMillis(queryTimeoutMillis);
+     * </pre>
+     *
+     * @param queryTimeoutMillis Timeout for cancelling queries
+     */
+    public TypeDBOptions queryTimeoutMillis(int queryTimeoutMillis) {
+        if (queryTimeoutMillis < 1) {
+            throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, queryTimeoutMillis);
+        }
+        options_set_query_timeout_millis(nativeObject, queryTimeoutMillis);
+        return this;
+    }
+
+    /**
+     * Returns the request priority set in this <code>TypeDBOptions</code> object.
+     * If set, specifies the priority lane in which the driver dispatches requests to the server.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.priority();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<RequestPriority> priority() {
+        if (options_has_priority(nativeObject)) return Optional.of(RequestPriority.of(options_get_priority(nativeObject)));
+        return Optional.empty();
+    }
+
+    /**
+     * Explicitly sets the request priority.
+     * If set, specifies the priority lane in which the driver dispatches requests to the server. Requests for
+     * further answers of batch reads may be sent after requests issued later, without being starved; all other
+     * requests, and in particular writes and commits, are sent in the order they are issued. When set on a transaction, applies to every query in the transaction without its own priority,
+     * including the requests for further answers of its streamed queries. Client-side only.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.priority(RequestPriority.BATCH);
+     * </pre>
+     *
+     * @param priority The priority lane for dispatching requests
+     */
+    public TypeDBOptions priority(RequestPriority priority) {
+        options_set_priority(nativeObject, priority.nativeObject);
+        return this;
+    }
+
+    /**
+     * Returns the response buffer limit set in this <code>TypeDBOptions</code> object.
+     * If set, limits the size in bytes of the answers the transaction has received but not yet consumed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.responseBufferLimit();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<Long> responseBufferLimit() {
+        if (options_has_response_buffer_limit(nativeObject))
+            return Optional.of(options_get_response_buffer_limit(nativeObject));
+        return Optional.empty();
+    }
+
+    /**
+     * Explicitly sets a response buffer limit.
+     * If set, limits the size in bytes of the answers the transaction has received from the server but not yet
+     * consumed. While the limit is exceeded, streamed queries holding unconsumed answers stop requesting further
+     * answers until their consumers catch up; answers already requested are never dropped, so the limit may be exceeded by up to one batch of
+     * answers per stream. Only settable at transaction level. Client-side only.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.responseBufferLimit(16 * 1024 * 1024);
+     * </pre>
+     *
+     * @param limitBytes The limit in bytes
+     */
+    public TypeDBOptions responseBufferLimit(long limitBytes) {
+        if (limitBytes < 1) {
+            throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, limitBytes);
+        }
+        options_set_response_buffer_limit(nativeObject, limitBytes);
+        return this;
+    }
+
+    /**
+     * Returns the capacity set for the transaction's <code>Thing</code> identity map in this
+     * <code>TypeDBOptions</code> object. If set, every <code>Thing</code> retrieved within the transaction
+     * is canonicalised by its iid, so repeated retrievals of the same iid yield the same instance.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.identityMapCapacity();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<Integer> identityMapCapacity() {
+        return Optional.ofNullable(identityMapCapacity);
+    }
+
+    /**
+     * Enables the transaction's <code>Thing</code> identity map, bounded to the given number of entries.
+     * If set, every <code>Thing</code> retrieved within the transaction is canonicalised by its iid, so repeated
+     * retrievals of the same iid yield the same instance. The least recently used entries are evicted
+     * once the map is full, and the map is released when the transaction is closed.
+     * Only settable at transaction level. Client-side only.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.identityMapCapacity(identityMapCapacity);
+     * </pre>
+     *
+     * @param identityMapCapacity Maximum number of <code>Thing</code>s held by the identity map
+     */
+    public TypeDBOptions identityMapCapacity(int identityMapCapacity) {
+        if (identityMapCapacity < 1) {
+            throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, identityMapCapacity);
+        }
+        this.identityMapCapacity = identityMapCapacity;
+        return this;
+    }
 }
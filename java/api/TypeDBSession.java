@@ -19,7 +19,10 @@
 
 package com.vaticle.typedb.driver.api;
 
+import com.vaticle.typedb.driver.api.query.QueryCursor;
+
 import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
 
 public interface TypeDBSession extends AutoCloseable {
 
@@ -79,6 +82,33 @@ public interface TypeDBSession extends AutoCloseable {
     @CheckReturnValue
     TypeDBTransaction transaction(TypeDBTransaction.Type type, TypeDBOptions options);
 
+    /**
+     * Opens a cursor over the answers of a TypeQL Get query from the beginning.
+     *
+     * @see TypeDBSession#cursor(String, String, int, String)
+     */
+    @CheckReturnValue
+    QueryCursor cursor(String query, String keyVariable, int pageSize);
+
+    /**
+     * Opens a resumable cursor over the answers of a TypeQL Get query. Answers are retrieved in pages
+     * of at most <code>pageSize</code>, in ascending order of the key variable. Each page is read in a new
+     * read transaction, restricted to keys greater than the last key returned. The key variable must be
+     * bound to an attribute or value that is unique among the answers.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * session.cursor("match $p isa person, has email $k; get $p, $k;", "k", 1000, resumeToken);
+     * </pre>
+     *
+     * @param query The TypeQL Get query, without sort, offset or limit modifiers
+     * @param keyVariable The name of the variable to paginate by, without the <code>$</code> prefix
+     * @param pageSize The maximum number of answers to retrieve per transaction
+     * @param resumeToken A token returned by <code>QueryCursor.resumeToken()</code>, or <code>null</code> to start from the beginning
+     */
+    @CheckReturnValue
+    QueryCursor cursor(String query, String keyVariable, int pageSize, @Nullable String resumeToken);
+
     /**
      * Registers a callback function which will be executed when this session is closed.
      *
@@ -68,6 +68,21 @@ public interface TypeDBTransaction extends AutoCloseable {
     @CheckReturnValue
     QueryManager query();
 
+    /**
+     * Retrieves a snapshot of the execution statistics of this transaction: the requests it sent and how they were
+     * batched, the bytes exchanged with the server, the answers received, the promises resolved and the time spent
+     * waiting for responses. Once the transaction is closed, returns the statistics as of closing it; once committed,
+     * the statistics as of just before the commit, which exclude the commit request and its response, along with
+     * the commit latency.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.stats();
+     * </pre>
+     */
+    @CheckReturnValue
+    TransactionStats stats();
+
     /**
      * Registers a callback function which will be executed when this transaction is closed.
      *
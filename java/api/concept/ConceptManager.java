@@ -22,14 +22,21 @@ package com.vaticle.typedb.driver.api.concept;
 import com.vaticle.typedb.driver.api.concept.thing.Attribute;
 import com.vaticle.typedb.driver.api.concept.thing.Entity;
 import com.vaticle.typedb.driver.api.concept.thing.Relation;
+import com.vaticle.typedb.driver.api.concept.thing.Thing;
 import com.vaticle.typedb.driver.api.concept.type.AttributeType;
 import com.vaticle.typedb.driver.api.concept.type.EntityType;
 import com.vaticle.typedb.driver.api.concept.type.RelationType;
+import com.vaticle.typedb.driver.api.concept.type.RoleType;
 import com.vaticle.typedb.driver.api.concept.value.Value;
+import com.vaticle.typedb.driver.common.IID;
 import com.vaticle.typedb.driver.common.Promise;
 import com.vaticle.typedb.driver.common.exception.TypeDBException;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
 
@@ -165,6 +172,19 @@ public interface ConceptManager {
     @CheckReturnValue
     Promise<? extends Entity> getEntity(String iid);
 
+    /**
+     * Retrieves an <code>Entity</code> by its compact iid.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.concepts().getEntity(iid).resolve();
+     * </pre>
+     *
+     * @param iid The iid of the <code>Entity</code> to retrieve
+     */
+    @CheckReturnValue
+    Promise<? extends Entity> getEntity(IID iid);
+
     /**
      * Retrieves a <code>Relation</code> by its iid.
      *
@@ -178,6 +198,19 @@ public interface ConceptManager {
     @CheckReturnValue
     Promise<? extends Relation> getRelation(String iid);
 
+    /**
+     * Retrieves a <code>Relation</code> by its compact iid.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.concepts().getRelation(iid).resolve();
+     * </pre>
+     *
+     * @param iid The iid of the <code>Relation</code> to retrieve
+     */
+    @CheckReturnValue
+    Promise<? extends Relation> getRelation(IID iid);
+
     /**
      * Retrieves an <code>Attribute</code> by its iid.
      *
@@ -191,6 +224,110 @@ public interface ConceptManager {
     @CheckReturnValue
     Promise<? extends Attribute> getAttribute(String iid);
 
+    /**
+     * Retrieves an <code>Attribute</code> by its compact iid.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.concepts().getAttribute(iid).resolve();
+     * </pre>
+     *
+     * @param iid The iid of the <code>Attribute</code> to retrieve
+     */
+    @CheckReturnValue
+    Promise<? extends Attribute> getAttribute(IID iid);
+
+    /**
+     * Retrieves a <code>Thing</code> for each of the given iids in a single batched request.
+     * Results are streamed in the order of the given iids, with an empty <code>Optional</code>
+     * for each iid that does not identify a <code>Thing</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.concepts().getThings(iids);
+     * </pre>
+     *
+     * @param iids The iids of the <code>Thing</code> instances to retrieve
+     */
+    @CheckReturnValue
+    Stream<Optional<Thing>> getThings(Collection<String> iids);
+
+    /**
+     * Retrieves an <code>Entity</code> for each of the given iids in a single batched request.
+     * Results are streamed in the order of the given iids, with an empty <code>Optional</code>
+     * for each iid that does not identify an <code>Entity</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.concepts().getEntities(iids);
+     * </pre>
+     *
+     * @param iids The iids of the <code>Entity</code> instances to retrieve
+     */
+    @CheckReturnValue
+    Stream<Optional<Entity>> getEntities(Collection<String> iids);
+
+    /**
+     * Retrieves a <code>Relation</code> for each of the given iids in a single batched request.
+     * Results are streamed in the order of the given iids, with an empty <code>Optional</code>
+     * for each iid that does not identify a <code>Relation</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.concepts().getRelations(iids);
+     * </pre>
+     *
+     * @param iids The iids of the <code>Relation</code> instances to retrieve
+     */
+    @CheckReturnValue
+    Stream<Optional<Relation>> getRelations(Collection<String> iids);
+
+    /**
+     * Retrieves an <code>Attribute</code> for each of the given iids in a single batched request.
+     * Results are streamed in the order of the given iids, with an empty <code>Optional</code>
+     * for each iid that does not identify an <code>Attribute</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.concepts().getAttributes(iids);
+     * </pre>
+     *
+     * @param iids The iids of the <code>Attribute</code> instances to retrieve
+     */
+    @CheckReturnValue
+    Stream<Optional<Attribute>> getAttributes(Collection<String> iids);
+
+    /**
+     * Retrieves the <code>Attribute</code>s owned by each of the given <code>Thing</code>s.
+     * The requests for all <code>Thing</code>s are sent before any results are read, so the whole
+     * neighbourhood is retrieved in a single pipelined operation.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.concepts().getHas(things, attributeTypes);
+     * </pre>
+     *
+     * @param things The <code>Thing</code>s whose attributes to retrieve
+     * @param attributeTypes The <code>AttributeType</code>s to filter the attributes by
+     */
+    @CheckReturnValue
+    Map<Thing, List<Attribute>> getHas(Collection<? extends Thing> things, AttributeType... attributeTypes);
+
+    /**
+     * Retrieves the role players of each of the given <code>Relation</code>s, grouped by the role they play.
+     * The requests for all <code>Relation</code>s are sent before any results are read, and each role type
+     * is represented by a single <code>RoleType</code> instance across the whole result.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.concepts().getPlayers(relations);
+     * </pre>
+     *
+     * @param relations The <code>Relation</code>s whose role players to retrieve
+     */
+    @CheckReturnValue
+    Map<Relation, Map<RoleType, List<Thing>>> getPlayers(Collection<? extends Relation> relations);
+
     /**
      * Retrieves a list of all schema exceptions for the current transaction.
      *
@@ -25,6 +25,7 @@ import com.vaticle.typedb.driver.api.concept.type.AttributeType;
 import com.vaticle.typedb.driver.api.concept.type.RoleType;
 import com.vaticle.typedb.driver.api.concept.type.ThingType;
 import com.vaticle.typedb.driver.api.concept.type.ThingType.Annotation;
+import com.vaticle.typedb.driver.common.IID;
 import com.vaticle.typedb.driver.common.Promise;
 
 import javax.annotation.CheckReturnValue;
@@ -43,6 +44,17 @@ public interface Thing extends Concept {
     @CheckReturnValue
     String getIID();
 
+    /**
+     * Retrieves the unique id of the <code>Thing</code> in its compact binary form.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * thing.getCompactIID();
+     * </pre>
+     */
+    @CheckReturnValue
+    IID getCompactIID();
+
     /**
      * Retrieves the type which this <code>Thing</code> belongs to.
      *
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.api.concept.type;
+
+import com.vaticle.typedb.driver.api.TypeDBOptions;
+import com.vaticle.typedb.driver.api.TypeDBSession;
+import com.vaticle.typedb.driver.common.Label;
+
+import javax.annotation.CheckReturnValue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Options for a partitioned scan of the instances of a <code>ThingType</code>.
+ * A partition consists of the direct instances of one concrete type, and is read sequentially.
+ *
+ * @see ThingType#scan(TypeDBSession, ScanOptions)
+ */
+public class ScanOptions {
+    private TypeDBOptions transactionOptions = new TypeDBOptions();
+    private Checkpoint checkpoint = new Checkpoint();
+
+    /**
+     * Produces a new <code>ScanOptions</code> object.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * ScanOptions options = new ScanOptions();
+     * </pre>
+     */
+    public ScanOptions() {
+    }
+
+    /**
+     * Returns the options used to open the read transaction of each partition.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.transactionOptions();
+     * </pre>
+     */
+    @CheckReturnValue
+    public TypeDBOptions transactionOptions() {
+        return transactionOptions;
+    }
+
+    /**
+     * Sets the options used to open the read transaction of each partition.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.transactionOptions(transactionOptions);
+     * </pre>
+     *
+     * @param transactionOptions The options for each partition's read transaction
+     */
+    public ScanOptions transactionOptions(TypeDBOptions transactionOptions) {
+        this.transactionOptions = transactionOptions;
+        return this;
+    }
+
+    /**
+     * Returns the <code>Checkpoint</code> recording the partitions completed by the scan.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.checkpoint();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Checkpoint checkpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Sets the <code>Checkpoint</code> to resume from. Partitions already recorded as completed are skipped,
+     * so a scan that failed part-way can be retried for its remaining partitions only.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * options.checkpoint(failedScanOptions.checkpoint());
+     * </pre>
+     *
+     * @param checkpoint The <code>Checkpoint</code> of a previous scan
+     */
+    public ScanOptions checkpoint(Checkpoint checkpoint) {
+        this.checkpoint = checkpoint;
+        return this;
+    }
+
+    /**
+     * Records the partitions of a scan that have been read to completion.
+     * A partition consists of the direct instances of one concrete type.
+     */
+    public static class Checkpoint {
+        private final Set<Label> completed = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Retrieves the labels of the types whose partitions have been read to completion.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * checkpoint.completed();
+         * </pre>
+         */
+        @CheckReturnValue
+        public Set<Label> completed() {
+            return Collections.unmodifiableSet(completed);
+        }
+
+        /**
+         * Checks whether the partition of the given type has been read to completion.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * checkpoint.isCompleted(label);
+         * </pre>
+         *
+         * @param label The label of the partition's type
+         */
+        @CheckReturnValue
+        public boolean isCompleted(Label label) {
+            return completed.contains(label);
+        }
+
+        /**
+         * Records the partition of the given type as read to completion.
+         *
+         * <h3>Examples</h3>
+         * <pre>
+         * checkpoint.complete(label);
+         * </pre>
+         *
+         * @param label The label of the partition's type
+         */
+        public void complete(Label label) {
+            completed.add(label);
+        }
+    }
+}
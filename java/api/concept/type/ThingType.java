@@ -19,6 +19,7 @@
 
 package com.vaticle.typedb.driver.api.concept.type;
 
+import com.vaticle.typedb.driver.api.TypeDBSession;
 import com.vaticle.typedb.driver.api.TypeDBTransaction;
 import com.vaticle.typedb.driver.api.concept.thing.Thing;
 import com.vaticle.typedb.driver.api.concept.value.Value;
@@ -109,6 +110,26 @@ public interface ThingType extends Type {
     @CheckReturnValue
     Stream<? extends Thing> getInstances(TypeDBTransaction transaction, Transitivity transitivity);
 
+    /**
+     * Scans all instances of this <code>ThingType</code> and its subtypes.
+     * The scan is partitioned by concrete type: the direct instances of each non-abstract type are read
+     * in their own read transaction, and the partitions are merged into a single stream. Separate partitions
+     * may be read concurrently, but each partition is read sequentially, so the instances of a type without
+     * concrete subtypes are read by a single transaction.
+     * Each partition is recorded in the <code>ScanOptions</code> checkpoint once it has been read
+     * to completion, so a failed scan can be resumed for the remaining partitions only.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * thingType.scan(session, new ScanOptions());
+     * </pre>
+     *
+     * @param session The session in which to open the partitions' read transactions
+     * @param options The scan options
+     */
+    @CheckReturnValue
+    Stream<? extends Thing> scan(TypeDBSession session, ScanOptions options);
+
     /**
      * Set a <code>ThingType</code> to be abstract, meaning it cannot have instances.
      *
@@ -20,6 +20,7 @@
 package com.vaticle.typedb.driver.api.database;
 
 import javax.annotation.CheckReturnValue;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 
@@ -110,6 +111,21 @@ public interface Database {
     @CheckReturnValue
     Optional<? extends Replica> preferredReplica();
 
+    /**
+     * Registers a callback function which will be executed when the replicas of this database change,
+     * such as when a new primary replica is elected. Replica changes are detected by polling in the background,
+     * which also keeps the primary replica used for writes up to date.
+     * _Only works in TypeDB Cloud_
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * database.onTopologyChange(function)
+     * </pre>
+     *
+     * @param function The callback function.
+     */
+    void onTopologyChange(Runnable function);
+
     /**
      * The metadata and state of an individual raft replica of a database.
      */
@@ -139,5 +155,19 @@ public interface Database {
          */
         @CheckReturnValue
         long term();
+
+        /**
+         * The number of requests from this driver in flight to the server hosting this replica
+         * when the replica information was retrieved.
+         */
+        @CheckReturnValue
+        long outstandingRequests();
+
+        /**
+         * The moving-average latency of requests from this driver to the server hosting this replica,
+         * if any request to it has completed yet.
+         */
+        @CheckReturnValue
+        Optional<Duration> latency();
     }
 }
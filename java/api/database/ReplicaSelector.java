@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.api.database;
+
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
+
+/**
+ * Strategy used by operations that may run on any replica, such as database management and schema retrieval,
+ * to choose the replica to try first. The remaining replicas are tried in turn if the chosen replica is unavailable.
+ * Sessions are only opened on a selected replica if they are data sessions with <code>readAnyReplica</code> set:
+ * all other sessions are opened on the primary replica.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * driver.replicaSelector(ReplicaSelector.LOWEST_LATENCY);
+ * </pre>
+ */
+public enum ReplicaSelector {
+    /**
+     * Replicas are tried in the order reported by the server.
+     */
+    LIST_ORDER(0, com.vaticle.typedb.driver.jni.ReplicaSelector.ListOrder),
+    /**
+     * Each operation starts from the replica after the one the previous operation started from.
+     */
+    ROUND_ROBIN(1, com.vaticle.typedb.driver.jni.ReplicaSelector.RoundRobin),
+    /**
+     * Replicas with the fewest requests in flight from this driver are tried first.
+     */
+    LEAST_OUTSTANDING(2, com.vaticle.typedb.driver.jni.ReplicaSelector.LeastOutstanding),
+    /**
+     * Replicas with the lowest moving-average request latency are tried first.
+     * Replicas without latency measurements yet are tried before all others.
+     */
+    LOWEST_LATENCY(3, com.vaticle.typedb.driver.jni.ReplicaSelector.LowestLatency),
+    /**
+     * The preferred replica, as reported by the server, is tried first.
+     */
+    PREFER_LOCAL(4, com.vaticle.typedb.driver.jni.ReplicaSelector.PreferLocal);
+
+    private final int id;
+    public final com.vaticle.typedb.driver.jni.ReplicaSelector nativeObject;
+
+    ReplicaSelector(int id, com.vaticle.typedb.driver.jni.ReplicaSelector nativeObject) {
+        this.id = id;
+        this.nativeObject = nativeObject;
+    }
+
+    @CheckReturnValue
+    public static ReplicaSelector of(com.vaticle.typedb.driver.jni.ReplicaSelector nativeObject) {
+        for (ReplicaSelector selector : values()) {
+            if (selector.nativeObject == nativeObject) return selector;
+        }
+        throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+    }
+
+    public int id() {
+        return id;
+    }
+}
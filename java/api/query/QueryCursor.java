@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.api.query;
+
+import com.vaticle.typedb.driver.api.answer.ConceptMap;
+
+import javax.annotation.CheckReturnValue;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A resumable cursor over the answers of a TypeQL Get query, paginated by a sortable key variable.
+ * Each page is retrieved in its own read transaction, so the cursor outlives transaction timeouts
+ * and session reopening.
+ *
+ * @see com.vaticle.typedb.driver.api.TypeDBSession#cursor(String, String, int, String)
+ */
+public interface QueryCursor extends Iterator<ConceptMap> {
+    /**
+     * Produces a stream over the remaining answers of this cursor.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * cursor.stream();
+     * </pre>
+     */
+    @CheckReturnValue
+    Stream<ConceptMap> stream();
+
+    /**
+     * Returns a token marking the position of this cursor after the last answer it has returned.
+     * The token is a plain string that may be stored and passed to <code>TypeDBSession.cursor</code>
+     * to resume the query from this position. Empty if no answer has been returned yet.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * cursor.resumeToken();
+     * </pre>
+     */
+    @CheckReturnValue
+    Optional<String> resumeToken();
+}
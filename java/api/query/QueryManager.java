@@ -41,6 +41,18 @@ import java.util.stream.Stream;
 
 /**
  * Provides methods for executing TypeQL queries in the transaction.
+ * <p>Answer streams cancel their query on the server as soon as a terminal operation completes, including
+ * short-circuiting operations such as <code>findFirst</code>, or when they are closed. Streams consumed through
+ * <code>iterator()</code>, or converted to primitive streams, should be closed explicitly once no longer needed,
+ * for example with try-with-resources, so that the server stops sending answers to them.</p>
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * try (Stream&lt;ConceptMap&gt; answers = transaction.query().get(query)) {
+ *     Iterator&lt;ConceptMap&gt; iterator = answers.iterator();
+ *     ...
+ * }
+ * </pre>
  */
 public interface QueryManager {
     /**
@@ -415,4 +427,28 @@ public interface QueryManager {
      */
     @CheckReturnValue
     Stream<Explanation> explain(ConceptMap.Explainable explainable, TypeDBOptions options);
+
+    /**
+     * Explains every explainable concept of the given answers with default options.
+     *
+     * @see QueryManager#explainAll(Stream, TypeDBOptions)
+     */
+    @CheckReturnValue
+    Stream<Explanation> explainAll(Stream<ConceptMap> answers);
+
+    /**
+     * Explains every explainable relation, attribute and ownership of the given answers.
+     * Explain queries are pipelined: a bounded number of them are kept in flight while
+     * earlier explanations are being consumed, and explanations are returned in answer order.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query().explainAll(transaction.query().get(query, options), options)
+     * </pre>
+     *
+     * @param answers The answers whose explainables are to be explained
+     * @param options Specify query options
+     */
+    @CheckReturnValue
+    Stream<Explanation> explainAll(Stream<ConceptMap> answers, TypeDBOptions options);
 }
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.api.query;
+
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.api.answer.ConceptMap;
+import com.vaticle.typedb.driver.api.concept.value.Value;
+
+import javax.annotation.CheckReturnValue;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An independent read query to be run by <code>TypeDBDriver.fanOut</code>, together with its optional timeout.
+ * The query is a function of the read transaction it runs in, and must fully consume any results it streams.
+ *
+ * @see com.vaticle.typedb.driver.api.TypeDBDriver#fanOut(String, List, int, Duration)
+ */
+public final class QuerySpec<T> {
+    private final Function<TypeDBTransaction, T> query;
+    private final Duration timeout;
+
+    private QuerySpec(Function<TypeDBTransaction, T> query, Duration timeout) {
+        this.query = query;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Creates a <code>QuerySpec</code> from a function of a read transaction.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * QuerySpec.of(transaction -&gt; transaction.query().get(query).count());
+     * </pre>
+     *
+     * @param query The function running the query in the given transaction
+     */
+    @CheckReturnValue
+    public static <T> QuerySpec<T> of(Function<TypeDBTransaction, T> query) {
+        return new QuerySpec<>(query, null);
+    }
+
+    /**
+     * Creates a <code>QuerySpec</code> running a TypeQL Get query and collecting its answers.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * QuerySpec.get("match $x isa person; get;");
+     * </pre>
+     *
+     * @param query The TypeQL Get query to be executed
+     */
+    @CheckReturnValue
+    public static QuerySpec<List<ConceptMap>> get(String query) {
+        return of(transaction -> transaction.query().get(query).collect(Collectors.toList()));
+    }
+
+    /**
+     * Creates a <code>QuerySpec</code> running a TypeQL Get Aggregate query.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * QuerySpec.getAggregate("match $x isa person; get; count;");
+     * </pre>
+     *
+     * @param query The TypeQL Get Aggregate query to be executed
+     */
+    @CheckReturnValue
+    public static QuerySpec<Optional<Value>> getAggregate(String query) {
+        return of(transaction -> transaction.query().getAggregate(query).resolve());
+    }
+
+    /**
+     * Returns a copy of this <code>QuerySpec</code> that times out after the given duration.
+     * The timeout is set as the query timeout of the read transaction the query runs in, so it applies to each
+     * query sent, measured from sending it until all its answers are received. See
+     * <code>TypeDBOptions.queryTimeoutMillis</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * QuerySpec.get(query).timeout(Duration.ofSeconds(5));
+     * </pre>
+     *
+     * @param timeout The maximum running time of the query
+     */
+    @CheckReturnValue
+    public QuerySpec<T> timeout(Duration timeout) {
+        return new QuerySpec<>(query, timeout);
+    }
+
+    /**
+     * Returns the timeout of this <code>QuerySpec</code>, if set.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * querySpec.timeout();
+     * </pre>
+     */
+    @CheckReturnValue
+    public Optional<Duration> timeout() {
+        return Optional.ofNullable(timeout);
+    }
+
+    /**
+     * Runs the query in the given transaction.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * querySpec.run(transaction);
+     * </pre>
+     *
+     * @param transaction The read transaction in which to run the query
+     */
+    public T run(TypeDBTransaction transaction) {
+        return query.apply(transaction);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.benchmark;
+
+import com.vaticle.typedb.driver.api.concept.value.Value;
+import com.vaticle.typedb.driver.concept.ConceptImpl;
+import com.vaticle.typedb.driver.concept.value.ValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of wrapping native concepts with <code>ConceptImpl.of</code>, which checks each kind of concept in turn,
+ * and of reading values through the <code>ValueImpl</code> accessors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConceptBenchmark {
+    private ValueImpl booleanValue;
+    private ValueImpl longValue;
+    private ValueImpl doubleValue;
+    private ValueImpl stringValue;
+    private ValueImpl dateTimeValue;
+
+    @Setup
+    public void setup() {
+        booleanValue = Fixtures.value(0);
+        longValue = Fixtures.value(1);
+        doubleValue = Fixtures.value(2);
+        stringValue = Fixtures.value(3);
+        dateTimeValue = Fixtures.value(4);
+    }
+
+    @Benchmark
+    public ConceptImpl of() {
+        return ConceptImpl.of(longValue.nativeObject);
+    }
+
+    @Benchmark
+    public Value.Type getType() {
+        return dateTimeValue.getType();
+    }
+
+    @Benchmark
+    public boolean asBoolean() {
+        return booleanValue.asBoolean();
+    }
+
+    @Benchmark
+    public long asLong() {
+        return longValue.asLong();
+    }
+
+    @Benchmark
+    public double asDouble() {
+        return doubleValue.asDouble();
+    }
+
+    @Benchmark
+    public String asString() {
+        return stringValue.asString();
+    }
+
+    @Benchmark
+    public LocalDateTime asDateTime() {
+        return dateTimeValue.asDateTime();
+    }
+
+    @Benchmark
+    public Object asUntyped() {
+        return stringValue.asUntyped();
+    }
+}
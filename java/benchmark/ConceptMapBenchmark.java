@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.benchmark;
+
+import com.vaticle.typedb.driver.api.concept.Concept;
+import com.vaticle.typedb.driver.concept.answer.ConceptMapImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading the concepts of a <code>ConceptMap</code>, one variable at a time and all at once.
+ * A new <code>ConceptMapImpl</code> is wrapped around the same native answer on each invocation
+ * of <code>map</code>, so that its cache is measured only by <code>mapCached</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConceptMapBenchmark {
+    @Param({"4", "32"})
+    public int size;
+
+    private com.vaticle.typedb.driver.jni.ConceptMap nativeConceptMap;
+    private ConceptMapImpl conceptMap;
+    private String variable;
+
+    @Setup
+    public void setup() {
+        nativeConceptMap = Fixtures.conceptMap(size);
+        conceptMap = new ConceptMapImpl(nativeConceptMap);
+        conceptMap.map();
+        variable = Fixtures.variable(size / 2);
+    }
+
+    @Benchmark
+    public Concept get() {
+        return conceptMap.get(variable);
+    }
+
+    @Benchmark
+    public Map<String, Concept> map() {
+        return new ConceptMapImpl(nativeConceptMap).map();
+    }
+
+    @Benchmark
+    public Map<String, Concept> mapCached() {
+        return conceptMap.map();
+    }
+}
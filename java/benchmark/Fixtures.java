@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.benchmark;
+
+import com.vaticle.typedb.driver.concept.value.ValueImpl;
+
+import java.time.LocalDateTime;
+
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_new;
+
+/**
+ * Native answers built in-process from <code>Value</code>s, so that answer handling can be measured without a server.
+ */
+final class Fixtures {
+    private static final LocalDateTime DATE_TIME = LocalDateTime.of(2024, 1, 1, 12, 30, 15);
+
+    private Fixtures() {}
+
+    static ValueImpl value(int i) {
+        switch (i % 5) {
+            case 0: return (ValueImpl) ValueImpl.of(i % 2 == 0);
+            case 1: return (ValueImpl) ValueImpl.of((long) i);
+            case 2: return (ValueImpl) ValueImpl.of(i * 0.5);
+            case 3: return (ValueImpl) ValueImpl.of("value-" + i);
+            default: return (ValueImpl) ValueImpl.of(DATE_TIME.plusSeconds(i));
+        }
+    }
+
+    static String variable(int i) {
+        return "v" + i;
+    }
+
+    static com.vaticle.typedb.driver.jni.ConceptMap conceptMap(int size) {
+        String[] variables = new String[size];
+        com.vaticle.typedb.driver.jni.Concept[] values = new com.vaticle.typedb.driver.jni.Concept[size];
+        for (int i = 0; i < size; i++) {
+            variables[i] = variable(i);
+            values[i] = value(i).nativeObject;
+        }
+        return concept_map_new(variables, values);
+    }
+
+    /**
+     * A fetch answer of the given number of people, each with a name, an age, a set of emails and employments,
+     * in the shape the server returns for <code>fetch</code> queries.
+     */
+    static String fetchPayload(int people) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < people; i++) {
+            if (i > 0) sb.append(",");
+            sb.append("{\"person\":{")
+                    .append("\"type\":{\"label\":\"person\",\"root\":\"entity\"},")
+                    .append("\"name\":[").append(attribute("name", "string", "\"Person " + i + "\"")).append("],")
+                    .append("\"age\":[").append(attribute("age", "long", Integer.toString(20 + i % 50))).append("],")
+                    .append("\"email\":[")
+                    .append(attribute("email", "string", "\"person" + i + "@example.com\"")).append(",")
+                    .append(attribute("email", "string", "\"p" + i + "@work.example.com\""))
+                    .append("]},")
+                    .append("\"employments\":[{")
+                    .append("\"company\":[").append(attribute("company-name", "string", "\"Company " + i % 7 + "\""))
+                    .append("],\"salary\":[").append(attribute("salary", "double", Double.toString(1000 + i * 12.5)))
+                    .append("],\"is-current\":[").append(attribute("is-current", "boolean", Boolean.toString(i % 3 == 0)))
+                    .append("]}]}");
+        }
+        return sb.append("]").toString();
+    }
+
+    private static String attribute(String label, String valueType, String value) {
+        return "{\"type\":{\"label\":\"" + label + "\",\"root\":\"attribute\",\"value_type\":\"" + valueType + "\"},"
+                + "\"value\":" + value + "}";
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.benchmark;
+
+import com.vaticle.typedb.driver.common.NativeIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_get_values;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concept_map_get_variables;
+
+/**
+ * Throughput of draining a <code>NativeIterator</code>, over native iterators and, as a baseline for the cost of the
+ * wrapper itself, over a Java iterator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NativeIteratorBenchmark {
+    @Param({"16", "1024"})
+    public int size;
+
+    private com.vaticle.typedb.driver.jni.ConceptMap conceptMap;
+    private List<String> variables;
+
+    @Setup
+    public void setup() {
+        conceptMap = Fixtures.conceptMap(size);
+        variables = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) variables.add(Fixtures.variable(i));
+    }
+
+    @Benchmark
+    public void nativeStrings(Blackhole blackhole) {
+        NativeIterator<String> iterator = new NativeIterator<>(concept_map_get_variables(conceptMap));
+        while (iterator.hasNext()) blackhole.consume(iterator.next());
+    }
+
+    @Benchmark
+    public void nativeConcepts(Blackhole blackhole) {
+        NativeIterator<com.vaticle.typedb.driver.jni.Concept> iterator =
+                new NativeIterator<>(concept_map_get_values(conceptMap));
+        while (iterator.hasNext()) blackhole.consume(iterator.next());
+    }
+
+    @Benchmark
+    public void nativeStream(Blackhole blackhole) {
+        new NativeIterator<>(concept_map_get_variables(conceptMap)).stream().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void javaStrings(Blackhole blackhole) {
+        NativeIterator<String> iterator = new NativeIterator<>(variables.iterator());
+        while (iterator.hasNext()) blackhole.consume(iterator.next());
+    }
+}
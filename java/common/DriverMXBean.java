@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.driver.common;
+
+import java.util.Map;
+
+/**
+ * Management interface of the driver, registered with the platform MBean server
+ * as <code>com.vaticle.typedb.driver:type=Driver</code>.
+ * Reports the native objects, held by the driver outside the Java heap, that are currently alive,
+ * and controls the paranoid mode that detects sessions, transactions and answer iterators
+ * that are garbage-collected without being closed.
+ * Native objects are only reported when accounting is enabled with the system property
+ * <code>typedb.driver.nativeMemoryTracking=true</code>, or, for the types it checks, while paranoid mode is enabled.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * NativeMemory.mxBean().getLiveNativeObjects();
+ * </pre>
+ */
+public interface DriverMXBean {
+    /**
+     * Returns the number of live native objects of each type. A native object is live until it is closed,
+     * handed over to the server, or its Java wrapper is garbage-collected.
+     */
+    Map<String, Long> getLiveNativeObjects();
+
+    /**
+     * Returns the approximate number of bytes held by live native objects of each type,
+     * based on a fixed estimate per type.
+     */
+    Map<String, Long> getApproximateNativeBytes();
+
+    /**
+     * Returns the approximate number of bytes held by all live native objects.
+     */
+    long getTotalApproximateNativeBytes();
+
+    /**
+     * Returns the number of sessions, transactions and answer iterators that were garbage-collected without being
+     * closed while paranoid mode was enabled.
+     */
+    long getLeakedNativeObjects();
+
+    /**
+     * Checks whether paranoid mode is enabled.
+     */
+    boolean isParanoid();
+
+    /**
+     * Enables or disables paranoid mode. While enabled, the allocation stack trace of each session, transaction and
+     * answer iterator is recorded, and logged if it is garbage-collected without being closed.
+     * Recording stack traces is expensive, so this is intended for debugging leaks.
+     *
+     * @param paranoid Whether to enable paranoid mode
+     */
+    void setParanoid(boolean paranoid);
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.common;
+
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Concept.INVALID_IID;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Concept.MISSING_IID;
+
+/**
+ * An <code>IID</code> is the compact binary form of the unique id of a <code>Thing</code>.
+ * <p>It holds the raw bytes of the id rather than its hexadecimal representation, caches its hash,
+ * and only renders the <code>0x</code>-prefixed hexadecimal string when requested.
+ * <code>IID</code>s are ordered by unsigned lexicographic comparison of their bytes.</p>
+ */
+public final class IID implements Comparable<IID> {
+    private static final String PREFIX = "0x";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final Map<IID, WeakReference<IID>> INTERNED = new WeakHashMap<>();
+
+    private final byte[] bytes;
+    private final int hash;
+
+    private IID(byte[] bytes) {
+        this.bytes = bytes;
+        this.hash = Arrays.hashCode(bytes);
+    }
+
+    /**
+     * Parses an <code>IID</code> from its hexadecimal representation, as returned by <code>Thing.getIID()</code>.
+     * The <code>0x</code> prefix is optional.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * IID.of("0x826e80018000000000000000");
+     * </pre>
+     *
+     * @param iid The hexadecimal representation of the iid
+     */
+    public static IID of(String iid) {
+        if (iid == null || iid.isEmpty()) throw new TypeDBDriverException(MISSING_IID);
+        int start = iid.startsWith(PREFIX) ? PREFIX.length() : 0;
+        int length = iid.length() - start;
+        if (length == 0 || length % 2 != 0) throw new TypeDBDriverException(INVALID_IID, iid);
+        byte[] bytes = new byte[length / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(iid.charAt(start + 2 * i), 16);
+            int low = Character.digit(iid.charAt(start + 2 * i + 1), 16);
+            if (high < 0 || low < 0) throw new TypeDBDriverException(INVALID_IID, iid);
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return new IID(bytes);
+    }
+
+    /**
+     * Creates an <code>IID</code> from its raw bytes. The array is copied.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * IID.of(bytes);
+     * </pre>
+     *
+     * @param bytes The raw bytes of the iid
+     */
+    public static IID of(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) throw new TypeDBDriverException(MISSING_IID);
+        return new IID(bytes.clone());
+    }
+
+    /**
+     * Returns the canonical instance of this <code>IID</code>, so that repeated occurrences of the same iid
+     * share storage. Canonical instances are held weakly and are released once no longer referenced.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * iid.intern();
+     * </pre>
+     */
+    public IID intern() {
+        synchronized (INTERNED) {
+            WeakReference<IID> ref = INTERNED.get(this);
+            IID canonical = ref == null ? null : ref.get();
+            if (canonical != null) return canonical;
+            INTERNED.put(this, new WeakReference<>(this));
+            return this;
+        }
+    }
+
+    /**
+     * Returns a copy of the raw bytes of this <code>IID</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * iid.bytes();
+     * </pre>
+     */
+    public byte[] bytes() {
+        return bytes.clone();
+    }
+
+    /**
+     * Returns the number of bytes in this <code>IID</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * iid.length();
+     * </pre>
+     */
+    public int length() {
+        return bytes.length;
+    }
+
+    /**
+     * Returns the <code>0x</code>-prefixed hexadecimal representation of this <code>IID</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * iid.toString();
+     * </pre>
+     */
+    @Override
+    public String toString() {
+        char[] chars = new char[PREFIX.length() + 2 * bytes.length];
+        chars[0] = '0';
+        chars[1] = 'x';
+        for (int i = 0; i < bytes.length; i++) {
+            chars[PREFIX.length() + 2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            chars[PREFIX.length() + 2 * i + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Compares this <code>IID</code> to another by unsigned lexicographic comparison of their bytes.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * iid.compareTo(other);
+     * </pre>
+     *
+     * @param other The <code>IID</code> to compare with
+     */
+    @Override
+    public int compareTo(IID other) {
+        return Arrays.compareUnsigned(this.bytes, other.bytes);
+    }
+
+    /**
+     * Checks if this <code>IID</code> is equal to another object.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * iid.equals(obj);
+     * </pre>
+     *
+     * @param obj Object to compare with
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        IID that = (IID) obj;
+        return this.hash == that.hash && Arrays.equals(this.bytes, that.bytes);
+    }
+
+    /**
+     * @hidden
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -20,42 +20,155 @@
 package com.vaticle.typedb.driver.common;
 
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.common.jfr.IteratorWaitEvent;
+import com.vaticle.typedb.driver.common.metrics.QueryRecorder;
+
+import javax.annotation.Nullable;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import static java.util.Spliterator.IMMUTABLE;
-import static java.util.Spliterator.NONNULL;
-import static java.util.Spliterator.ORDERED;
-import static java.util.Spliterators.spliteratorUnknownSize;
-
-public class NativeIterator<T> implements Iterator<T> {
+public class NativeIterator<T> implements Iterator<T>, AutoCloseable {
     private final Iterator<T> inner;
+    private final @Nullable QueryRecorder recorder;
+    private final NativeMemory.Allocation allocation;
+    private long count;
+    private boolean isExhausted;
+    private boolean isClosed;
 
     public NativeIterator(Iterator<T> inner) {
+        this(inner, null);
+    }
+
+    /**
+     * Creates an iterator over the answers of a query, reporting its progress to the given recorder
+     * until the answers are exhausted or the stream of this iterator is closed.
+     */
+    public NativeIterator(Iterator<T> inner, @Nullable QueryRecorder recorder) {
         this.inner = inner;
+        this.recorder = recorder;
+        this.allocation = NativeMemory.track(this, inner);
+        if (recorder != null) recorder.streamOpened();
     }
 
     @Override
     public boolean hasNext() {
+        IteratorWaitEvent waitEvent = new IteratorWaitEvent();
+        waitEvent.begin();
         try {
-            return inner.hasNext();
+            if (isClosed) return false;
+            boolean hasNext;
+            if (recorder == null) hasNext = inner.hasNext();
+            else {
+                recorder.advanced();
+                long start = System.nanoTime();
+                hasNext = inner.hasNext();
+                recorder.waited(System.nanoTime() - start);
+            }
+            if (!hasNext) {
+                isExhausted = true;
+                close();
+            }
+            return hasNext;
         } catch (com.vaticle.typedb.driver.jni.Error.Unchecked e) {
+            if (recorder != null) recorder.fail(e, count);
             throw new TypeDBDriverException(e);
+        } finally {
+            waitEvent.commit();
         }
     }
 
     @Override
     public T next() {
         try {
-            return inner.next();
+            T next = inner.next();
+            if (count++ == 0 && recorder != null) recorder.answered();
+            return next;
         } catch (com.vaticle.typedb.driver.jni.Error.Unchecked e) {
             throw new TypeDBDriverException(e);
         }
     }
 
+    /**
+     * Drops the native iterator. If answers are still being received, the server stream is cancelled:
+     * the driver stops requesting further answers and discards those already buffered.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) return;
+        isClosed = true;
+        try {
+            if (inner instanceof AutoCloseable) ((AutoCloseable) inner).close();
+        } catch (Exception e) {
+            throw new TypeDBDriverException(e.getMessage(), e);
+        } finally {
+            allocation.closed();
+            if (recorder != null) {
+                if (isExhausted) recorder.finish(count);
+                else recorder.cancel(count);
+            }
+        }
+    }
+
+    /**
+     * Returns a stream over the answers, which cancels the server stream as soon as a terminal operation
+     * completes, or when it is closed.
+     */
     public Stream<T> stream() {
-        return StreamSupport.stream(spliteratorUnknownSize(this, NONNULL | IMMUTABLE | ORDERED), false);
+        return new ClosingStream<>(StreamSupport.stream(new BatchSpliterator<>(this), false).onClose(this::close));
+    }
+
+    /**
+     * Splits off batches drained from the underlying iterator, so that downstream stages of a parallel stream
+     * run on separate workers while the native iterator itself is only ever advanced by one thread at a time.
+     */
+    private static class BatchSpliterator<T> implements Spliterator<T> {
+        private static final int INITIAL_BATCH_SIZE = 64;
+        private static final int MAX_BATCH_SIZE = 1 << 14;
+        private static final int CHARACTERISTICS = NONNULL | IMMUTABLE | ORDERED;
+
+        private final Iterator<T> iterator;
+        private int batchSize = INITIAL_BATCH_SIZE;
+
+        private BatchSpliterator(Iterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            T next;
+            synchronized (iterator) {
+                if (!iterator.hasNext()) return false;
+                next = iterator.next();
+            }
+            action.accept(next);
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Object[] batch = new Object[batchSize];
+            int size = 0;
+            synchronized (iterator) {
+                while (size < batch.length && iterator.hasNext()) batch[size++] = iterator.next();
+            }
+            if (size == 0) return null;
+            batchSize = Math.min(batchSize * 2, MAX_BATCH_SIZE);
+            return Spliterators.spliterator(batch, 0, size, CHARACTERISTICS);
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
     }
 }
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.driver.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Cleaner;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accounts for the native objects held by the driver outside the Java heap, counting the live objects of each type
+ * and estimating the bytes they hold, and in paranoid mode detects leaked sessions, transactions and answer iterators.
+ * The accounts are exposed through the <code>DriverMXBean</code>.
+ *
+ * <p>Accounting registers a <code>Cleaner</code> action for every native object, including every concept and answer,
+ * so it is disabled by default and can be enabled with the system property
+ * <code>typedb.driver.nativeMemoryTracking=true</code>. Paranoid mode is disabled by default, and can be enabled
+ * with the system property <code>typedb.driver.paranoid=true</code> or through the <code>DriverMXBean</code>;
+ * while accounting is disabled, paranoid mode only tracks the sessions, transactions and answer iterators
+ * it checks for leaks.</p>
+ */
+public final class NativeMemory {
+    private static final Logger LOG = LoggerFactory.getLogger(NativeMemory.class);
+    private static final String OBJECT_NAME = "com.vaticle.typedb.driver:type=Driver";
+    private static final long DEFAULT_ESTIMATED_BYTES = 64;
+    private static final long ITERATOR_ESTIMATED_BYTES = 512;
+    private static final Map<String, Long> ESTIMATED_BYTES = Map.of(
+            "Connection", 16384L,
+            "Session", 1024L,
+            "Transaction", 4096L,
+            "Concept", 160L,
+            "ConceptMap", 256L,
+            "ConceptMapGroup", 256L,
+            "Explanation", 512L,
+            "Rule", 256L
+    );
+
+    private static final boolean IS_ENABLED = Boolean.getBoolean("typedb.driver.nativeMemoryTracking");
+    private static final Map<String, LiveObjects> LIVE = new ConcurrentHashMap<>();
+    private static final LongAdder LEAKED = new LongAdder();
+    private static final DriverMXBean MX_BEAN = new MXBean();
+    private static final Allocation UNTRACKED = new Allocation(null, null);
+    private static volatile boolean isParanoid = Boolean.getBoolean("typedb.driver.paranoid");
+
+    static {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(MX_BEAN, new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException e) {
+            LOG.debug("Could not register {}", OBJECT_NAME, e);
+        }
+    }
+
+    private NativeMemory() {}
+
+    /**
+     * Returns the <code>DriverMXBean</code> reporting on native objects.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * NativeMemory.mxBean();
+     * </pre>
+     */
+    public static DriverMXBean mxBean() {
+        return MX_BEAN;
+    }
+
+    /**
+     * Starts accounting for a native object, until it is closed or its owner is garbage-collected.
+     *
+     * @param owner The Java object that owns the native object
+     * @param nativeObject The native object
+     */
+    static Allocation track(Object owner, Object nativeObject) {
+        if (!IS_ENABLED && !isParanoid) return UNTRACKED;
+        String type = nativeObject.getClass().getSimpleName();
+        boolean isLeakChecked = isParanoid && isLeakChecked(type);
+        if (!IS_ENABLED && !isLeakChecked) return UNTRACKED;
+        LiveObjects live = LIVE.computeIfAbsent(type, LiveObjects::new);
+        Throwable allocationSite = isLeakChecked ? new Throwable("Allocation site of " + type) : null;
+        Allocation allocation = new Allocation(live, allocationSite);
+        live.count.increment();
+        CleanerHolder.CLEANER.register(owner, allocation);
+        return allocation;
+    }
+
+    private static class CleanerHolder {
+        private static final Cleaner CLEANER = Cleaner.create();
+    }
+
+    private static boolean isLeakChecked(String type) {
+        return type.equals("Session") || type.equals("Transaction") || type.endsWith("Iterator");
+    }
+
+    private static long estimatedBytes(String type) {
+        if (type.endsWith("Iterator")) return ITERATOR_ESTIMATED_BYTES;
+        else return ESTIMATED_BYTES.getOrDefault(type, DEFAULT_ESTIMATED_BYTES);
+    }
+
+    private static class LiveObjects {
+        private final String type;
+        private final long estimatedBytes;
+        private final LongAdder count;
+
+        private LiveObjects(String type) {
+            this.type = type;
+            this.estimatedBytes = estimatedBytes(type);
+            this.count = new LongAdder();
+        }
+    }
+
+    /**
+     * The accounting of a single native object, which is released when the object is closed
+     * or, failing that, when its owner is garbage-collected.
+     */
+    static final class Allocation implements Runnable {
+        private final @Nullable LiveObjects live;
+        private final @Nullable Throwable allocationSite;
+        private final AtomicBoolean isReleased;
+
+        private Allocation(@Nullable LiveObjects live, @Nullable Throwable allocationSite) {
+            this.live = live;
+            this.allocationSite = allocationSite;
+            this.isReleased = new AtomicBoolean(false);
+        }
+
+        /**
+         * Records that the native object has been closed or handed over to the server.
+         */
+        void closed() {
+            if (live != null && !isReleased.getAndSet(true)) live.count.decrement();
+        }
+
+        @Override
+        public void run() {
+            if (live == null || isReleased.getAndSet(true)) return;
+            live.count.decrement();
+            if (allocationSite != null) {
+                LEAKED.increment();
+                LOG.warn("A {} was garbage-collected without being closed", live.type, allocationSite);
+            }
+        }
+    }
+
+    private static class MXBean implements DriverMXBean {
+        @Override
+        public Map<String, Long> getLiveNativeObjects() {
+            Map<String, Long> counts = new TreeMap<>();
+            LIVE.forEach((type, live) -> counts.put(type, live.count.sum()));
+            return counts;
+        }
+
+        @Override
+        public Map<String, Long> getApproximateNativeBytes() {
+            Map<String, Long> bytes = new TreeMap<>();
+            LIVE.forEach((type, live) -> bytes.put(type, live.count.sum() * live.estimatedBytes));
+            return bytes;
+        }
+
+        @Override
+        public long getTotalApproximateNativeBytes() {
+            return LIVE.values().stream().mapToLong(live -> live.count.sum() * live.estimatedBytes).sum();
+        }
+
+        @Override
+        public long getLeakedNativeObjects() {
+            return LEAKED.sum();
+        }
+
+        @Override
+        public boolean isParanoid() {
+            return isParanoid;
+        }
+
+        @Override
+        public void setParanoid(boolean paranoid) {
+            isParanoid = paranoid;
+        }
+    }
+}
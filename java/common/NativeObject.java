@@ -31,9 +31,19 @@ public abstract class NativeObject<T> {
     }
 
     public final T nativeObject;
+    private final NativeMemory.Allocation allocation;
 
     protected NativeObject(T nativeObject) {
         if (nativeObject == null) throw new TypeDBDriverException(ErrorMessage.Internal.NULL_NATIVE_VALUE);
         this.nativeObject = nativeObject;
+        this.allocation = NativeMemory.track(this, nativeObject);
+    }
+
+    /**
+     * Records that the native object has been closed or handed over to the server,
+     * so that it is no longer accounted as live.
+     */
+    protected void nativeObjectReleased() {
+        allocation.closed();
     }
 }
@@ -20,6 +20,7 @@
 package com.vaticle.typedb.driver.common;
 
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.common.jfr.PromiseWaitEvent;
 
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -55,10 +56,14 @@ public class Promise<T> {
      * </pre>
      */
     public T resolve() {
+        PromiseWaitEvent event = new PromiseWaitEvent();
+        event.begin();
         try {
             return this.inner.get();
         } catch (com.vaticle.typedb.driver.jni.Error.Unchecked e) {
             throw new TypeDBDriverException(e);
+        } finally {
+            event.commit();
         }
     }
 
@@ -0,0 +1,410 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.driver.common.admission;
+
+import com.vaticle.typedb.driver.common.exception.AdmissionRejectedException;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.common.metrics.DriverMetrics;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.ADMISSION_INTERRUPTED;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.ADMISSION_QUEUE_FULL;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.ADMISSION_TIMED_OUT;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.NEGATIVE_DURATION;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+
+/**
+ * Limits the number of sessions, transactions and in-flight queries the driver has open at once, so that traffic
+ * spikes queue in the driver instead of overloading the server. Operations beyond a limit wait in a first-come,
+ * first-served queue until one in flight finishes, and are rejected with an <code>AdmissionRejectedException</code>
+ * if the queue is full or they wait longer than the maximum wait time. Unset limits are unbounded.
+ *
+ * <p>Optionally, the in-flight query limit adapts to the server's responsiveness by additive increase and
+ * multiplicative decrease: it shrinks whenever a query fails or its latency exceeds the adaptive latency
+ * threshold, and grows back by one for every limit's worth of queries that succeed, up to the maximum.
+ * The latency of a query is its time to first answer, or for queries without answers the time waited
+ * for their result.</p>
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * driver.admissionControl(new AdmissionControl().maxTransactions(64).maxQueries(256).maxWait(Duration.ofSeconds(5)));
+ * </pre>
+ */
+public final class AdmissionControl {
+    public static final String SESSION = "session";
+    public static final String TRANSACTION = "transaction";
+    public static final String QUERY = "query";
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final Limiter sessions = new Limiter(SESSION);
+    private final Limiter transactions = new Limiter(TRANSACTION);
+    private final Limiter queries = new Limiter(QUERY);
+    private volatile @Nullable Duration maxWait;
+    private volatile int maxQueueLength = Integer.MAX_VALUE;
+
+    /**
+     * Limits the number of sessions open at once.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * admissionControl.maxSessions(16);
+     * </pre>
+     *
+     * @param maxSessions The maximum number of open sessions
+     */
+    public AdmissionControl maxSessions(int maxSessions) {
+        sessions.max(validated(maxSessions));
+        return this;
+    }
+
+    /**
+     * Limits the number of transactions open at once, across all sessions.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * admissionControl.maxTransactions(64);
+     * </pre>
+     *
+     * @param maxTransactions The maximum number of open transactions
+     */
+    public AdmissionControl maxTransactions(int maxTransactions) {
+        transactions.max(validated(maxTransactions));
+        return this;
+    }
+
+    /**
+     * Limits the number of queries in flight at once, across all transactions. A query is in flight from
+     * when it is sent until its answers are exhausted, its answer stream is closed, or its result is retrieved.
+     * A transaction never waits for its own queries: when it issues a query while the limit is reached, its queries
+     * still in flight stop counting towards the limit.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * admissionControl.maxQueries(256);
+     * </pre>
+     *
+     * @param maxQueries The maximum number of in-flight queries
+     */
+    public AdmissionControl maxQueries(int maxQueries) {
+        queries.max(validated(maxQueries));
+        return this;
+    }
+
+    /**
+     * Sets how long an operation may wait to be admitted before being rejected.
+     * By default, operations wait until they are admitted.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * admissionControl.maxWait(Duration.ofSeconds(5));
+     * </pre>
+     *
+     * @param maxWait The maximum wait time, or <code>null</code> to wait until admitted
+     */
+    public AdmissionControl maxWait(@Nullable Duration maxWait) {
+        if (maxWait != null && maxWait.isNegative()) throw new TypeDBDriverException(NEGATIVE_DURATION, maxWait);
+        this.maxWait = maxWait;
+        return this;
+    }
+
+    /**
+     * Sets how many operations of each kind may wait to be admitted at once. Operations arriving while
+     * the queue is full are rejected immediately. By default, the queue is unbounded.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * admissionControl.maxQueueLength(1000);
+     * </pre>
+     *
+     * @param maxQueueLength The maximum number of waiting operations of each kind
+     */
+    public AdmissionControl maxQueueLength(int maxQueueLength) {
+        this.maxQueueLength = validated(maxQueueLength);
+        return this;
+    }
+
+    /**
+     * Enables adaptive limiting of in-flight queries, shrinking the limit whenever a query fails or its latency
+     * exceeds the given threshold. The limit never exceeds <code>maxQueries</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * admissionControl.adaptive(Duration.ofMillis(250));
+     * </pre>
+     *
+     * @param latencyThreshold The latency above which queries are taken to indicate overload,
+     *                         or <code>null</code> to disable adaptive limiting
+     */
+    public AdmissionControl adaptive(@Nullable Duration latencyThreshold) {
+        if (latencyThreshold != null && latencyThreshold.isNegative()) {
+            throw new TypeDBDriverException(NEGATIVE_DURATION, latencyThreshold);
+        }
+        queries.adaptive(latencyThreshold);
+        return this;
+    }
+
+    /**
+     * Returns the current limit for the given kind of operation, which for queries may have been adapted.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * admissionControl.limit(AdmissionControl.QUERY);
+     * </pre>
+     *
+     * @param resource The kind of operation: <code>session</code>, <code>transaction</code> or <code>query</code>
+     */
+    public int limit(String resource) {
+        return limiter(resource).limit();
+    }
+
+    /**
+     * Returns the number of admitted operations of the given kind that have not finished yet.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * admissionControl.inFlight(AdmissionControl.TRANSACTION);
+     * </pre>
+     *
+     * @param resource The kind of operation: <code>session</code>, <code>transaction</code> or <code>query</code>
+     */
+    public int inFlight(String resource) {
+        return limiter(resource).inFlight();
+    }
+
+    /**
+     * Returns the number of operations of the given kind waiting to be admitted.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * admissionControl.queued(AdmissionControl.QUERY);
+     * </pre>
+     *
+     * @param resource The kind of operation: <code>session</code>, <code>transaction</code> or <code>query</code>
+     */
+    public int queued(String resource) {
+        return limiter(resource).queued();
+    }
+
+    /**
+     * Admits a session, waiting if the session limit has been reached.
+     *
+     * @hidden
+     */
+    public Permit acquireSession(DriverMetrics metrics) {
+        return acquire(SESSION, null, metrics);
+    }
+
+    private Permit acquire(String resource, @Nullable Permit parent, DriverMetrics metrics) {
+        Limiter limiter = limiter(resource);
+        if (parent != null && limiter == queries && limiter.isSaturated()) {
+            // A transaction's queries whose results are never retrieved hold their permits until it closes,
+            // so waiting for them could block the transaction forever.
+            parent.children.forEach(sibling -> {
+                if (sibling.limiter == queries) sibling.release();
+            });
+        }
+        long start = System.nanoTime();
+        try {
+            limiter.acquire(maxWait, maxQueueLength);
+        } catch (AdmissionRejectedException e) {
+            metrics.rejected(resource);
+            throw e;
+        }
+        metrics.admitted(resource, Duration.ofNanos(System.nanoTime() - start));
+        Permit permit = new Permit(limiter, parent);
+        if (parent != null) parent.children.add(permit);
+        return permit;
+    }
+
+    private Limiter limiter(String resource) {
+        switch (resource) {
+            case SESSION:
+                return sessions;
+            case TRANSACTION:
+                return transactions;
+            case QUERY:
+                return queries;
+            default:
+                throw new IllegalArgumentException(resource);
+        }
+    }
+
+    private static int validated(int limit) {
+        if (limit < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, limit);
+        return limit;
+    }
+
+    /**
+     * An admitted session, transaction or query, which holds its place under the limit until released.
+     * Releasing a permit also releases the permits acquired through it, such as those of a transaction's queries.
+     *
+     * @hidden
+     */
+    public final class Permit {
+        private final Limiter limiter;
+        private final @Nullable Permit parent;
+        private final Deque<Permit> children = new ConcurrentLinkedDeque<>();
+        private final AtomicBoolean isReleased = new AtomicBoolean(false);
+
+        private Permit(Limiter limiter, @Nullable Permit parent) {
+            this.limiter = limiter;
+            this.parent = parent;
+        }
+
+        /**
+         * Admits a transaction or query within this permit's session or transaction.
+         */
+        public Permit acquire(String resource, DriverMetrics metrics) {
+            return AdmissionControl.this.acquire(resource, this, metrics);
+        }
+
+        public void release() {
+            if (!isReleased.compareAndSet(false, true)) return;
+            children.forEach(Permit::release);
+            if (parent != null) parent.children.remove(this);
+            limiter.release();
+        }
+
+        /**
+         * Releases this permit, reporting the outcome of the admitted operation to adaptive limiting.
+         *
+         * @param latency The observed latency of the operation
+         * @param isFailed Whether the operation failed
+         */
+        public void release(Duration latency, boolean isFailed) {
+            if (isReleased.get()) return;
+            limiter.observe(latency, isFailed);
+            release();
+        }
+    }
+
+    private static final class Limiter {
+        private final String resource;
+        private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+        private int max = Integer.MAX_VALUE;
+        private @Nullable Duration latencyThreshold;
+        private double adaptiveLimit = Integer.MAX_VALUE;
+        private int inFlight;
+
+        private Limiter(String resource) {
+            this.resource = resource;
+        }
+
+        synchronized void max(int max) {
+            this.max = max;
+            adaptiveLimit = Math.min(adaptiveLimit, max);
+            admitWaiting();
+        }
+
+        synchronized void adaptive(@Nullable Duration latencyThreshold) {
+            this.latencyThreshold = latencyThreshold;
+            adaptiveLimit = max;
+            admitWaiting();
+        }
+
+        synchronized int limit() {
+            if (latencyThreshold == null) return max;
+            else return (int) Math.max(1, Math.min(max, adaptiveLimit));
+        }
+
+        synchronized int inFlight() {
+            return inFlight;
+        }
+
+        synchronized int queued() {
+            return queue.size();
+        }
+
+        synchronized boolean isSaturated() {
+            return !queue.isEmpty() || inFlight >= limit();
+        }
+
+        synchronized void acquire(@Nullable Duration maxWait, int maxQueueLength) {
+            if (queue.isEmpty() && inFlight < limit()) {
+                inFlight++;
+                return;
+            }
+            if (queue.size() >= maxQueueLength) {
+                throw new AdmissionRejectedException(resource, ADMISSION_QUEUE_FULL, resource, inFlight, queue.size());
+            }
+            Waiter waiter = new Waiter();
+            queue.addLast(waiter);
+            long deadline = maxWait == null ? 0 : System.nanoTime() + maxWait.toNanos();
+            try {
+                while (!waiter.isAdmitted) {
+                    if (maxWait == null) {
+                        wait();
+                    } else {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            queue.remove(waiter);
+                            throw new AdmissionRejectedException(resource, ADMISSION_TIMED_OUT, resource, maxWait, inFlight);
+                        }
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (waiter.isAdmitted) return;
+                queue.remove(waiter);
+                throw new AdmissionRejectedException(resource, ADMISSION_INTERRUPTED, resource);
+            }
+        }
+
+        synchronized void release() {
+            inFlight--;
+            admitWaiting();
+        }
+
+        synchronized void observe(Duration latency, boolean isFailed) {
+            if (latencyThreshold == null) return;
+            if (isFailed || latency.compareTo(latencyThreshold) > 0) {
+                // Back off from the concurrency actually reached, rather than from a limit that may never have been.
+                adaptiveLimit = Math.max(1, Math.min(adaptiveLimit, inFlight) * BACKOFF_RATIO);
+            } else {
+                adaptiveLimit = Math.min(max, adaptiveLimit + 1 / adaptiveLimit);
+            }
+            admitWaiting();
+        }
+
+        private void admitWaiting() {
+            boolean isAdmitted = false;
+            while (!queue.isEmpty() && inFlight < limit()) {
+                queue.removeFirst().isAdmitted = true;
+                inFlight++;
+                isAdmitted = true;
+            }
+            if (isAdmitted) notifyAll();
+        }
+    }
+
+    private static final class Waiter {
+        private boolean isAdmitted;
+    }
+}
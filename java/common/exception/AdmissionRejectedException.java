@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.driver.common.exception;
+
+/**
+ * Raised when a session, transaction or query is not admitted by the driver's <code>AdmissionControl</code>,
+ * because too many are already waiting to be admitted, or because none finished within the maximum wait time.
+ * Nothing has been sent to the server when it is raised, so the operation may safely be retried later.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * try {
+ *     session.transaction(TypeDBTransaction.Type.READ);
+ * } catch (AdmissionRejectedException e) {
+ *     e.resource();
+ * }
+ * </pre>
+ */
+public class AdmissionRejectedException extends TypeDBDriverException {
+    private final String resource;
+
+    /**
+     * @hidden
+     */
+    public AdmissionRejectedException(String resource, ErrorMessage error, Object... parameters) {
+        super(error, parameters);
+        this.resource = resource;
+    }
+
+    /**
+     * Returns the kind of operation that was not admitted: <code>session</code>, <code>transaction</code>
+     * or <code>query</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * exception.resource();
+     * </pre>
+     */
+    public String resource() {
+        return resource;
+    }
+}
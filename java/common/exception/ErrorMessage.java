@@ -50,6 +50,18 @@ public abstract class ErrorMessage extends com.vaticle.typedb.common.exception.E
                 new Driver(11, "Value cannot be less than 1, was: '%d'.");
         public static final Driver MISSING_DB_NAME =
                 new Driver(12, "Database name cannot be null.");
+        public static final Driver INVALID_PERCENTILE =
+                new Driver(13, "Percentile must be between 0 and 1, was: '%s'.");
+        public static final Driver INVALID_SAMPLE_RATE =
+                new Driver(14, "Sample rate must be between 0 and 1, was: '%s'.");
+        public static final Driver NEGATIVE_DURATION =
+                new Driver(15, "Duration cannot be negative, was: '%s'.");
+        public static final Driver ADMISSION_QUEUE_FULL =
+                new Driver(16, "Cannot admit another %s: %d are in flight and %d are already waiting to be admitted.");
+        public static final Driver ADMISSION_TIMED_OUT =
+                new Driver(17, "Cannot admit another %s: timed out after %s waiting for one of %d in flight to finish.");
+        public static final Driver ADMISSION_INTERRUPTED =
+                new Driver(18, "Cannot admit another %s: interrupted while waiting to be admitted.");
 
         private static final String codePrefix = "JDR";
         private static final String messagePrefix = "Driver Error";
@@ -78,6 +90,8 @@ public abstract class ErrorMessage extends com.vaticle.typedb.common.exception.E
                 new Concept(8, "The ownership by owner '%s' of attribute '%s' is not explainable.");
         public static final Concept UNRECOGNISED_ANNOTATION =
                 new Concept(9, "The annotation '%s' is not recognised.");
+        public static final Concept INVALID_IID =
+                new Concept(10, "The iid '%s' is not a valid hexadecimal iid.");
 
         private static final String codePrefix = "JCO";
         private static final String messagePrefix = "Concept Error";
@@ -92,6 +106,14 @@ public abstract class ErrorMessage extends com.vaticle.typedb.common.exception.E
                 new Query(1, "The variable '%s' does not exist.");
         public static final Query MISSING_QUERY =
                 new Query(2, "Query cannot be null or empty.");
+        public static final Query INVALID_CURSOR_QUERY =
+                new Query(3, "The query '%s' must be a Get query without sort, offset or limit modifiers to be paginated.");
+        public static final Query UNSORTABLE_CURSOR_KEY =
+                new Query(4, "The cursor key variable '%s' must be bound to a long, double, string or datetime attribute or value.");
+        public static final Query INVALID_RESUME_TOKEN =
+                new Query(5, "The resume token '%s' is not valid.");
+        public static final Query NON_FINITE_CURSOR_KEY =
+                new Query(6, "The cursor key '%s' is not a finite number, and cannot be paginated from.");
 
         private static final String codePrefix = "JQR";
         private static final String messagePrefix = "Query Error";
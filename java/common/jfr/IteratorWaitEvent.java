@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.vaticle.typedb.driver.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event spanning a wait for the next element of a native iterator,
+ * such as the next answer of a query. Disabled by default; enable
+ * <code>com.vaticle.typedb.driver.IteratorWait</code> in the recording settings, ideally with a threshold.
+ */
+@Name("com.vaticle.typedb.driver.IteratorWait")
+@Label("TypeDB Iterator Wait")
+@Category({"TypeDB", "Driver"})
+@Description("Time spent waiting for the next element of a result stream")
+@Enabled(false)
+public final class IteratorWaitEvent extends Event {
+}
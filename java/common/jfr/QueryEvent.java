@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.vaticle.typedb.driver.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event spanning a query, from sending it to the server until its last answer is received
+ * or its answer stream is closed. The query text itself is not recorded, only its hash.
+ * Disabled by default; enable <code>com.vaticle.typedb.driver.Query</code> in the recording settings.
+ */
+@Name("com.vaticle.typedb.driver.Query")
+@Label("TypeDB Query")
+@Category({"TypeDB", "Driver"})
+@Description("Execution of a TypeQL query, until all answers have been received")
+@Enabled(false)
+public final class QueryEvent extends Event {
+    @Label("Kind")
+    String kind;
+
+    @Label("Query Hash")
+    @Description("Hash code of the query text")
+    int queryHash;
+
+    @Label("Answers")
+    long answers;
+
+    public QueryEvent(String kind, String query) {
+        this.kind = kind;
+        this.queryHash = query.hashCode();
+    }
+
+    /**
+     * Ends this event and commits it with the given answer count.
+     */
+    public void finish(long answers) {
+        end();
+        if (shouldCommit()) {
+            this.answers = answers;
+            commit();
+        }
+    }
+}
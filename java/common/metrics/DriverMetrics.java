@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.vaticle.typedb.driver.common.metrics;
+
+import java.time.Duration;
+
+/**
+ * Service provider interface for recording driver metrics, such as exporting them to a monitoring system.
+ * Register an implementation with <code>TypeDBDriver.metrics(DriverMetrics)</code>; sessions opened afterwards
+ * report to it, as do their transactions and queries. All methods have no-op defaults, and may be called
+ * concurrently from any thread, so implementations must be thread-safe and should not block.
+ *
+ * <p>Query kinds are <code>get</code>, <code>get_aggregate</code>, <code>get_group</code>,
+ * <code>get_group_aggregate</code>, <code>fetch</code>, <code>insert</code>, <code>update</code>,
+ * <code>delete</code>, <code>define</code> and <code>undefine</code>.
+ * Request priority lanes are <code>interactive</code> and <code>batch</code>. Kinds of admitted operations
+ * are <code>session</code>, <code>transaction</code> and <code>query</code>.</p>
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * InMemoryDriverMetrics metrics = new InMemoryDriverMetrics();
+ * driver.metrics(metrics);
+ * </pre>
+ */
+public interface DriverMetrics {
+    /**
+     * The default <code>DriverMetrics</code>, which records nothing.
+     */
+    DriverMetrics NOOP = new DriverMetrics() {};
+
+    /**
+     * Called when a session is opened.
+     */
+    default void sessionOpened() {}
+
+    /**
+     * Called when a session is closed.
+     */
+    default void sessionClosed() {}
+
+    /**
+     * Called when a transaction is opened.
+     */
+    default void transactionOpened() {}
+
+    /**
+     * Called when a transaction is closed, including by a commit.
+     */
+    default void transactionClosed() {}
+
+    /**
+     * Called when a query is sent to the server.
+     *
+     * @param kind The kind of the query
+     */
+    default void queryStarted(String kind) {}
+
+    /**
+     * Called when the first answer of a query is received.
+     *
+     * @param kind The kind of the query
+     * @param timeToFirstAnswer The time from sending the query until its first answer was received
+     */
+    default void firstAnswer(String kind, Duration timeToFirstAnswer) {}
+
+    /**
+     * Called when all answers of a query have been received, or its answer stream has been closed.
+     *
+     * @param kind The kind of the query
+     * @param streamTime The time from sending the query until its answers were exhausted or closed
+     * @param answers The number of answers received
+     */
+    default void queryCompleted(String kind, Duration streamTime, long answers) {}
+
+    /**
+     * Called when the answer stream of a query is closed before all its answers have been received,
+     * cancelling the server stream. Followed by <code>queryCompleted</code>.
+     *
+     * @param kind The kind of the query
+     */
+    default void streamCancelled(String kind) {}
+
+    /**
+     * Called when a transaction is closed, including by a commit, for each priority lane from which it sent
+     * requests to the server, with the time those requests spent queued in the driver before being sent.
+     *
+     * @param lane The request priority lane
+     * @param requests The number of requests sent from the lane
+     * @param totalDelay The total time the lane's requests spent queued
+     * @param maxDelay The longest time any of the lane's requests spent queued
+     */
+    default void queueDelay(String lane, long requests, Duration totalDelay, Duration maxDelay) {}
+
+    /**
+     * Called when a transaction is closed, including by a commit, with the peak size of the answers it had received
+     * from the server but not yet consumed, and the number of times its streams stopped requesting further answers
+     * because a response buffer limit was exceeded.
+     *
+     * @param peakBytes The peak size of the transaction's buffered answers, in bytes
+     * @param pausedContinuations The number of times the transaction's streams were paused
+     */
+    default void responseBuffer(long peakBytes, long pausedContinuations) {}
+
+    /**
+     * Called when a transaction is committed successfully.
+     *
+     * @param latency The time taken by the commit
+     */
+    default void committed(Duration latency) {}
+
+    /**
+     * Called when a transaction fails to commit because it conflicts with a concurrent transaction.
+     */
+    default void conflict() {}
+
+    /**
+     * Called when a session, transaction or query is admitted by the driver's admission control.
+     *
+     * @param resource The kind of operation admitted
+     * @param queueTime The time spent waiting to be admitted
+     */
+    default void admitted(String resource, Duration queueTime) {}
+
+    /**
+     * Called when a session, transaction or query is rejected by the driver's admission control.
+     *
+     * @param resource The kind of operation rejected
+     */
+    default void rejected(String resource) {}
+
+    /**
+     * Called for each call into the native driver library that opens or closes a session, opens, commits, rolls back
+     * or closes a transaction, starts a query, or advances a query's answer iterator. Calls that read concepts,
+     * <code>ConceptMap</code>s, values or options are not counted.
+     */
+    default void jniCall() {}
+
+    /**
+     * Called when a native session, transaction or query answer stream is created.
+     */
+    default void nativeHandleCreated() {}
+
+    /**
+     * Called when a native session, transaction or query answer stream is released.
+     */
+    default void nativeHandleReleased() {}
+}
@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.vaticle.typedb.driver.common.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <code>DriverMetrics</code> that keeps counters and latency histograms in memory, to be read back directly,
+ * for example by tests or by a periodic exporter.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * InMemoryDriverMetrics metrics = new InMemoryDriverMetrics();
+ * driver.metrics(metrics);
+ * ...
+ * metrics.timeToFirstAnswer().percentile(0.99);
+ * </pre>
+ */
+public final class InMemoryDriverMetrics implements DriverMetrics {
+    private final LongAdder openSessions = new LongAdder();
+    private final LongAdder openTransactions = new LongAdder();
+    private final Map<String, LongAdder> queries = new ConcurrentHashMap<>();
+    private final LongAdder answers = new LongAdder();
+    private final LongAdder cancelledStreams = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder jniCalls = new LongAdder();
+    private final LongAdder liveNativeHandles = new LongAdder();
+    private final LatencyHistogram timeToFirstAnswer = new LatencyHistogram();
+    private final LatencyHistogram streamTime = new LatencyHistogram();
+    private final LatencyHistogram commitLatency = new LatencyHistogram();
+    private final Map<String, QueueDelay> queueDelays = new ConcurrentHashMap<>();
+    private final LongAccumulator peakResponseBufferBytes = new LongAccumulator(Math::max, 0);
+    private final LongAdder pausedContinuations = new LongAdder();
+    private final Map<String, LatencyHistogram> admissionQueueTime = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> rejections = new ConcurrentHashMap<>();
+
+    @Override
+    public void sessionOpened() {
+        openSessions.increment();
+    }
+
+    @Override
+    public void sessionClosed() {
+        openSessions.decrement();
+    }
+
+    @Override
+    public void transactionOpened() {
+        openTransactions.increment();
+    }
+
+    @Override
+    public void transactionClosed() {
+        openTransactions.decrement();
+    }
+
+    @Override
+    public void queryStarted(String kind) {
+        queries.computeIfAbsent(kind, k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void firstAnswer(String kind, Duration timeToFirstAnswer) {
+        this.timeToFirstAnswer.record(timeToFirstAnswer);
+    }
+
+    @Override
+    public void queryCompleted(String kind, Duration streamTime, long answers) {
+        this.streamTime.record(streamTime);
+        this.answers.add(answers);
+    }
+
+    @Override
+    public void streamCancelled(String kind) {
+        cancelledStreams.increment();
+    }
+
+    @Override
+    public void queueDelay(String lane, long requests, Duration totalDelay, Duration maxDelay) {
+        QueueDelay delay = queueDelays.computeIfAbsent(lane, l -> new QueueDelay());
+        delay.requests.add(requests);
+        delay.totalNanos.add(totalDelay.toNanos());
+        delay.maxNanos.accumulate(maxDelay.toNanos());
+    }
+
+    @Override
+    public void responseBuffer(long peakBytes, long pausedContinuations) {
+        peakResponseBufferBytes.accumulate(peakBytes);
+        this.pausedContinuations.add(pausedContinuations);
+    }
+
+    @Override
+    public void committed(Duration latency) {
+        commitLatency.record(latency);
+    }
+
+    @Override
+    public void conflict() {
+        conflicts.increment();
+    }
+
+    @Override
+    public void admitted(String resource, Duration queueTime) {
+        admissionQueueTime.computeIfAbsent(resource, r -> new LatencyHistogram()).record(queueTime);
+    }
+
+    @Override
+    public void rejected(String resource) {
+        rejections.computeIfAbsent(resource, r -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void jniCall() {
+        jniCalls.increment();
+    }
+
+    @Override
+    public void nativeHandleCreated() {
+        liveNativeHandles.increment();
+    }
+
+    @Override
+    public void nativeHandleReleased() {
+        liveNativeHandles.decrement();
+    }
+
+    /**
+     * Returns the number of sessions currently open.
+     */
+    public long openSessions() {
+        return openSessions.sum();
+    }
+
+    /**
+     * Returns the number of transactions currently open.
+     */
+    public long openTransactions() {
+        return openTransactions.sum();
+    }
+
+    /**
+     * Returns the number of queries sent of the given kind.
+     *
+     * @param kind The kind of query
+     */
+    public long queries(String kind) {
+        LongAdder count = queries.get(kind);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Returns the number of queries sent, by kind.
+     */
+    public Map<String, Long> queries() {
+        Map<String, Long> counts = new TreeMap<>();
+        queries.forEach((kind, count) -> counts.put(kind, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Returns the total number of answers streamed by completed queries.
+     */
+    public long answers() {
+        return answers.sum();
+    }
+
+    /**
+     * Returns the number of answer streams closed before all their answers had been received.
+     */
+    public long cancelledStreams() {
+        return cancelledStreams.sum();
+    }
+
+    /**
+     * Returns the number of commits that failed due to conflicts with concurrent transactions.
+     */
+    public long conflicts() {
+        return conflicts.sum();
+    }
+
+    /**
+     * Returns the number of calls made into the native driver library by session and transaction lifecycle operations,
+     * query starts and answer iterator advances. Calls that read concepts, <code>ConceptMap</code>s, values or options
+     * are not counted.
+     */
+    public long jniCalls() {
+        return jniCalls.sum();
+    }
+
+    /**
+     * Returns the number of native sessions, transactions and query answer streams currently alive.
+     */
+    public long liveNativeHandles() {
+        return liveNativeHandles.sum();
+    }
+
+    /**
+     * Returns the histogram of times from sending a query until its first answer was received.
+     */
+    public LatencyHistogram timeToFirstAnswer() {
+        return timeToFirstAnswer;
+    }
+
+    /**
+     * Returns the histogram of times from sending a query until its answers were exhausted or closed.
+     */
+    public LatencyHistogram streamTime() {
+        return streamTime;
+    }
+
+    /**
+     * Returns the histogram of successful commit latencies.
+     */
+    public LatencyHistogram commitLatency() {
+        return commitLatency;
+    }
+
+    /**
+     * Returns the number of requests sent to the server from the given priority lane, by closed transactions.
+     *
+     * @param lane The request priority lane
+     */
+    public long queuedRequests(String lane) {
+        QueueDelay delay = queueDelays.get(lane);
+        return delay == null ? 0 : delay.requests.sum();
+    }
+
+    /**
+     * Returns the mean time requests sent from the given priority lane spent queued in the driver,
+     * by closed transactions.
+     *
+     * @param lane The request priority lane
+     */
+    public Duration meanQueueDelay(String lane) {
+        QueueDelay delay = queueDelays.get(lane);
+        long requests = delay == null ? 0 : delay.requests.sum();
+        return requests == 0 ? Duration.ZERO : Duration.ofNanos(delay.totalNanos.sum() / requests);
+    }
+
+    /**
+     * Returns the longest time any request sent from the given priority lane spent queued in the driver,
+     * by closed transactions. A growing maximum for the <code>batch</code> lane indicates starvation
+     * by interactive requests.
+     *
+     * @param lane The request priority lane
+     */
+    public Duration maxQueueDelay(String lane) {
+        QueueDelay delay = queueDelays.get(lane);
+        return delay == null ? Duration.ZERO : Duration.ofNanos(delay.maxNanos.get());
+    }
+
+    /**
+     * Returns the largest peak size, in bytes, of the answers any closed transaction had received
+     * but not yet consumed.
+     */
+    public long peakResponseBufferBytes() {
+        return peakResponseBufferBytes.get();
+    }
+
+    /**
+     * Returns the number of times streams of closed transactions stopped requesting further answers
+     * because a response buffer limit was exceeded.
+     */
+    public long pausedContinuations() {
+        return pausedContinuations.sum();
+    }
+
+    /**
+     * Returns the histogram of times sessions, transactions or queries waited to be admitted
+     * by the driver's admission control.
+     *
+     * @param resource The kind of operation: <code>session</code>, <code>transaction</code> or <code>query</code>
+     */
+    public LatencyHistogram admissionQueueTime(String resource) {
+        return admissionQueueTime.computeIfAbsent(resource, r -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the number of sessions, transactions or queries rejected by the driver's admission control.
+     *
+     * @param resource The kind of operation: <code>session</code>, <code>transaction</code> or <code>query</code>
+     */
+    public long rejections(String resource) {
+        LongAdder count = rejections.get(resource);
+        return count == null ? 0 : count.sum();
+    }
+
+    private static class QueueDelay {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.vaticle.typedb.driver.common.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A concurrent histogram of durations with bounded relative error, in the manner of an HDR histogram.
+ * Values are bucketed by their power of two, and each power of two is divided into
+ * <code>2^SUB_BUCKET_BITS</code> linear sub-buckets, so that recorded values are reproduced within
+ * about 2% of their true value. Values are recorded in nanoseconds, up to <code>Long.MAX_VALUE</code>.
+ * It is written here rather than taken from HdrHistogram so that metrics add no runtime dependency
+ * to the published driver.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = Long.SIZE - SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray((BUCKET_COUNT + 1) * SUB_BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a duration. Negative durations are recorded as zero.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * histogram.record(duration);
+     * </pre>
+     *
+     * @param duration The duration to record
+     */
+    public void record(Duration duration) {
+        long nanos = Math.max(0, saturatedNanos(duration));
+        counts.incrementAndGet(indexOf(nanos));
+        totalCount.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Returns the number of durations recorded.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * histogram.count();
+     * </pre>
+     */
+    public long count() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the largest duration recorded, or zero if none have been recorded.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * histogram.max();
+     * </pre>
+     */
+    public Duration max() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * Returns the mean of the durations recorded, or zero if none have been recorded.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * histogram.mean();
+     * </pre>
+     */
+    public Duration mean() {
+        long count = totalCount.get();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.get() / count);
+    }
+
+    /**
+     * Returns the given percentile of the durations recorded, or zero if none have been recorded.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * histogram.percentile(0.99);
+     * </pre>
+     *
+     * @param percentile The percentile, between 0 and 1
+     */
+    public Duration percentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) return Duration.ZERO;
+        long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 1) * count));
+        long seen = 0;
+        for (int index = 0; index < counts.length(); index++) {
+            seen += counts.get(index);
+            if (seen >= rank) return Duration.ofNanos(Math.min(highestEquivalentValue(index), maxNanos.get()));
+        }
+        return max();
+    }
+
+    /**
+     * Discards all recorded durations.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * histogram.reset();
+     * </pre>
+     */
+    public void reset() {
+        for (int index = 0; index < counts.length(); index++) counts.set(index, 0);
+        totalCount.set(0);
+        totalNanos.set(0);
+        maxNanos.set(0);
+    }
+
+    private static int indexOf(long value) {
+        int bucket = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        int subBucket = (int) (value >>> bucket);
+        return bucket * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long highestEquivalentValue(int index) {
+        int bucket = index / SUB_BUCKET_COUNT;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << bucket) - 1;
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return duration.isNegative() ? 0 : Long.MAX_VALUE;
+        }
+    }
+}
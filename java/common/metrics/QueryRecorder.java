@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.vaticle.typedb.driver.common.metrics;
+
+import com.vaticle.typedb.driver.common.admission.AdmissionControl;
+import com.vaticle.typedb.driver.common.jfr.QueryEvent;
+import com.vaticle.typedb.driver.common.tracing.DriverTracer;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+
+/**
+ * Records the lifecycle of a single query, from sending it to the server until its answers are exhausted
+ * or its answer stream is closed, to the driver metrics, the driver tracer, the slow query log and the Java Flight Recorder,
+ * and releases its admission once it finishes.
+ */
+public final class QueryRecorder {
+    private final DriverMetrics metrics;
+    private final String kind;
+    private final QueryEvent event;
+    private final DriverTracer.Span span;
+    private final @Nullable SlowQueryLog.Sample sample;
+    private final @Nullable AdmissionControl.Permit permit;
+    private final long startNanos;
+    private @Nullable Duration timeToFirstAnswer;
+    private long waitNanos;
+    private boolean isStreamOpen;
+    private boolean isAnswered;
+    private boolean isFailed;
+    private boolean isFinished;
+
+    private QueryRecorder(DriverMetrics metrics, DriverTracer.Span span, @Nullable SlowQueryLog.Sample sample,
+                          @Nullable AdmissionControl.Permit permit, String kind, String query) {
+        this.metrics = metrics;
+        this.kind = kind;
+        this.event = new QueryEvent(kind, query);
+        this.span = span;
+        this.sample = sample;
+        this.permit = permit;
+        this.startNanos = System.nanoTime();
+    }
+
+    public static QueryRecorder start(DriverMetrics metrics, DriverTracer tracer, @Nullable SlowQueryLog.Sample sample,
+                                      @Nullable AdmissionControl.Permit permit, String database, String kind, String query) {
+        DriverTracer.Span span = tracer.startSpan(DriverTracer.QUERY)
+                .setAttribute(DriverTracer.DATABASE, database)
+                .setAttribute(DriverTracer.QUERY_KIND, kind);
+        QueryRecorder recorder = new QueryRecorder(metrics, span, sample, permit, kind, query);
+        recorder.event.begin();
+        metrics.queryStarted(kind);
+        metrics.jniCall();
+        return recorder;
+    }
+
+    public synchronized void streamOpened() {
+        isStreamOpen = true;
+        metrics.nativeHandleCreated();
+    }
+
+    public void advanced() {
+        metrics.jniCall();
+    }
+
+    /**
+     * Records time spent blocked waiting on the server for the next answer.
+     */
+    public synchronized void waited(long nanos) {
+        waitNanos += nanos;
+    }
+
+    public synchronized void answered() {
+        if (isAnswered) return;
+        isAnswered = true;
+        timeToFirstAnswer = elapsed();
+        metrics.firstAnswer(kind, timeToFirstAnswer);
+    }
+
+    public synchronized void finish(long answers) {
+        if (isFinished) return;
+        isFinished = true;
+        Duration elapsed = elapsed();
+        event.finish(answers);
+        metrics.queryCompleted(kind, elapsed, answers);
+        if (sample != null) sample.finished(timeToFirstAnswer, elapsed, Duration.ofNanos(waitNanos), answers);
+        if (isStreamOpen) metrics.nativeHandleReleased();
+        span.setAttribute(DriverTracer.ANSWERS, answers);
+        span.end();
+        if (permit != null) permit.release(timeToFirstAnswer != null ? timeToFirstAnswer : Duration.ofNanos(waitNanos), isFailed);
+    }
+
+    /**
+     * Records that the answer stream was closed before all answers were received.
+     */
+    public synchronized void cancel(long answers) {
+        if (!isFinished) metrics.streamCancelled(kind);
+        finish(answers);
+    }
+
+    public synchronized void fail(Exception error, long answers) {
+        if (!isFinished) {
+            span.recordError(error);
+            isFailed = true;
+        }
+        finish(answers);
+    }
+
+    private Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.driver.common.metrics;
+
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.INVALID_SAMPLE_RATE;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.NEGATIVE_DURATION;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+
+/**
+ * Reports queries whose time to first answer or total stream time, and commits whose latency, exceed
+ * configurable thresholds. Each report breaks the stream time down into the time spent waiting
+ * on the server for answers and the time spent by the application consuming them.
+ * Only a sampled fraction of queries and commits is checked, and unset thresholds are never exceeded.
+ * By default, reports are logged as warnings.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * driver.slowQueryLog(new SlowQueryLog().firstAnswerThreshold(Duration.ofMillis(200)).sampleRate(0.1));
+ * </pre>
+ */
+public final class SlowQueryLog {
+    private static final Logger LOG = LoggerFactory.getLogger(SlowQueryLog.class);
+    private static final int DEFAULT_MAX_QUERY_LENGTH = 256;
+
+    private volatile @Nullable Duration firstAnswerThreshold;
+    private volatile @Nullable Duration streamThreshold;
+    private volatile @Nullable Duration commitThreshold;
+    private volatile double sampleRate = 1.0;
+    private volatile int maxQueryLength = DEFAULT_MAX_QUERY_LENGTH;
+    private volatile Consumer<SlowQuery> reporter = SlowQueryLog::log;
+
+    /**
+     * Reports queries whose first answer takes longer than the given threshold to arrive.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * slowQueryLog.firstAnswerThreshold(Duration.ofMillis(200));
+     * </pre>
+     *
+     * @param threshold The threshold, or <code>null</code> to not check time to first answer
+     */
+    public SlowQueryLog firstAnswerThreshold(@Nullable Duration threshold) {
+        this.firstAnswerThreshold = validated(threshold);
+        return this;
+    }
+
+    /**
+     * Reports queries whose answers take longer than the given threshold to be received and consumed in full.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * slowQueryLog.streamThreshold(Duration.ofSeconds(2));
+     * </pre>
+     *
+     * @param threshold The threshold, or <code>null</code> to not check total stream time
+     */
+    public SlowQueryLog streamThreshold(@Nullable Duration threshold) {
+        this.streamThreshold = validated(threshold);
+        return this;
+    }
+
+    /**
+     * Reports commits that take longer than the given threshold.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * slowQueryLog.commitThreshold(Duration.ofMillis(500));
+     * </pre>
+     *
+     * @param threshold The threshold, or <code>null</code> to not check commits
+     */
+    public SlowQueryLog commitThreshold(@Nullable Duration threshold) {
+        this.commitThreshold = validated(threshold);
+        return this;
+    }
+
+    /**
+     * Sets the fraction of queries and commits that are checked against the thresholds. Defaults to 1.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * slowQueryLog.sampleRate(0.1);
+     * </pre>
+     *
+     * @param sampleRate The fraction, between 0 and 1, of queries and commits to check
+     */
+    public SlowQueryLog sampleRate(double sampleRate) {
+        if (!(sampleRate >= 0 && sampleRate <= 1)) throw new TypeDBDriverException(INVALID_SAMPLE_RATE, sampleRate);
+        this.sampleRate = sampleRate;
+        return this;
+    }
+
+    /**
+     * Sets the number of characters of query text kept in reports, after which it is truncated. Defaults to 256.
+     * Reports also carry the hash of the full query text.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * slowQueryLog.maxQueryLength(1024);
+     * </pre>
+     *
+     * @param maxQueryLength The number of characters of query text to keep
+     */
+    public SlowQueryLog maxQueryLength(int maxQueryLength) {
+        if (maxQueryLength < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, maxQueryLength);
+        this.maxQueryLength = maxQueryLength;
+        return this;
+    }
+
+    /**
+     * Sets the function that slow queries and commits are reported to, instead of logging them.
+     * It is called from the thread that finished the query, so it should not block.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * slowQueryLog.reporter(slowQueries::add);
+     * </pre>
+     *
+     * @param reporter The function to report slow queries to
+     */
+    public SlowQueryLog reporter(Consumer<SlowQuery> reporter) {
+        this.reporter = reporter == null ? SlowQueryLog::log : reporter;
+        return this;
+    }
+
+    /**
+     * Decides whether a query is sampled. Only then should its options be read and its <code>Sample</code> created,
+     * since reading the options of a query calls into the native driver library.
+     *
+     * @hidden
+     */
+    public boolean isQuerySampled() {
+        if (firstAnswerThreshold == null && streamThreshold == null) return false;
+        return isSampled();
+    }
+
+    /**
+     * Creates the sample of a query that was sampled, to complete once the query finishes.
+     *
+     * @hidden
+     */
+    public Sample sample(String database, String kind, String query, Optional<Boolean> infer,
+                         Optional<Boolean> parallel, Optional<Integer> prefetchSize) {
+        return new Sample(database, kind, query, infer, parallel, prefetchSize);
+    }
+
+    /**
+     * Checks a commit against the commit threshold, reporting it if sampled and slower.
+     *
+     * @hidden
+     */
+    public void committed(String database, Duration latency) {
+        Duration threshold = commitThreshold;
+        if (threshold == null || latency.compareTo(threshold) <= 0 || !isSampled()) return;
+        reporter.accept(new SlowQuery(database, "commit", null, 0, Optional.empty(), Optional.empty(),
+                Optional.empty(), null, latency, latency, 0));
+    }
+
+    private boolean isSampled() {
+        double rate = sampleRate;
+        return rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private static @Nullable Duration validated(@Nullable Duration threshold) {
+        if (threshold != null && threshold.isNegative()) throw new TypeDBDriverException(NEGATIVE_DURATION, threshold);
+        return threshold;
+    }
+
+    private static void log(SlowQuery slowQuery) {
+        LOG.warn("{}", slowQuery);
+    }
+
+    /**
+     * A sampled query in progress.
+     *
+     * @hidden
+     */
+    public final class Sample {
+        private final String database;
+        private final String kind;
+        private final String query;
+        private final Optional<Boolean> infer;
+        private final Optional<Boolean> parallel;
+        private final Optional<Integer> prefetchSize;
+
+        private Sample(String database, String kind, String query, Optional<Boolean> infer,
+                       Optional<Boolean> parallel, Optional<Integer> prefetchSize) {
+            this.database = database;
+            this.kind = kind;
+            this.query = query;
+            this.infer = infer;
+            this.parallel = parallel;
+            this.prefetchSize = prefetchSize;
+        }
+
+        void finished(@Nullable Duration timeToFirstAnswer, Duration streamTime, Duration waitTime, long answers) {
+            Duration firstAnswer = firstAnswerThreshold, stream = streamThreshold;
+            boolean isSlowToAnswer = firstAnswer != null && timeToFirstAnswer != null && timeToFirstAnswer.compareTo(firstAnswer) > 0;
+            boolean isSlowToStream = stream != null && streamTime.compareTo(stream) > 0;
+            if (!isSlowToAnswer && !isSlowToStream) return;
+            String text = query.length() > maxQueryLength ? query.substring(0, maxQueryLength) + "..." : query;
+            reporter.accept(new SlowQuery(database, kind, text, query.hashCode(), infer, parallel, prefetchSize,
+                    timeToFirstAnswer, streamTime, waitTime, answers));
+        }
+    }
+
+    /**
+     * A query or commit that exceeded a threshold of the <code>SlowQueryLog</code>.
+     */
+    public static final class SlowQuery {
+        private final String database;
+        private final String kind;
+        private final @Nullable String query;
+        private final int queryHash;
+        private final Optional<Boolean> infer;
+        private final Optional<Boolean> parallel;
+        private final Optional<Integer> prefetchSize;
+        private final @Nullable Duration timeToFirstAnswer;
+        private final Duration streamTime;
+        private final Duration waitTime;
+        private final long answers;
+
+        private SlowQuery(String database, String kind, @Nullable String query, int queryHash, Optional<Boolean> infer,
+                          Optional<Boolean> parallel, Optional<Integer> prefetchSize, @Nullable Duration timeToFirstAnswer,
+                          Duration streamTime, Duration waitTime, long answers) {
+            this.database = database;
+            this.kind = kind;
+            this.query = query;
+            this.queryHash = queryHash;
+            this.infer = infer;
+            this.parallel = parallel;
+            this.prefetchSize = prefetchSize;
+            this.timeToFirstAnswer = timeToFirstAnswer;
+            this.streamTime = streamTime;
+            this.waitTime = waitTime;
+            this.answers = answers;
+        }
+
+        /**
+         * Returns the name of the database the query ran against.
+         */
+        public String database() {
+            return database;
+        }
+
+        /**
+         * Returns the kind of query, such as <code>get</code> or <code>insert</code>, or <code>commit</code> for commits.
+         */
+        public String kind() {
+            return kind;
+        }
+
+        /**
+         * Returns the query text, truncated to the maximum query length. Empty for commits.
+         */
+        public Optional<String> query() {
+            return Optional.ofNullable(query);
+        }
+
+        /**
+         * Returns the hash code of the full query text.
+         */
+        public int queryHash() {
+            return queryHash;
+        }
+
+        /**
+         * Returns the <code>infer</code> option the query ran with, if set.
+         */
+        public Optional<Boolean> infer() {
+            return infer;
+        }
+
+        /**
+         * Returns the <code>parallel</code> option the query ran with, if set.
+         */
+        public Optional<Boolean> parallel() {
+            return parallel;
+        }
+
+        /**
+         * Returns the <code>prefetchSize</code> option the query ran with, if set.
+         */
+        public Optional<Integer> prefetchSize() {
+            return prefetchSize;
+        }
+
+        /**
+         * Returns the time from sending the query until its first answer was received, if it had any.
+         */
+        public Optional<Duration> timeToFirstAnswer() {
+            return Optional.ofNullable(timeToFirstAnswer);
+        }
+
+        /**
+         * Returns the time from sending the query until its answers were exhausted or its stream was closed.
+         */
+        public Duration streamTime() {
+            return streamTime;
+        }
+
+        /**
+         * Returns the part of the stream time spent waiting on the server for answers.
+         */
+        public Duration waitTime() {
+            return waitTime;
+        }
+
+        /**
+         * Returns the part of the stream time spent by the application consuming answers.
+         */
+        public Duration consumerTime() {
+            return streamTime.minus(waitTime);
+        }
+
+        /**
+         * Returns the number of answers received.
+         */
+        public long answers() {
+            return answers;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("Slow ").append(kind).append(" on database '").append(database).append("'");
+            if (query == null) return builder.append(" in ").append(streamTime.toMillis()).append("ms").toString();
+            if (timeToFirstAnswer != null) builder.append(": first answer in ").append(timeToFirstAnswer.toMillis()).append("ms,");
+            else builder.append(":");
+            builder.append(" finished in ").append(streamTime.toMillis()).append("ms (waiting ").append(waitTime.toMillis())
+                    .append("ms, consuming ").append(consumerTime().toMillis()).append("ms)");
+            builder.append(" with ").append(answers).append(" answers");
+            infer.ifPresent(infer -> builder.append(", infer=").append(infer));
+            parallel.ifPresent(parallel -> builder.append(", parallel=").append(parallel));
+            prefetchSize.ifPresent(prefetchSize -> builder.append(", prefetchSize=").append(prefetchSize));
+            return builder.append(", query #").append(Integer.toHexString(queryHash)).append(": ").append(query).toString();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.vaticle.typedb.driver.common.tracing;
+
+/**
+ * Hook for tracing driver operations, to bridge them into any distributed tracing system.
+ * Register an implementation with <code>TypeDBDriver.tracer(DriverTracer)</code>; sessions opened afterwards
+ * start spans with it around opening sessions and transactions, each query and each commit.
+ * Implementations may be called concurrently from any thread, so they must be thread-safe and should not block.
+ *
+ * <p>Spans are named <code>typedb.session.open</code>, <code>typedb.transaction.open</code>,
+ * <code>typedb.query</code> and <code>typedb.transaction.commit</code>, and carry the attributes
+ * defined as constants in this interface, where applicable.</p>
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * InMemorySpanExporter exporter = new InMemorySpanExporter();
+ * driver.tracer(exporter);
+ * </pre>
+ */
+public interface DriverTracer {
+    /**
+     * The default <code>DriverTracer</code>, which records nothing.
+     */
+    DriverTracer NOOP = name -> Span.NOOP;
+
+    String SESSION_OPEN = "typedb.session.open";
+    String TRANSACTION_OPEN = "typedb.transaction.open";
+    String QUERY = "typedb.query";
+    String COMMIT = "typedb.transaction.commit";
+
+    String DATABASE = "db.name";
+    String SESSION_TYPE = "typedb.session.type";
+    String TRANSACTION_TYPE = "typedb.transaction.type";
+    String QUERY_KIND = "typedb.query.kind";
+    String ANSWERS = "typedb.query.answers";
+    String REPLICA = "typedb.replica";
+    String RETRIES = "typedb.retries";
+
+    /**
+     * Starts a span for an operation. The span must be ended by the caller.
+     *
+     * @param name The name of the operation
+     */
+    Span startSpan(String name);
+
+    /**
+     * A traced operation in progress.
+     */
+    interface Span {
+        /**
+         * A span which records nothing.
+         */
+        Span NOOP = new Span() {};
+
+        /**
+         * Sets a string attribute on this span.
+         *
+         * @param key The attribute name
+         * @param value The attribute value
+         */
+        default Span setAttribute(String key, String value) {
+            return this;
+        }
+
+        /**
+         * Sets a numeric attribute on this span.
+         *
+         * @param key The attribute name
+         * @param value The attribute value
+         */
+        default Span setAttribute(String key, long value) {
+            return this;
+        }
+
+        /**
+         * Records that the operation failed with the given error.
+         *
+         * @param error The error
+         */
+        default void recordError(Throwable error) {}
+
+        /**
+         * Ends this span.
+         */
+        default void end() {}
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.vaticle.typedb.driver.common.tracing;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <code>DriverTracer</code> that keeps ended spans in memory, to be read back directly, for example by tests.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * InMemorySpanExporter exporter = new InMemorySpanExporter();
+ * driver.tracer(exporter);
+ * ...
+ * exporter.finishedSpans();
+ * </pre>
+ */
+public final class InMemorySpanExporter implements DriverTracer {
+    private final List<RecordedSpan> finishedSpans = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public Span startSpan(String name) {
+        return new InMemorySpan(name);
+    }
+
+    /**
+     * Returns the spans ended so far, in the order they ended.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * exporter.finishedSpans();
+     * </pre>
+     */
+    public List<RecordedSpan> finishedSpans() {
+        synchronized (finishedSpans) {
+            return new ArrayList<>(finishedSpans);
+        }
+    }
+
+    /**
+     * Discards all ended spans.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * exporter.reset();
+     * </pre>
+     */
+    public void reset() {
+        finishedSpans.clear();
+    }
+
+    private class InMemorySpan implements Span {
+        private final String name;
+        private final Instant start;
+        private final long startNanos;
+        private final Map<String, Object> attributes;
+        private @Nullable Throwable error;
+        private boolean isEnded;
+
+        private InMemorySpan(String name) {
+            this.name = name;
+            this.start = Instant.now();
+            this.startNanos = System.nanoTime();
+            this.attributes = new LinkedHashMap<>();
+        }
+
+        @Override
+        public synchronized Span setAttribute(String key, String value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public synchronized Span setAttribute(String key, long value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public synchronized void recordError(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public synchronized void end() {
+            if (isEnded) return;
+            isEnded = true;
+            Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+            finishedSpans.add(new RecordedSpan(name, start, duration, Map.copyOf(attributes), error));
+        }
+    }
+
+    /**
+     * A span that has ended.
+     */
+    public static final class RecordedSpan {
+        private final String name;
+        private final Instant start;
+        private final Duration duration;
+        private final Map<String, Object> attributes;
+        private final @Nullable Throwable error;
+
+        private RecordedSpan(String name, Instant start, Duration duration, Map<String, Object> attributes, @Nullable Throwable error) {
+            this.name = name;
+            this.start = start;
+            this.duration = duration;
+            this.attributes = attributes;
+            this.error = error;
+        }
+
+        /**
+         * Returns the name of the operation.
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Returns the time at which the span started.
+         */
+        public Instant start() {
+            return start;
+        }
+
+        /**
+         * Returns the duration of the span.
+         */
+        public Duration duration() {
+            return duration;
+        }
+
+        /**
+         * Returns the attributes set on the span.
+         */
+        public Map<String, Object> attributes() {
+            return attributes;
+        }
+
+        /**
+         * Returns the error recorded on the span, if any.
+         */
+        public Optional<Throwable> error() {
+            return Optional.ofNullable(error);
+        }
+
+        @Override
+        public String toString() {
+            return name + attributes + " in " + duration;
+        }
+    }
+}
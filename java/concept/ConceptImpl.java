@@ -26,6 +26,7 @@ import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 import com.vaticle.typedb.driver.concept.thing.AttributeImpl;
 import com.vaticle.typedb.driver.concept.thing.EntityImpl;
 import com.vaticle.typedb.driver.concept.thing.RelationImpl;
+import com.vaticle.typedb.driver.concept.thing.ThingIdentityMap;
 import com.vaticle.typedb.driver.concept.type.AttributeTypeImpl;
 import com.vaticle.typedb.driver.concept.type.EntityTypeImpl;
 import com.vaticle.typedb.driver.concept.type.RelationTypeImpl;
@@ -58,6 +59,10 @@ public abstract class ConceptImpl extends NativeObject<com.vaticle.typedb.driver
         return nativeTransaction;
     }
 
+    protected static ThingIdentityMap identityMap(TypeDBTransaction transaction) {
+        return ((ConceptManagerImpl) transaction.concepts()).identityMap;
+    }
+
     public static ConceptImpl of(com.vaticle.typedb.driver.jni.Concept concept) {
         if (concept_is_entity_type(concept)) return new EntityTypeImpl(concept);
         else if (concept_is_relation_type(concept)) return new RelationTypeImpl(concept);
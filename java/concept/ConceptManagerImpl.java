@@ -19,8 +19,16 @@
 
 package com.vaticle.typedb.driver.concept;
 
+import com.vaticle.typedb.common.collection.Pair;
 import com.vaticle.typedb.driver.api.concept.ConceptManager;
+import com.vaticle.typedb.driver.api.concept.thing.Attribute;
+import com.vaticle.typedb.driver.api.concept.thing.Entity;
+import com.vaticle.typedb.driver.api.concept.thing.Relation;
+import com.vaticle.typedb.driver.api.concept.thing.Thing;
+import com.vaticle.typedb.driver.api.concept.type.AttributeType;
+import com.vaticle.typedb.driver.api.concept.type.RoleType;
 import com.vaticle.typedb.driver.api.concept.value.Value;
+import com.vaticle.typedb.driver.common.IID;
 import com.vaticle.typedb.driver.common.NativeIterator;
 import com.vaticle.typedb.driver.common.Promise;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
@@ -28,37 +36,66 @@ import com.vaticle.typedb.driver.common.exception.TypeDBException;
 import com.vaticle.typedb.driver.concept.thing.AttributeImpl;
 import com.vaticle.typedb.driver.concept.thing.EntityImpl;
 import com.vaticle.typedb.driver.concept.thing.RelationImpl;
+import com.vaticle.typedb.driver.concept.thing.ThingIdentityMap;
+import com.vaticle.typedb.driver.concept.thing.ThingImpl;
 import com.vaticle.typedb.driver.concept.type.AttributeTypeImpl;
 import com.vaticle.typedb.driver.concept.type.EntityTypeImpl;
 import com.vaticle.typedb.driver.concept.type.RelationTypeImpl;
+import com.vaticle.typedb.driver.concept.type.RoleTypeImpl;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Concept.MISSING_IID;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Concept.MISSING_LABEL;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_attribute;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_attribute_type;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_attributes;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_entities;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_entity;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_entity_type;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_relation;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_relation_type;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_relations;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_root_attribute_type;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_root_entity_type;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_root_relation_type;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_schema_exceptions;
+import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_get_things;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_put_attribute_type;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_put_entity_type;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concepts_put_relation_type;
+import static com.vaticle.typedb.driver.jni.typedb_driver.optional_concept_get;
+import static com.vaticle.typedb.driver.jni.typedb_driver.relation_get_role_players;
+import static com.vaticle.typedb.driver.jni.typedb_driver.role_player_get_player;
+import static com.vaticle.typedb.driver.jni.typedb_driver.role_player_get_role_type;
 import static com.vaticle.typedb.driver.jni.typedb_driver.schema_exception_code;
 import static com.vaticle.typedb.driver.jni.typedb_driver.schema_exception_message;
+import static com.vaticle.typedb.driver.jni.typedb_driver.thing_get_has;
 
 public final class ConceptManagerImpl implements ConceptManager {
+    private static final int MAX_LOOKUPS_IN_FLIGHT = 32;
+
     final com.vaticle.typedb.driver.jni.Transaction nativeTransaction;
+    final ThingIdentityMap identityMap;
 
-    public ConceptManagerImpl(com.vaticle.typedb.driver.jni.Transaction nativeTransaction) {
+    public ConceptManagerImpl(com.vaticle.typedb.driver.jni.Transaction nativeTransaction, ThingIdentityMap identityMap) {
         this.nativeTransaction = nativeTransaction;
+        this.identityMap = identityMap;
     }
 
     @Override
@@ -122,23 +159,171 @@ public final class ConceptManagerImpl implements ConceptManager {
     public Promise<EntityImpl> getEntity(String iid) {
         if (iid == null || iid.isEmpty()) throw new TypeDBDriverException(MISSING_IID);
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
-        return Promise.map(concepts_get_entity(nativeTransaction, iid), EntityImpl::new);
+        return Promise.map(concepts_get_entity(nativeTransaction, iid), e -> identityMap.canonical(new EntityImpl(e), iid));
+    }
+
+    @Override
+    public Promise<EntityImpl> getEntity(IID iid) {
+        if (iid == null) throw new TypeDBDriverException(MISSING_IID);
+        return getEntity(iid.toString());
     }
 
     @Override
     public Promise<RelationImpl> getRelation(String iid) {
         if (iid == null || iid.isEmpty()) throw new TypeDBDriverException(MISSING_IID);
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
-        return Promise.map(concepts_get_relation(nativeTransaction, iid), RelationImpl::new);
+        return Promise.map(concepts_get_relation(nativeTransaction, iid), r -> identityMap.canonical(new RelationImpl(r), iid));
+    }
+
+    @Override
+    public Promise<RelationImpl> getRelation(IID iid) {
+        if (iid == null) throw new TypeDBDriverException(MISSING_IID);
+        return getRelation(iid.toString());
     }
 
     @Override
     public Promise<AttributeImpl> getAttribute(String iid) {
         if (iid == null || iid.isEmpty()) throw new TypeDBDriverException(MISSING_IID);
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
-        return Promise.map(concepts_get_attribute(nativeTransaction, iid), AttributeImpl::new);
+        return Promise.map(concepts_get_attribute(nativeTransaction, iid), a -> identityMap.canonical(new AttributeImpl(a), iid));
+    }
+
+    @Override
+    public Promise<AttributeImpl> getAttribute(IID iid) {
+        if (iid == null) throw new TypeDBDriverException(MISSING_IID);
+        return getAttribute(iid.toString());
+    }
+
+    @Override
+    public Stream<Optional<Thing>> getThings(Collection<String> iids) {
+        List<IID> requested = parseIIDs(iids);
+        if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        try {
+            Iterator<IID> requestedIIDs = requested.iterator();
+            return new NativeIterator<>(concepts_get_things(nativeTransaction, toStrings(requested))).stream()
+                    .map(lookup -> {
+                        IID iid = requestedIIDs.next();
+                        return Optional.ofNullable(optional_concept_get(lookup)).map(concept -> (Thing) identityMap.canonical(ThingImpl.of(concept), iid));
+                    });
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public Stream<Optional<Entity>> getEntities(Collection<String> iids) {
+        List<IID> requested = parseIIDs(iids);
+        if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        try {
+            Iterator<IID> requestedIIDs = requested.iterator();
+            return new NativeIterator<>(concepts_get_entities(nativeTransaction, toStrings(requested))).stream()
+                    .map(lookup -> {
+                        IID iid = requestedIIDs.next();
+                        return Optional.ofNullable(optional_concept_get(lookup)).map(concept -> (Entity) identityMap.canonical(new EntityImpl(concept), iid));
+                    });
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
     }
 
+    @Override
+    public Stream<Optional<Relation>> getRelations(Collection<String> iids) {
+        List<IID> requested = parseIIDs(iids);
+        if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        try {
+            Iterator<IID> requestedIIDs = requested.iterator();
+            return new NativeIterator<>(concepts_get_relations(nativeTransaction, toStrings(requested))).stream()
+                    .map(lookup -> {
+                        IID iid = requestedIIDs.next();
+                        return Optional.ofNullable(optional_concept_get(lookup)).map(concept -> (Relation) identityMap.canonical(new RelationImpl(concept), iid));
+                    });
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public Stream<Optional<Attribute>> getAttributes(Collection<String> iids) {
+        List<IID> requested = parseIIDs(iids);
+        if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        try {
+            Iterator<IID> requestedIIDs = requested.iterator();
+            return new NativeIterator<>(concepts_get_attributes(nativeTransaction, toStrings(requested))).stream()
+                    .map(lookup -> {
+                        IID iid = requestedIIDs.next();
+                        return Optional.ofNullable(optional_concept_get(lookup)).map(concept -> (Attribute) identityMap.canonical(new AttributeImpl(concept), iid));
+                    });
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public Map<Thing, List<Attribute>> getHas(Collection<? extends Thing> things, AttributeType... attributeTypes) {
+        if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        com.vaticle.typedb.driver.jni.Concept[] attributeTypesArray = Arrays.stream(attributeTypes).map(at -> ((AttributeTypeImpl) at).nativeObject).toArray(com.vaticle.typedb.driver.jni.Concept[]::new);
+        return lookupEach(things,
+                thing -> thing_get_has(nativeTransaction, ((ThingImpl) thing).nativeObject, attributeTypesArray, new com.vaticle.typedb.driver.jni.Annotation[0]),
+                attributes -> attributes.stream().map(attribute -> (Attribute) identityMap.canonical(new AttributeImpl(attribute))).collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Map<Relation, Map<RoleType, List<Thing>>> getPlayers(Collection<? extends Relation> relations) {
+        if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        Map<RoleTypeImpl, RoleTypeImpl> roleTypes = new HashMap<>();
+        return lookupEach(relations, relation -> relation_get_role_players(nativeTransaction, ((RelationImpl) relation).nativeObject), rolePlayers -> {
+            Map<RoleType, List<Thing>> rolePlayerMap = new HashMap<>();
+            rolePlayers.forEachRemaining(rolePlayer -> {
+                RoleTypeImpl roleType = roleTypes.computeIfAbsent(new RoleTypeImpl(role_player_get_role_type(rolePlayer)), rt -> rt);
+                ThingImpl player = identityMap.canonical(ThingImpl.of(role_player_get_player(rolePlayer)));
+                rolePlayerMap.computeIfAbsent(roleType, rt -> new ArrayList<>()).add(player);
+            });
+            return rolePlayerMap;
+        });
+    }
+
+    /**
+     * Opens one lookup per distinct key, keeping at most {@code MAX_LOOKUPS_IN_FLIGHT} open at once, and collects
+     * their answers in the order of the keys. Every lookup opened is closed before returning, including on failure.
+     */
+    private static <K, T, V> Map<K, V> lookupEach(Collection<? extends K> keys, NativeLookup<K, T> open, Function<NativeIterator<T>, V> collect) {
+        Iterator<K> pending = new LinkedHashSet<K>(keys).iterator();
+        Deque<Pair<K, NativeIterator<T>>> inFlight = new ArrayDeque<>();
+        Map<K, V> results = new LinkedHashMap<>();
+        try {
+            while (pending.hasNext() || !inFlight.isEmpty()) {
+                while (inFlight.size() < MAX_LOOKUPS_IN_FLIGHT && pending.hasNext()) {
+                    K key = pending.next();
+                    inFlight.addLast(new Pair<>(key, new NativeIterator<>(open.apply(key))));
+                }
+                Pair<K, NativeIterator<T>> next = inFlight.peekFirst();
+                results.put(next.first(), collect.apply(next.second()));
+                inFlight.removeFirst().second().close();
+            }
+            return results;
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        } finally {
+            inFlight.forEach(lookup -> lookup.second().close());
+        }
+    }
+
+    @FunctionalInterface
+    private interface NativeLookup<K, T> {
+        Iterator<T> apply(K key) throws com.vaticle.typedb.driver.jni.Error;
+    }
+
+    private static List<IID> parseIIDs(Collection<String> iids) {
+        if (iids == null) throw new TypeDBDriverException(MISSING_IID);
+        return iids.stream().map(IID::of).collect(Collectors.toList());
+    }
+
+    private static String[] toStrings(List<IID> iids) {
+        return iids.stream().map(IID::toString).toArray(String[]::new);
+    }
+
+
     @Override
     public List<TypeDBException> getSchemaExceptions() {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
@@ -25,6 +25,7 @@ import com.vaticle.typedb.driver.common.NativeObject;
 import com.vaticle.typedb.driver.common.NativeIterator;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 import com.vaticle.typedb.driver.concept.ConceptImpl;
+import com.vaticle.typedb.driver.concept.thing.ThingIdentityMap;
 import com.vaticle.typedb.common.collection.Pair;
 
 import java.util.Map;
@@ -55,11 +56,19 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.explainables_get_relat
 import static com.vaticle.typedb.driver.jni.typedb_driver.explainables_to_string;
 
 public class ConceptMapImpl extends NativeObject<com.vaticle.typedb.driver.jni.ConceptMap> implements ConceptMap {
+    private static final ThingIdentityMap NO_IDENTITY_MAP = new ThingIdentityMap(0);
+
+    private final ThingIdentityMap identityMap;
     private int hash = 0;
     private Map<String, Concept> cachedMap = null;
 
     public ConceptMapImpl(com.vaticle.typedb.driver.jni.ConceptMap concept_map) {
+        this(concept_map, NO_IDENTITY_MAP);
+    }
+
+    public ConceptMapImpl(com.vaticle.typedb.driver.jni.ConceptMap concept_map, ThingIdentityMap identityMap) {
         super(concept_map);
+        this.identityMap = identityMap;
     }
 
     @Override
@@ -69,7 +78,7 @@ public class ConceptMapImpl extends NativeObject<com.vaticle.typedb.driver.jni.C
 
     @Override
     public Stream<Concept> concepts() {
-        return new NativeIterator<>(concept_map_get_values(nativeObject)).stream().map(ConceptImpl::of);
+        return new NativeIterator<>(concept_map_get_values(nativeObject)).stream().map(ConceptImpl::of).map(identityMap::canonicalConcept);
     }
 
     @Override
@@ -83,7 +92,7 @@ public class ConceptMapImpl extends NativeObject<com.vaticle.typedb.driver.jni.C
         if (variable == null || variable.isEmpty()) throw new TypeDBDriverException(MISSING_VARIABLE);
         com.vaticle.typedb.driver.jni.Concept concept = concept_map_get(nativeObject, variable);
         if (concept == null) throw new TypeDBDriverException(VARIABLE_DOES_NOT_EXIST, variable);
-        return ConceptImpl.of(concept);
+        return identityMap.canonicalConcept(ConceptImpl.of(concept));
     }
 
     @Override
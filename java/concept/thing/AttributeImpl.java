@@ -53,7 +53,8 @@ public class AttributeImpl extends ThingImpl implements Attribute {
     @Override
     public final Stream<ThingImpl> getOwners(TypeDBTransaction transaction) {
         try {
-            return new NativeIterator<>(attribute_get_owners(nativeTransaction(transaction), nativeObject, null)).stream().map(ThingImpl::of);
+            return new NativeIterator<>(attribute_get_owners(nativeTransaction(transaction), nativeObject, null)).stream()
+                    .map(ThingImpl::of).map(identityMap(transaction)::canonical);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -62,7 +63,8 @@ public class AttributeImpl extends ThingImpl implements Attribute {
     @Override
     public Stream<ThingImpl> getOwners(TypeDBTransaction transaction, ThingType ownerType) {
         try {
-            return new NativeIterator<>(attribute_get_owners(nativeTransaction(transaction), nativeObject, ((ThingTypeImpl) ownerType).nativeObject)).stream().map(ThingImpl::of);
+            return new NativeIterator<>(attribute_get_owners(nativeTransaction(transaction), nativeObject, ((ThingTypeImpl) ownerType).nativeObject)).stream()
+                    .map(ThingImpl::of).map(identityMap(transaction)::canonical);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -77,7 +77,7 @@ public class RelationImpl extends ThingImpl implements Relation {
                     nativeTransaction(transaction), nativeObject,
                     Arrays.stream(roleTypes).map(rt -> ((RoleTypeImpl) rt).nativeObject).toArray(com.vaticle.typedb.driver.jni.Concept[]::new)
                 )
-            ).stream().map(ThingImpl::of);
+            ).stream().map(ThingImpl::of).map(identityMap(transaction)::canonical);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -86,10 +86,11 @@ public class RelationImpl extends ThingImpl implements Relation {
     @Override
     public Map<RoleTypeImpl, List<ThingImpl>> getPlayers(TypeDBTransaction transaction) {
         Map<RoleTypeImpl, List<ThingImpl>> rolePlayerMap = new HashMap<>();
+        ThingIdentityMap identityMap = identityMap(transaction);
         try {
             new NativeIterator<>(relation_get_role_players(nativeTransaction(transaction), nativeObject)).stream().forEach(rolePlayer -> {
                 RoleTypeImpl role = new RoleTypeImpl(role_player_get_role_type(rolePlayer));
-                ThingImpl player = ThingImpl.of(role_player_get_player(rolePlayer));
+                ThingImpl player = identityMap.canonical(ThingImpl.of(role_player_get_player(rolePlayer)));
                 if (rolePlayerMap.containsKey(role)) rolePlayerMap.get(role).add(player);
                 else rolePlayerMap.put(role, new ArrayList<>(Collections.singletonList(player)));
             });
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.concept.thing;
+
+import com.vaticle.typedb.driver.api.concept.Concept;
+import com.vaticle.typedb.driver.common.IID;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Canonicalises <code>Thing</code>s retrieved within a single transaction, so that every retrieval of the same iid
+ * yields the same instance. The map is bounded, evicting the least recently used entries once full,
+ * and a map with zero capacity passes every <code>Thing</code> through unchanged.
+ *
+ * <p>The map provides identity only: every retrieval still decodes a native concept. When the iid was requested
+ * by the caller it keys the map directly, but a <code>Thing</code> found by a query or a traversal is keyed by an iid
+ * read from the native concept, which costs one native call per retrieval.</p>
+ */
+public final class ThingIdentityMap {
+    private final int capacity;
+    private final Map<IID, ThingImpl> things;
+
+    public ThingIdentityMap(int capacity) {
+        this.capacity = capacity;
+        this.things = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IID, ThingImpl> eldest) {
+                return size() > ThingIdentityMap.this.capacity;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    public <T extends ThingImpl> T canonical(T thing) {
+        if (!isEnabled() || thing == null) return thing;
+        return canonical(thing, thing.getCompactIID());
+    }
+
+    /**
+     * Canonicalises a <code>Thing</code> retrieved by an iid the caller already holds,
+     * without reading the iid back from the native concept.
+     */
+    public <T extends ThingImpl> T canonical(T thing, String iid) {
+        if (!isEnabled() || thing == null) return thing;
+        return canonical(thing, IID.of(iid));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends ThingImpl> T canonical(T thing, IID iid) {
+        if (!isEnabled() || thing == null) return thing;
+        thing.knownCompactIID(iid);
+        synchronized (things) {
+            ThingImpl existing = things.putIfAbsent(iid, thing);
+            if (existing != null && existing.getClass() == thing.getClass()) return (T) existing;
+            else return thing;
+        }
+    }
+
+    public Concept canonicalConcept(Concept concept) {
+        if (isEnabled() && concept instanceof ThingImpl) return canonical((ThingImpl) concept);
+        else return concept;
+    }
+
+    public int size() {
+        synchronized (things) {
+            return things.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (things) {
+            things.clear();
+        }
+    }
+}
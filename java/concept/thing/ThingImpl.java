@@ -25,6 +25,7 @@ import com.vaticle.typedb.driver.api.concept.thing.Thing;
 import com.vaticle.typedb.driver.api.concept.type.AttributeType;
 import com.vaticle.typedb.driver.api.concept.type.RoleType;
 import com.vaticle.typedb.driver.api.concept.type.ThingType.Annotation;
+import com.vaticle.typedb.driver.common.IID;
 import com.vaticle.typedb.driver.common.NativeIterator;
 import com.vaticle.typedb.driver.common.Promise;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
@@ -53,7 +54,7 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.thing_set_has;
 import static com.vaticle.typedb.driver.jni.typedb_driver.thing_unset_has;
 
 public abstract class ThingImpl extends ConceptImpl implements Thing {
-    private int hash = 0;
+    private IID iid = null;
 
     ThingImpl(com.vaticle.typedb.driver.jni.Concept concept) {
         super(concept);
@@ -71,6 +72,16 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
         return thing_get_iid(nativeObject);
     }
 
+    @Override
+    public final IID getCompactIID() {
+        if (iid == null) iid = IID.of(getIID());
+        return iid;
+    }
+
+    void knownCompactIID(IID iid) {
+        if (this.iid == null) this.iid = iid;
+    }
+
     @Override
     public abstract ThingTypeImpl getType();
 
@@ -88,7 +99,8 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
     public final Stream<AttributeImpl> getHas(TypeDBTransaction transaction, AttributeType... attributeTypes) {
         com.vaticle.typedb.driver.jni.Concept[] attributeTypesArray = Arrays.stream(attributeTypes).map(at -> ((AttributeTypeImpl) at).nativeObject).toArray(com.vaticle.typedb.driver.jni.Concept[]::new);
         try {
-            return new NativeIterator<>(thing_get_has(nativeTransaction(transaction), nativeObject, attributeTypesArray, new com.vaticle.typedb.driver.jni.Annotation[0])).stream().map(AttributeImpl::new);
+            return new NativeIterator<>(thing_get_has(nativeTransaction(transaction), nativeObject, attributeTypesArray, new com.vaticle.typedb.driver.jni.Annotation[0])).stream()
+                    .map(AttributeImpl::new).map(identityMap(transaction)::canonical);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -98,7 +110,8 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
     public final Stream<AttributeImpl> getHas(TypeDBTransaction transaction, Set<Annotation> annotations) {
         com.vaticle.typedb.driver.jni.Annotation[] annotationsArray = annotations.stream().map(anno -> anno.nativeObject).toArray(com.vaticle.typedb.driver.jni.Annotation[]::new);
         try {
-            return new NativeIterator<>(thing_get_has(nativeTransaction(transaction), nativeObject, new com.vaticle.typedb.driver.jni.Concept[0], annotationsArray)).stream().map(AttributeImpl::new);
+            return new NativeIterator<>(thing_get_has(nativeTransaction(transaction), nativeObject, new com.vaticle.typedb.driver.jni.Concept[0], annotationsArray)).stream()
+                    .map(AttributeImpl::new).map(identityMap(transaction)::canonical);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -108,7 +121,8 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
     public final Stream<RelationImpl> getRelations(TypeDBTransaction transaction, RoleType... roleTypes) {
         com.vaticle.typedb.driver.jni.Concept[] roleTypesArray = Arrays.stream(roleTypes).map(rt -> ((RoleTypeImpl) rt).nativeObject).toArray(com.vaticle.typedb.driver.jni.Concept[]::new);
         try {
-            return new NativeIterator<>(thing_get_relations(nativeTransaction(transaction), nativeObject, roleTypesArray)).stream().map(RelationImpl::new);
+            return new NativeIterator<>(thing_get_relations(nativeTransaction(transaction), nativeObject, roleTypesArray)).stream()
+                    .map(RelationImpl::new).map(identityMap(transaction)::canonical);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -149,7 +163,6 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
 
     @Override
     public int hashCode() {
-        if (hash == 0) hash = getIID().hashCode();
-        return hash;
+        return getCompactIID().hashCode();
     }
 }
@@ -116,7 +116,8 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
     @Override
     public final Stream<AttributeImpl> getInstances(TypeDBTransaction transaction, Transitivity transitivity) {
         try {
-            return new NativeIterator<>(attribute_type_get_instances(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(AttributeImpl::new);
+            return new NativeIterator<>(attribute_type_get_instances(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream()
+                    .map(AttributeImpl::new).map(identityMap(transaction)::canonical);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
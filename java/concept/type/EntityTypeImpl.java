@@ -88,7 +88,8 @@ public class EntityTypeImpl extends ThingTypeImpl implements EntityType {
     @Override
     public final Stream<EntityImpl> getInstances(TypeDBTransaction transaction, Transitivity transitivity) {
         try {
-            return new NativeIterator<>(entity_type_get_instances(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(EntityImpl::new);
+            return new NativeIterator<>(entity_type_get_instances(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream()
+                    .map(EntityImpl::new).map(identityMap(transaction)::canonical);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -156,7 +156,8 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
     @Override
     public final Stream<RelationImpl> getInstances(TypeDBTransaction transaction, Transitivity transitivity) {
         try {
-            return new NativeIterator<>(relation_type_get_instances(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(RelationImpl::new);
+            return new NativeIterator<>(relation_type_get_instances(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream()
+                    .map(RelationImpl::new).map(identityMap(transaction)::canonical);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
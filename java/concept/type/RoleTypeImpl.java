@@ -151,7 +151,8 @@ public class RoleTypeImpl extends TypeImpl implements RoleType {
     @Override
     public final Stream<RelationImpl> getRelationInstances(TypeDBTransaction transaction, Transitivity transitivity) {
         try {
-            return new NativeIterator<>(role_type_get_relation_instances(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(RelationImpl::new);
+            return new NativeIterator<>(role_type_get_relation_instances(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream()
+                    .map(RelationImpl::new).map(identityMap(transaction)::canonical);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -165,7 +166,8 @@ public class RoleTypeImpl extends TypeImpl implements RoleType {
     @Override
     public final Stream<ThingImpl> getPlayerInstances(TypeDBTransaction transaction, Transitivity transitivity) {
         try {
-            return new NativeIterator<>(role_type_get_player_instances(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream().map(ThingImpl::of);
+            return new NativeIterator<>(role_type_get_player_instances(nativeTransaction(transaction), nativeObject, transitivity.nativeObject)).stream()
+                    .map(ThingImpl::of).map(identityMap(transaction)::canonical);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
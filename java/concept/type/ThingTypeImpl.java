@@ -19,9 +19,11 @@
 
 package com.vaticle.typedb.driver.concept.type;
 
+import com.vaticle.typedb.driver.api.TypeDBSession;
 import com.vaticle.typedb.driver.api.TypeDBTransaction;
 import com.vaticle.typedb.driver.api.concept.type.AttributeType;
 import com.vaticle.typedb.driver.api.concept.type.RoleType;
+import com.vaticle.typedb.driver.api.concept.type.ScanOptions;
 import com.vaticle.typedb.driver.api.concept.type.ThingType;
 import com.vaticle.typedb.driver.api.concept.value.Value;
 import com.vaticle.typedb.driver.common.Label;
@@ -32,9 +34,14 @@ import com.vaticle.typedb.driver.concept.thing.ThingImpl;
 import com.vaticle.typeql.lang.common.TypeQLToken;
 
 import javax.annotation.CheckReturnValue;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.READ;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_attribute_type;
 import static com.vaticle.typedb.driver.jni.typedb_driver.concept_is_entity_type;
@@ -58,6 +65,10 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.thing_type_unset_abstr
 import static com.vaticle.typedb.driver.jni.typedb_driver.thing_type_unset_owns;
 import static com.vaticle.typedb.driver.jni.typedb_driver.thing_type_unset_plays;
 import static java.util.Collections.emptySet;
+import static java.util.Spliterator.IMMUTABLE;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 
 public abstract class ThingTypeImpl extends TypeImpl implements ThingType {
     ThingTypeImpl(com.vaticle.typedb.driver.jni.Concept concept) {
@@ -131,6 +142,38 @@ public abstract class ThingTypeImpl extends TypeImpl implements ThingType {
     @Override
     public abstract Stream<? extends ThingImpl> getInstances(TypeDBTransaction transaction, Transitivity transitivity);
 
+    @Override
+    public final Stream<ThingImpl> scan(TypeDBSession session, ScanOptions options) {
+        List<ThingTypeImpl> partitions;
+        try (TypeDBTransaction transaction = session.transaction(READ, options.transactionOptions())) {
+            partitions = Stream.concat(Stream.of(this), getSubtypes(transaction, Transitivity.TRANSITIVE))
+                    .filter(type -> !type.isAbstract()).distinct().collect(Collectors.toList());
+        }
+        return partitions.parallelStream().flatMap(partition -> partition.scanPartition(session, options));
+    }
+
+    private Stream<ThingImpl> scanPartition(TypeDBSession session, ScanOptions options) {
+        Label label = getLabel();
+        if (options.checkpoint().isCompleted(label)) return Stream.empty();
+        TypeDBTransaction transaction = session.transaction(READ, options.transactionOptions());
+        Iterator<? extends ThingImpl> instances = getInstances(transaction, Transitivity.EXPLICIT).iterator();
+        Iterator<ThingImpl> checkpointed = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (instances.hasNext()) return true;
+                options.checkpoint().complete(label);
+                return false;
+            }
+
+            @Override
+            public ThingImpl next() {
+                return instances.next();
+            }
+        };
+        return StreamSupport.stream(spliteratorUnknownSize(checkpointed, NONNULL | IMMUTABLE | ORDERED), false)
+                .onClose(transaction::close);
+    }
+
     @Override
     public final Promise<Void> setAbstract(TypeDBTransaction transaction) {
         return new Promise<>(thing_type_set_abstract(nativeTransaction(transaction), nativeObject));
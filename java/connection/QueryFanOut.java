@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.connection;
+
+import com.vaticle.typedb.driver.api.TypeDBOptions;
+import com.vaticle.typedb.driver.api.TypeDBSession;
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.api.query.QuerySpec;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.READ;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Runs independent read queries over a bounded number of read transactions in one session. Each worker owns a
+ * single transaction and takes queries off a shared queue until it is empty; the session is closed once every
+ * worker has finished. A query's timeout is the query timeout of the transaction it runs in, so that a query that
+ * times out is cancelled by the driver while the worker carries on in the same transaction. Workers of all fan-outs
+ * run on a single shared pool of daemon threads.
+ */
+final class QueryFanOut<T> {
+    private static final AtomicInteger WORKER_THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService WORKERS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "typedb-fan-out-" + WORKER_THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final TypeDBSession session;
+    private final List<? extends QuerySpec<? extends T>> queries;
+    private final List<CompletableFuture<T>> results;
+    private final Queue<Integer> pending;
+
+    private QueryFanOut(TypeDBSession session, List<? extends QuerySpec<? extends T>> queries) {
+        this.session = session;
+        this.queries = queries;
+        this.results = queries.stream().map(query -> new CompletableFuture<T>()).collect(Collectors.toList());
+        this.pending = IntStream.range(0, queries.size()).boxed().collect(Collectors.toCollection(ConcurrentLinkedQueue::new));
+    }
+
+    static <T> List<CompletableFuture<T>> run(
+            TypeDBSession session, List<? extends QuerySpec<? extends T>> queries, int parallelism, @Nullable Duration deadline
+    ) {
+        QueryFanOut<T> fanOut = new QueryFanOut<>(session, queries);
+        if (deadline != null) fanOut.results.forEach(result -> result.orTimeout(deadline.toMillis(), MILLISECONDS));
+        int workerCount = Math.min(parallelism, queries.size());
+        if (workerCount == 0) {
+            session.close();
+            return fanOut.results;
+        }
+        CompletableFuture.allOf(IntStream.range(0, workerCount)
+                .mapToObj(i -> CompletableFuture.runAsync(fanOut::work, WORKERS))
+                .toArray(CompletableFuture[]::new)
+        ).whenComplete((ignored, error) -> session.close());
+        return fanOut.results;
+    }
+
+    private void work() {
+        TypeDBTransaction transaction = null;
+        Duration transactionTimeout = null;
+        try {
+            Integer index;
+            while ((index = pending.poll()) != null) {
+                CompletableFuture<T> result = results.get(index);
+                if (result.isDone()) continue;
+                QuerySpec<? extends T> query = queries.get(index);
+                Duration timeout = query.timeout().orElse(null);
+                try {
+                    if (transaction != null && (!transaction.isOpen() || !Objects.equals(timeout, transactionTimeout))) {
+                        transaction.close();
+                        transaction = null;
+                    }
+                    if (transaction == null) {
+                        transaction = session.transaction(READ, options(timeout));
+                        transactionTimeout = timeout;
+                    }
+                    result.complete(query.run(transaction));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        } finally {
+            if (transaction != null) transaction.close();
+        }
+    }
+
+    private static TypeDBOptions options(@Nullable Duration timeout) {
+        TypeDBOptions options = new TypeDBOptions();
+        if (timeout != null) options.queryTimeoutMillis((int) Math.max(1, Math.min(timeout.toMillis(), Integer.MAX_VALUE)));
+        return options;
+    }
+}
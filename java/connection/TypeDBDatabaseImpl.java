@@ -24,6 +24,9 @@ import com.vaticle.typedb.driver.common.NativeObject;
 import com.vaticle.typedb.driver.common.NativeIterator;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -34,17 +37,25 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.database_get_name;
 import static com.vaticle.typedb.driver.jni.typedb_driver.database_get_preferred_replica_info;
 import static com.vaticle.typedb.driver.jni.typedb_driver.database_get_primary_replica_info;
 import static com.vaticle.typedb.driver.jni.typedb_driver.database_get_replicas_info;
+import static com.vaticle.typedb.driver.jni.typedb_driver.database_on_topology_change;
 import static com.vaticle.typedb.driver.jni.typedb_driver.database_rule_schema;
 import static com.vaticle.typedb.driver.jni.typedb_driver.database_schema;
 import static com.vaticle.typedb.driver.jni.typedb_driver.database_type_schema;
+import static com.vaticle.typedb.driver.jni.typedb_driver.replica_info_get_latency_micros;
+import static com.vaticle.typedb.driver.jni.typedb_driver.replica_info_get_outstanding_requests;
 import static com.vaticle.typedb.driver.jni.typedb_driver.replica_info_get_server;
 import static com.vaticle.typedb.driver.jni.typedb_driver.replica_info_get_term;
+import static com.vaticle.typedb.driver.jni.typedb_driver.replica_info_has_latency;
 import static com.vaticle.typedb.driver.jni.typedb_driver.replica_info_is_preferred;
 import static com.vaticle.typedb.driver.jni.typedb_driver.replica_info_is_primary;
+import static java.time.temporal.ChronoUnit.MICROS;
 
 public class TypeDBDatabaseImpl extends NativeObject<com.vaticle.typedb.driver.jni.Database> implements Database {
+    private final List<TypeDBSessionImpl.SessionCallback> callbacks;
+
     public TypeDBDatabaseImpl(com.vaticle.typedb.driver.jni.Database database) {
         super(database);
+        callbacks = new ArrayList<>();
     }
 
     @Override
@@ -89,6 +100,19 @@ public class TypeDBDatabaseImpl extends NativeObject<com.vaticle.typedb.driver.j
         try {
             // NOTE: .released() relinquishes ownership of the native object to the Rust side
             database_delete(nativeObject.released());
+            nativeObjectReleased();
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public void onTopologyChange(Runnable function) {
+        if (!nativeObject.isOwned()) throw new TypeDBDriverException(DATABASE_DELETED);
+        try {
+            TypeDBSessionImpl.SessionCallback callback = new TypeDBSessionImpl.SessionCallback(function);
+            callbacks.add(callback);
+            database_on_topology_change(nativeObject, callback.released());
         } catch (com.vaticle.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -145,5 +169,16 @@ public class TypeDBDatabaseImpl extends NativeObject<com.vaticle.typedb.driver.j
         public long term() {
             return replica_info_get_term(nativeObject);
         }
+
+        @Override
+        public long outstandingRequests() {
+            return replica_info_get_outstanding_requests(nativeObject);
+        }
+
+        @Override
+        public Optional<Duration> latency() {
+            if (!replica_info_has_latency(nativeObject)) return Optional.empty();
+            return Optional.of(Duration.of(replica_info_get_latency_micros(nativeObject), MICROS));
+        }
     }
 }
@@ -19,31 +19,57 @@
 
 package com.vaticle.typedb.driver.connection;
 
+import com.vaticle.typedb.driver.api.CompressionStats;
 import com.vaticle.typedb.driver.api.TypeDBDriver;
 import com.vaticle.typedb.driver.api.TypeDBCredential;
 import com.vaticle.typedb.driver.api.TypeDBOptions;
 import com.vaticle.typedb.driver.api.TypeDBSession;
 import com.vaticle.typedb.driver.api.database.DatabaseManager;
+import com.vaticle.typedb.driver.api.database.ReplicaSelector;
+import com.vaticle.typedb.driver.api.query.QuerySpec;
 import com.vaticle.typedb.driver.api.user.User;
 import com.vaticle.typedb.driver.api.user.UserManager;
 import com.vaticle.typedb.driver.common.NativeObject;
+import com.vaticle.typedb.driver.common.admission.AdmissionControl;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.common.metrics.DriverMetrics;
+import com.vaticle.typedb.driver.common.metrics.SlowQueryLog;
+import com.vaticle.typedb.driver.common.tracing.DriverTracer;
 import com.vaticle.typedb.driver.user.UserManagerImpl;
 
+import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.INVALID_PERCENTILE;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+import static com.vaticle.typedb.driver.jni.typedb_driver.connection_disable_hedging;
 import static com.vaticle.typedb.driver.jni.typedb_driver.connection_force_close;
+import static com.vaticle.typedb.driver.jni.typedb_driver.connection_get_compression_stats;
+import static com.vaticle.typedb.driver.jni.typedb_driver.connection_get_replica_selector;
+import static com.vaticle.typedb.driver.jni.typedb_driver.connection_get_response_buffered_bytes;
 import static com.vaticle.typedb.driver.jni.typedb_driver.connection_is_open;
 import static com.vaticle.typedb.driver.jni.typedb_driver.connection_open_cloud;
 import static com.vaticle.typedb.driver.jni.typedb_driver.connection_open_cloud_translated;
 import static com.vaticle.typedb.driver.jni.typedb_driver.connection_open_core;
+import static com.vaticle.typedb.driver.jni.typedb_driver.connection_set_hedge_policy;
+import static com.vaticle.typedb.driver.jni.typedb_driver.connection_set_replica_selector;
+import static com.vaticle.typedb.driver.jni.typedb_driver.connection_set_response_buffer_limit;
 
 public class TypeDBDriverImpl extends NativeObject<com.vaticle.typedb.driver.jni.Connection> implements TypeDBDriver {
+    private static final int DEFAULT_FAN_OUT_PARALLELISM = 8;
+
     private final UserManagerImpl userMgr;
     private final DatabaseManager databaseMgr;
+    private volatile DriverMetrics metrics = DriverMetrics.NOOP;
+    private volatile DriverTracer tracer = DriverTracer.NOOP;
+    private volatile @Nullable SlowQueryLog slowQueryLog;
+    private volatile @Nullable AdmissionControl admissionControl;
 
     public TypeDBDriverImpl(String address) throws TypeDBDriverException {
         this(openCore(address));
@@ -117,6 +143,88 @@ public class TypeDBDriverImpl extends NativeObject<com.vaticle.typedb.driver.jni
         return databaseMgr;
     }
 
+    @Override
+    public void replicaSelector(ReplicaSelector selector) {
+        connection_set_replica_selector(nativeObject, selector.nativeObject);
+    }
+
+    @Override
+    public ReplicaSelector replicaSelector() {
+        return ReplicaSelector.of(connection_get_replica_selector(nativeObject));
+    }
+
+    @Override
+    public void hedgeReads(double percentile, Duration fallbackDelay) {
+        if (!(percentile >= 0 && percentile <= 1)) throw new TypeDBDriverException(INVALID_PERCENTILE, percentile);
+        connection_set_hedge_policy(nativeObject, percentile, fallbackDelay.toMillis());
+    }
+
+    @Override
+    public void disableHedging() {
+        connection_disable_hedging(nativeObject);
+    }
+
+    @Override
+    public void responseBufferLimit(long limitBytes) {
+        if (limitBytes < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, limitBytes);
+        connection_set_response_buffer_limit(nativeObject, limitBytes);
+    }
+
+    @Override
+    public void removeResponseBufferLimit() {
+        connection_set_response_buffer_limit(nativeObject, 0);
+    }
+
+    @Override
+    public long responseBufferedBytes() {
+        return connection_get_response_buffered_bytes(nativeObject);
+    }
+
+    @Override
+    public CompressionStats compressionStats() {
+        return new CompressionStats(connection_get_compression_stats(nativeObject));
+    }
+
+    @Override
+    public void metrics(DriverMetrics metrics) {
+        this.metrics = metrics == null ? DriverMetrics.NOOP : metrics;
+    }
+
+    @Override
+    public DriverMetrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public void tracer(DriverTracer tracer) {
+        this.tracer = tracer == null ? DriverTracer.NOOP : tracer;
+    }
+
+    @Override
+    public DriverTracer tracer() {
+        return tracer;
+    }
+
+    @Override
+    public void slowQueryLog(@Nullable SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Optional<SlowQueryLog> slowQueryLog() {
+        return Optional.ofNullable(slowQueryLog);
+    }
+
+    @Override
+    public void admissionControl(@Nullable AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public Optional<AdmissionControl> admissionControl() {
+        return Optional.ofNullable(admissionControl);
+    }
+
     @Override
     public TypeDBSession session(String database, TypeDBSession.Type type) {
         return session(database, type, new TypeDBOptions());
@@ -124,7 +232,20 @@ public class TypeDBDriverImpl extends NativeObject<com.vaticle.typedb.driver.jni
 
     @Override
     public TypeDBSession session(String database, TypeDBSession.Type type, TypeDBOptions options) {
-        return new TypeDBSessionImpl(databases(), database, type, options);
+        AdmissionControl admissionControl = this.admissionControl;
+        AdmissionControl.Permit permit = admissionControl == null ? null : admissionControl.acquireSession(metrics);
+        return new TypeDBSessionImpl(databases(), database, type, options, metrics, tracer, slowQueryLog, permit);
+    }
+
+    @Override
+    public <T> List<CompletableFuture<T>> fanOut(String database, List<? extends QuerySpec<? extends T>> queries) {
+        return fanOut(database, queries, DEFAULT_FAN_OUT_PARALLELISM, null);
+    }
+
+    @Override
+    public <T> List<CompletableFuture<T>> fanOut(String database, List<? extends QuerySpec<? extends T>> queries, int parallelism, @Nullable Duration deadline) {
+        if (parallelism < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, parallelism);
+        return QueryFanOut.run(session(database, TypeDBSession.Type.DATA), queries, parallelism, deadline);
     }
 
     @Override
@@ -23,41 +23,106 @@ import com.vaticle.typedb.driver.api.TypeDBOptions;
 import com.vaticle.typedb.driver.api.TypeDBSession;
 import com.vaticle.typedb.driver.api.TypeDBTransaction;
 import com.vaticle.typedb.driver.api.database.DatabaseManager;
+import com.vaticle.typedb.driver.api.query.QueryCursor;
 import com.vaticle.typedb.driver.common.NativeObject;
+import com.vaticle.typedb.driver.common.admission.AdmissionControl;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.common.jfr.SessionEvent;
+import com.vaticle.typedb.driver.common.metrics.DriverMetrics;
+import com.vaticle.typedb.driver.common.metrics.SlowQueryLog;
+import com.vaticle.typedb.driver.common.tracing.DriverTracer;
+import com.vaticle.typedb.driver.query.KeysetCursor;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.vaticle.typedb.driver.jni.typedb_driver.session_force_close;
 import static com.vaticle.typedb.driver.jni.typedb_driver.session_get_database_name;
+import static com.vaticle.typedb.driver.jni.typedb_driver.session_get_server_address;
 import static com.vaticle.typedb.driver.jni.typedb_driver.session_is_open;
 import static com.vaticle.typedb.driver.jni.typedb_driver.session_new;
 import static com.vaticle.typedb.driver.jni.typedb_driver.session_on_close;
 import static com.vaticle.typedb.driver.jni.typedb_driver.session_on_reopen;
 
 public class TypeDBSessionImpl extends NativeObject<com.vaticle.typedb.driver.jni.Session> implements TypeDBSession {
+    private final String database;
     private final Type type;
     private final TypeDBOptions options;
+    private final DriverMetrics metrics;
+    private final DriverTracer tracer;
+    private final @Nullable SlowQueryLog slowQueryLog;
+    private final AtomicBoolean isClosed;
+    private final AtomicLong reopens;
+    private final @Nullable AdmissionControl.Permit permit;
 
     private final List<SessionCallback> callbacks;
 
-    TypeDBSessionImpl(DatabaseManager databaseManager, String database, Type type, TypeDBOptions options) {
-        super(newNative(databaseManager, database, type, options));
+    TypeDBSessionImpl(DatabaseManager databaseManager, String database, Type type, TypeDBOptions options,
+                      DriverMetrics metrics, DriverTracer tracer, @Nullable SlowQueryLog slowQueryLog,
+                      @Nullable AdmissionControl.Permit permit) {
+        super(newNative(databaseManager, database, type, options, metrics, tracer, permit));
+        this.database = database;
         this.type = type;
         this.options = options;
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.slowQueryLog = slowQueryLog;
+        this.isClosed = new AtomicBoolean(false);
+        this.reopens = new AtomicLong(0);
+        this.permit = permit;
+        metrics.sessionOpened();
+        metrics.nativeHandleCreated();
 
         callbacks = new ArrayList<>();
+        if (tracer != DriverTracer.NOOP) onReopen(reopens::incrementAndGet);
     }
 
-    private static com.vaticle.typedb.driver.jni.Session newNative(DatabaseManager databaseManager, String database, Type type, TypeDBOptions options) {
+    private static com.vaticle.typedb.driver.jni.Session newNative(DatabaseManager databaseManager, String database, Type type, TypeDBOptions options,
+                                                                   DriverMetrics metrics, DriverTracer tracer,
+                                                                   @Nullable AdmissionControl.Permit permit) {
+        SessionEvent event = new SessionEvent(SessionEvent.OPEN, database, type.name());
+        DriverTracer.Span span = tracer.startSpan(DriverTracer.SESSION_OPEN)
+                .setAttribute(DriverTracer.DATABASE, database)
+                .setAttribute(DriverTracer.SESSION_TYPE, type.name());
+        event.begin();
+        metrics.jniCall();
         try {
-            return session_new(((TypeDBDatabaseManagerImpl)databaseManager).nativeObject, database, type.nativeObject, options.nativeObject);
+            com.vaticle.typedb.driver.jni.Session session = session_new(((TypeDBDatabaseManagerImpl)databaseManager).nativeObject, database, type.nativeObject, options.nativeObject);
+            if (tracer != DriverTracer.NOOP) span.setAttribute(DriverTracer.REPLICA, session_get_server_address(session));
+            return session;
         } catch (com.vaticle.typedb.driver.jni.Error e) {
+            if (permit != null) permit.release();
+            span.recordError(e);
             throw new TypeDBDriverException(e);
+        } finally {
+            event.commit();
+            span.end();
         }
     }
 
+    String database() {
+        return database;
+    }
+
+    DriverTracer tracer() {
+        return tracer;
+    }
+
+    /**
+     * The number of times this session has been transparently reopened, possibly on another replica.
+     * Only counted while a tracer is registered.
+     */
+    long reopens() {
+        return reopens.get();
+    }
+
+    String serverAddress() {
+        return session_get_server_address(nativeObject);
+    }
+
     @Override
     public boolean isOpen() {
         return session_is_open(nativeObject);
@@ -85,7 +150,18 @@ public class TypeDBSessionImpl extends NativeObject<com.vaticle.typedb.driver.jn
 
     @Override
     public TypeDBTransaction transaction(TypeDBTransaction.Type type, TypeDBOptions options) {
-        return new TypeDBTransactionImpl(this, type, options);
+        AdmissionControl.Permit transactionPermit = permit == null ? null : permit.acquire(AdmissionControl.TRANSACTION, metrics);
+        return new TypeDBTransactionImpl(this, type, options, metrics, tracer, slowQueryLog, transactionPermit);
+    }
+
+    @Override
+    public QueryCursor cursor(String query, String keyVariable, int pageSize) {
+        return cursor(query, keyVariable, pageSize, null);
+    }
+
+    @Override
+    public QueryCursor cursor(String query, String keyVariable, int pageSize, @Nullable String resumeToken) {
+        return new KeysetCursor(this, query, keyVariable, pageSize, resumeToken);
     }
 
     @Override
@@ -112,12 +188,22 @@ public class TypeDBSessionImpl extends NativeObject<com.vaticle.typedb.driver.jn
 
     @Override
     public void close() {
+        SessionEvent event = new SessionEvent(SessionEvent.CLOSE, database, type.name());
+        event.begin();
+        metrics.jniCall();
         try {
             session_force_close(nativeObject);
         } catch (com.vaticle.typedb.driver.jni.Error error) {
             throw new TypeDBDriverException(error);
         } finally {
             callbacks.clear();
+            if (!isClosed.getAndSet(true)) {
+                if (permit != null) permit.release();
+                metrics.sessionClosed();
+                metrics.nativeHandleReleased();
+                nativeObjectReleased();
+            }
+            event.commit();
         }
     }
 
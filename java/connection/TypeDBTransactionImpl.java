@@ -19,24 +19,43 @@
 
 package com.vaticle.typedb.driver.connection;
 
+import com.vaticle.typedb.driver.api.RequestPriority;
+import com.vaticle.typedb.driver.api.TransactionStats;
 import com.vaticle.typedb.driver.api.TypeDBOptions;
 import com.vaticle.typedb.driver.api.TypeDBTransaction;
 import com.vaticle.typedb.driver.api.concept.ConceptManager;
 import com.vaticle.typedb.driver.api.logic.LogicManager;
 import com.vaticle.typedb.driver.api.query.QueryManager;
 import com.vaticle.typedb.driver.common.NativeObject;
+import com.vaticle.typedb.driver.common.admission.AdmissionControl;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.common.jfr.TransactionEvent;
+import com.vaticle.typedb.driver.common.metrics.DriverMetrics;
+import com.vaticle.typedb.driver.common.metrics.SlowQueryLog;
+import com.vaticle.typedb.driver.common.tracing.DriverTracer;
 import com.vaticle.typedb.driver.concept.ConceptManagerImpl;
+import com.vaticle.typedb.driver.concept.thing.ThingIdentityMap;
 import com.vaticle.typedb.driver.logic.LogicManagerImpl;
 import com.vaticle.typedb.driver.query.QueryManagerImpl;
 
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
 import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_commit;
 import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_force_close;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_get_queue_delay_max_micros;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_get_queue_delay_requests;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_get_queue_delay_total_micros;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_get_response_buffer_paused;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_get_response_buffer_peak_bytes;
+import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_get_stats;
 import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_is_open;
 import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_new;
 import static com.vaticle.typedb.driver.jni.typedb_driver.transaction_on_close;
@@ -46,29 +65,66 @@ public class TypeDBTransactionImpl extends NativeObject<com.vaticle.typedb.drive
     private final TypeDBTransaction.Type type;
     private final TypeDBOptions options;
 
+    private final ThingIdentityMap identityMap;
     private final ConceptManager conceptManager;
     private final LogicManager logicManager;
     private final QueryManager queryManager;
 
     private final List<TransactionOnClose> callbacks;
+    private final DriverMetrics metrics;
+    private final DriverTracer tracer;
+    private final @Nullable SlowQueryLog slowQueryLog;
+    private final String database;
+    private final @Nullable AdmissionControl.Permit permit;
+    private volatile @Nullable TransactionStats closedStats;
+    private final AtomicBoolean isClosed;
 
-    TypeDBTransactionImpl(TypeDBSessionImpl session, Type type, TypeDBOptions options) {
-        super(newNative(session, type, options));
+    TypeDBTransactionImpl(TypeDBSessionImpl session, Type type, TypeDBOptions options, DriverMetrics metrics,
+                          DriverTracer tracer, @Nullable SlowQueryLog slowQueryLog, @Nullable AdmissionControl.Permit permit) {
+        super(newNative(session, type, options, metrics, tracer, permit));
         this.type = type;
         this.options = options;
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.slowQueryLog = slowQueryLog;
+        this.database = session.database();
+        this.permit = permit;
+        this.isClosed = new AtomicBoolean(false);
+        metrics.transactionOpened();
+        metrics.nativeHandleCreated();
 
-        conceptManager = new ConceptManagerImpl(nativeObject);
+        identityMap = new ThingIdentityMap(options.identityMapCapacity().orElse(0));
+        conceptManager = new ConceptManagerImpl(nativeObject, identityMap);
         logicManager = new LogicManagerImpl(nativeObject);
-        queryManager = new QueryManagerImpl(nativeObject);
+        queryManager = new QueryManagerImpl(nativeObject, identityMap, metrics, tracer, slowQueryLog, database, permit);
 
         callbacks = new ArrayList<>();
     }
 
-    private static com.vaticle.typedb.driver.jni.Transaction newNative(TypeDBSessionImpl session, Type type, TypeDBOptions options) {
+    private static com.vaticle.typedb.driver.jni.Transaction newNative(TypeDBSessionImpl session, Type type, TypeDBOptions options,
+                                                                       DriverMetrics metrics, DriverTracer tracer,
+                                                                       @Nullable AdmissionControl.Permit permit) {
+        TransactionEvent event = new TransactionEvent(TransactionEvent.OPEN, type.name());
+        DriverTracer.Span span = tracer.startSpan(DriverTracer.TRANSACTION_OPEN)
+                .setAttribute(DriverTracer.DATABASE, session.database())
+                .setAttribute(DriverTracer.TRANSACTION_TYPE, type.name());
+        long reopens = session.reopens();
+        event.begin();
+        metrics.jniCall();
         try {
-            return transaction_new(session.nativeObject, type.nativeObject, options.nativeObject);
+            com.vaticle.typedb.driver.jni.Transaction transaction = transaction_new(session.nativeObject, type.nativeObject, options.nativeObject);
+            if (tracer != DriverTracer.NOOP) {
+                span.setAttribute(DriverTracer.REPLICA, session.serverAddress())
+                        .setAttribute(DriverTracer.RETRIES, session.reopens() - reopens);
+            }
+            return transaction;
         } catch (com.vaticle.typedb.driver.jni.Error e) {
+            if (permit != null) permit.release();
+            span.recordError(e);
             throw new TypeDBDriverException(e);
+        } finally {
+            event.commit();
+            span.end();
         }
     }
 
@@ -103,6 +159,13 @@ public class TypeDBTransactionImpl extends NativeObject<com.vaticle.typedb.drive
         return queryManager;
     }
 
+    @Override
+    public TransactionStats stats() {
+        if (nativeObject.isOwned()) return new TransactionStats(transaction_get_stats(nativeObject), null);
+        else if (closedStats != null) return closedStats;
+        else throw new TypeDBDriverException(TRANSACTION_CLOSED);
+    }
+
     @Override
     public void onClose(Consumer<Throwable> function) {
         if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
@@ -117,38 +180,97 @@ public class TypeDBTransactionImpl extends NativeObject<com.vaticle.typedb.drive
 
     @Override
     public void commit() {
-        if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        if (!nativeObject.isOwned() || isClosed.getAndSet(true)) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        TransactionEvent event = new TransactionEvent(TransactionEvent.COMMIT, type.name());
+        event.begin();
+        DriverTracer.Span span = tracer.startSpan(DriverTracer.COMMIT)
+                .setAttribute(DriverTracer.DATABASE, database)
+                .setAttribute(DriverTracer.TRANSACTION_TYPE, type.name());
+        metrics.jniCall();
+        // The native commit consumes the transaction, so its statistics can only be read before the commit is sent.
+        com.vaticle.typedb.driver.jni.TransactionStats stats = transaction_get_stats(nativeObject);
+        Duration commitLatency = null;
+        long start = System.nanoTime();
         try {
+            reportTransmitterStats();
             // NOTE: .released() relinquishes ownership of the native object to the Rust side
             transaction_commit(nativeObject.released()).get();
+            commitLatency = Duration.ofNanos(System.nanoTime() - start);
+            metrics.committed(commitLatency);
+            if (slowQueryLog != null) slowQueryLog.committed(database, commitLatency);
         } catch (com.vaticle.typedb.driver.jni.Error.Unchecked e) {
+            if (e.isIsolationConflict()) metrics.conflict();
+            span.recordError(e);
             throw new TypeDBDriverException(e);
+        } finally {
+            closedStats = new TransactionStats(stats, commitLatency);
+            identityMap.clear();
+            if (permit != null) permit.release();
+            metrics.transactionClosed();
+            metrics.nativeHandleReleased();
+            nativeObjectReleased();
+            event.commit();
+            span.end();
         }
     }
 
     @Override
     public void rollback() {
         if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        TransactionEvent event = new TransactionEvent(TransactionEvent.ROLLBACK, type.name());
+        event.begin();
+        metrics.jniCall();
         try {
             transaction_rollback(nativeObject).get();
         } catch (com.vaticle.typedb.driver.jni.Error.Unchecked e) {
             throw new TypeDBDriverException(e);
+        } finally {
+            event.commit();
         }
     }
 
     @Override
     public void close() {
-        if (nativeObject.isOwned()) {
+        // The native transaction stays owned after a forced close, so only the first close may do the accounting.
+        if (nativeObject.isOwned() && !isClosed.getAndSet(true)) {
+            TransactionEvent event = new TransactionEvent(TransactionEvent.CLOSE, type.name());
+            event.begin();
+            metrics.jniCall();
             try {
                 transaction_force_close(nativeObject);
+                closedStats = new TransactionStats(transaction_get_stats(nativeObject), null);
+                reportTransmitterStats();
             } catch (com.vaticle.typedb.driver.jni.Error error) {
                 throw new TypeDBDriverException(error);
             } finally {
                 callbacks.clear();
+                identityMap.clear();
+                if (permit != null) permit.release();
+                metrics.transactionClosed();
+                metrics.nativeHandleReleased();
+                nativeObjectReleased();
+                event.commit();
             }
         }
     }
 
+    private void reportTransmitterStats() {
+        if (metrics == DriverMetrics.NOOP) return;
+        metrics.responseBuffer(
+                transaction_get_response_buffer_peak_bytes(nativeObject),
+                transaction_get_response_buffer_paused(nativeObject)
+        );
+        for (RequestPriority priority : RequestPriority.values()) {
+            long requests = transaction_get_queue_delay_requests(nativeObject, priority.nativeObject);
+            if (requests == 0) continue;
+            metrics.queueDelay(
+                    priority.name().toLowerCase(Locale.ROOT), requests,
+                    Duration.of(transaction_get_queue_delay_total_micros(nativeObject, priority.nativeObject), ChronoUnit.MICROS),
+                    Duration.of(transaction_get_queue_delay_max_micros(nativeObject, priority.nativeObject), ChronoUnit.MICROS)
+            );
+        }
+    }
+
     static class TransactionOnClose extends com.vaticle.typedb.driver.jni.TransactionCallbackDirector {
         private final Consumer<Throwable> function;
 
@@ -18,7 +18,10 @@
 dir_mapping = {
     "TypeDBTransaction.adoc": "transaction",
     "TypeDBTransaction.Type.adoc": "transaction",
+    "TransactionStats.adoc": "transaction",
     "QueryManager.adoc": "transaction",
+    "QuerySpec_T_.adoc": "transaction",
+    "QueryCursor.adoc": "session",
     "Explanation.adoc": "answer",
     "ConceptMap.Explainable.adoc": "answer",
     "ConceptMap.Explainables.adoc": "answer",
@@ -32,6 +35,19 @@ dir_mapping = {
     "TypeDBCredential.adoc": "connection",
     "UserManager.adoc": "connection",
     "Database.Replica.adoc": "connection",
+    "ReplicaSelector.adoc": "connection",
+    "CompressionStats.adoc": "connection",
+    "DriverMetrics.adoc": "connection",
+    "InMemoryDriverMetrics.adoc": "connection",
+    "LatencyHistogram.adoc": "connection",
+    "SlowQueryLog.adoc": "connection",
+    "SlowQueryLog.SlowQuery.adoc": "connection",
+    "AdmissionControl.adoc": "connection",
+    "DriverMXBean.adoc": "connection",
+    "NativeMemory.adoc": "connection",
+    "DriverTracer.adoc": "connection",
+    "DriverTracer.Span.adoc": "connection",
+    "InMemorySpanExporter.adoc": "connection",
     "User.adoc": "connection",
     "Database.adoc": "connection",
     "DatabaseManager.adoc": "connection",
@@ -44,6 +60,8 @@ dir_mapping = {
     "EntityType.adoc": "schema",
     "ThingType.Annotation.adoc": "schema",
     "ThingType.adoc": "schema",
+    "ScanOptions.adoc": "schema",
+    "ScanOptions.Checkpoint.adoc": "schema",
     "Concept.Transitivity.adoc": "schema",
     "Type.adoc": "schema",
     "Label.adoc": "schema",
@@ -54,8 +72,11 @@ dir_mapping = {
     "Attribute.adoc": "data",
     "Value.adoc": "data",
     "Thing.adoc": "data",
+    "IID.adoc": "data",
     "TypeDBSession.adoc": "session",
     "TypeDBSession.Type.adoc": "session",
     "TypeDBOptions.adoc": "session",
+    "RequestPriority.adoc": "session",
     "TypeDBDriverException.adoc": "errors",
+    "AdmissionRejectedException.adoc": "errors",
 }
@@ -41,6 +41,9 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.explanation_get_rule;
 import static com.vaticle.typedb.driver.jni.typedb_driver.explanation_to_string;
 
 public class ExplanationImpl extends NativeObject<com.vaticle.typedb.driver.jni.Explanation> implements Explanation {
+    private Rule rule = null;
+    private ConceptMap conclusion = null;
+    private ConceptMap condition = null;
     private int hash = 0;
 
     public ExplanationImpl(com.vaticle.typedb.driver.jni.Explanation explanation) {
@@ -49,17 +52,20 @@ public class ExplanationImpl extends NativeObject<com.vaticle.typedb.driver.jni.
 
     @Override
     public Rule rule() {
-        return new RuleImpl(explanation_get_rule(nativeObject));
+        if (rule == null) rule = new RuleImpl(explanation_get_rule(nativeObject));
+        return rule;
     }
 
     @Override
     public ConceptMap conclusion() {
-        return new ConceptMapImpl(explanation_get_conclusion(nativeObject));
+        if (conclusion == null) conclusion = new ConceptMapImpl(explanation_get_conclusion(nativeObject));
+        return conclusion;
     }
 
     @Override
     public ConceptMap condition() {
-        return new ConceptMapImpl(explanation_get_condition(nativeObject));
+        if (condition == null) condition = new ConceptMapImpl(explanation_get_condition(nativeObject));
+        return condition;
     }
 
     @Override
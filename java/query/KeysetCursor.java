@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.query;
+
+import com.vaticle.typedb.driver.api.TypeDBSession;
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.api.answer.ConceptMap;
+import com.vaticle.typedb.driver.api.concept.Concept;
+import com.vaticle.typedb.driver.api.concept.value.Value;
+import com.vaticle.typedb.driver.api.query.QueryCursor;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.INVALID_CURSOR_QUERY;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.INVALID_RESUME_TOKEN;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.MISSING_QUERY;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.NON_FINITE_CURSOR_KEY;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.UNSORTABLE_CURSOR_KEY;
+import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+
+public final class KeysetCursor implements QueryCursor {
+    private static final Pattern GET_QUERY = Pattern.compile("(?s)^(\\s*match\\b.*)(?<![$\\w-])get\\b(.*?);?\\s*$");
+    private static final Pattern MODIFIER = Pattern.compile("(?<![$\\w-])(sort|offset|limit)\\b");
+    private static final Pattern KEY_LITERAL = Pattern.compile(
+            "-?\\d+(\\.\\d+)?|\"([^\"\\\\]|\\\\.)*\"|\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}(:\\d{2}(\\.\\d{1,9})?)?"
+    );
+
+    private final TypeDBSession session;
+    private final String match;
+    private final String filter;
+    private final String keyVariable;
+    private final int pageSize;
+
+    private Iterator<ConceptMap> page = Collections.emptyIterator();
+    private boolean exhausted = false;
+    private String lastKey;
+
+    public KeysetCursor(TypeDBSession session, String query, String keyVariable, int pageSize, @Nullable String resumeToken) {
+        if (query == null || query.isBlank()) throw new TypeDBDriverException(MISSING_QUERY);
+        if (keyVariable == null || keyVariable.isEmpty()) throw new TypeDBDriverException(VARIABLE_DOES_NOT_EXIST, keyVariable);
+        if (pageSize < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, pageSize);
+        Matcher matcher = GET_QUERY.matcher(query);
+        if (!matcher.matches() || MODIFIER.matcher(matcher.group(2)).find()) {
+            throw new TypeDBDriverException(INVALID_CURSOR_QUERY, query);
+        }
+        this.session = session;
+        this.match = matcher.group(1);
+        this.filter = matcher.group(2);
+        this.keyVariable = keyVariable.startsWith("$") ? keyVariable.substring(1) : keyVariable;
+        this.pageSize = pageSize;
+        this.lastKey = resumeToken == null ? null : decodeToken(resumeToken);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext()) {
+            if (exhausted) return false;
+            fetchPage();
+        }
+        return true;
+    }
+
+    @Override
+    public ConceptMap next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        ConceptMap answer = page.next();
+        lastKey = keyLiteral(answer);
+        return answer;
+    }
+
+    @Override
+    public Stream<ConceptMap> stream() {
+        return StreamSupport.stream(spliteratorUnknownSize(this, NONNULL | ORDERED), false);
+    }
+
+    @Override
+    public Optional<String> resumeToken() {
+        return Optional.ofNullable(lastKey).map(KeysetCursor::encodeToken);
+    }
+
+    private void fetchPage() {
+        List<ConceptMap> answers;
+        try (TypeDBTransaction transaction = session.transaction(READ)) {
+            answers = transaction.query().get(pageQuery()).collect(Collectors.toList());
+        }
+        exhausted = answers.size() < pageSize;
+        page = answers.iterator();
+    }
+
+    private String pageQuery() {
+        String keyPredicate = lastKey == null ? "" : "$" + keyVariable + " > " + lastKey + ";\n";
+        return match + keyPredicate + "get" + filter + ";\nsort $" + keyVariable + " asc; limit " + pageSize + ";";
+    }
+
+    private String keyLiteral(ConceptMap answer) {
+        Concept key = answer.get(keyVariable);
+        Value value;
+        if (key.isAttribute()) value = key.asAttribute().getValue();
+        else if (key.isValue()) value = key.asValue();
+        else throw new TypeDBDriverException(UNSORTABLE_CURSOR_KEY, keyVariable);
+        if (value.isLong()) return Long.toString(value.asLong());
+        else if (value.isDouble()) return doubleLiteral(value.asDouble());
+        else if (value.isString()) return stringLiteral(value.asString());
+        else if (value.isDateTime()) return value.asDateTime().toString();
+        else throw new TypeDBDriverException(UNSORTABLE_CURSOR_KEY, keyVariable);
+    }
+
+    static String doubleLiteral(double key) {
+        if (!Double.isFinite(key)) throw new TypeDBDriverException(NON_FINITE_CURSOR_KEY, key);
+        String literal = BigDecimal.valueOf(key).toPlainString();
+        // Large doubles have no fractional digits, but must not be read as (overflowing) long literals.
+        return literal.contains(".") ? literal : literal + ".0";
+    }
+
+    static String stringLiteral(String key) {
+        return "\"" + key.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    static String encodeToken(String key) {
+        return Base64.getUrlEncoder().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decodeToken(String resumeToken) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(resumeToken), StandardCharsets.UTF_8);
+            if (KEY_LITERAL.matcher(key).matches()) return key;
+        } catch (IllegalArgumentException ignored) {
+        }
+        throw new TypeDBDriverException(INVALID_RESUME_TOKEN, resumeToken);
+    }
+}
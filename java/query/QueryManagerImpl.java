@@ -19,6 +19,7 @@
 
 package com.vaticle.typedb.driver.query;
 
+import com.vaticle.typedb.common.collection.Pair;
 import com.vaticle.typedb.driver.api.TypeDBOptions;
 import com.vaticle.typedb.driver.api.answer.ConceptMap;
 import com.vaticle.typedb.driver.api.answer.ConceptMapGroup;
@@ -27,12 +28,19 @@ import com.vaticle.typedb.driver.api.answer.ValueGroup;
 import com.vaticle.typedb.driver.api.concept.value.Value;
 import com.vaticle.typedb.driver.api.logic.Explanation;
 import com.vaticle.typedb.driver.api.query.QueryManager;
+import com.vaticle.typedb.driver.common.ClosingStream;
 import com.vaticle.typedb.driver.common.NativeIterator;
 import com.vaticle.typedb.driver.common.Promise;
+import com.vaticle.typedb.driver.common.admission.AdmissionControl;
 import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.common.metrics.DriverMetrics;
+import com.vaticle.typedb.driver.common.metrics.QueryRecorder;
+import com.vaticle.typedb.driver.common.metrics.SlowQueryLog;
+import com.vaticle.typedb.driver.common.tracing.DriverTracer;
 import com.vaticle.typedb.driver.concept.answer.ConceptMapGroupImpl;
 import com.vaticle.typedb.driver.concept.answer.ConceptMapImpl;
 import com.vaticle.typedb.driver.concept.answer.ValueGroupImpl;
+import com.vaticle.typedb.driver.concept.thing.ThingIdentityMap;
 import com.vaticle.typedb.driver.concept.value.ValueImpl;
 import com.vaticle.typedb.driver.logic.ExplanationImpl;
 import com.vaticle.typeql.lang.query.TypeQLDefine;
@@ -44,8 +52,16 @@ import com.vaticle.typeql.lang.query.TypeQLUndefine;
 import com.vaticle.typeql.lang.query.TypeQLUpdate;
 
 import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
 import static com.vaticle.typedb.driver.common.exception.ErrorMessage.Query.MISSING_QUERY;
@@ -60,12 +76,31 @@ import static com.vaticle.typedb.driver.jni.typedb_driver.query_get_group;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_get_group_aggregate;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_undefine;
 import static com.vaticle.typedb.driver.jni.typedb_driver.query_update;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 
 public final class QueryManagerImpl implements QueryManager {
-    private final com.vaticle.typedb.driver.jni.Transaction nativeTransaction;
+    private static final int MAX_EXPLAINS_IN_FLIGHT = 32;
 
-    public QueryManagerImpl(com.vaticle.typedb.driver.jni.Transaction nativeTransaction) {
+    private final com.vaticle.typedb.driver.jni.Transaction nativeTransaction;
+    private final ThingIdentityMap identityMap;
+    private final DriverMetrics metrics;
+    private final DriverTracer tracer;
+    private final @Nullable SlowQueryLog slowQueryLog;
+    private final String database;
+    private final @Nullable AdmissionControl.Permit transactionPermit;
+
+    public QueryManagerImpl(com.vaticle.typedb.driver.jni.Transaction nativeTransaction, ThingIdentityMap identityMap,
+                            DriverMetrics metrics, DriverTracer tracer, @Nullable SlowQueryLog slowQueryLog, String database,
+                            @Nullable AdmissionControl.Permit transactionPermit) {
         this.nativeTransaction = nativeTransaction;
+        this.identityMap = identityMap;
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.slowQueryLog = slowQueryLog;
+        this.database = database;
+        this.transactionPermit = transactionPermit;
     }
 
     @Override
@@ -87,9 +122,12 @@ public final class QueryManagerImpl implements QueryManager {
     public Stream<ConceptMap> get(String query, TypeDBOptions options) {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
+        QueryRecorder recorder = record("get", query, options);
         try {
-            return new NativeIterator<>(query_get(nativeTransaction, query, options.nativeObject)).stream().map(ConceptMapImpl::new);
+            return new NativeIterator<>(query_get(nativeTransaction, query, options.nativeObject), recorder).stream()
+                    .map(conceptMap -> new ConceptMapImpl(conceptMap, identityMap));
         } catch (com.vaticle.typedb.driver.jni.Error e) {
+            recorder.fail(e, 0);
             throw new TypeDBDriverException(e);
         }
     }
@@ -117,7 +155,14 @@ public final class QueryManagerImpl implements QueryManager {
     public Promise<Optional<Value>> getAggregate(String query, TypeDBOptions options) {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
-        com.vaticle.typedb.driver.jni.ConceptPromise promise = query_get_aggregate(nativeTransaction, query, options.nativeObject);
+        QueryRecorder recorder = record("get_aggregate", query, options);
+        Supplier<com.vaticle.typedb.driver.jni.Concept> promise;
+        try {
+            promise = finishing(query_get_aggregate(nativeTransaction, query, options.nativeObject), recorder);
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            recorder.fail(e, 0);
+            throw new TypeDBDriverException(e);
+        }
         return new Promise<>(() -> {
             var res = promise.get();
             if (res == null) return Optional.empty();
@@ -144,9 +189,11 @@ public final class QueryManagerImpl implements QueryManager {
     public Stream<ConceptMapGroup> getGroup(String query, TypeDBOptions options) {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
+        QueryRecorder recorder = record("get_group", query, options);
         try {
-            return new NativeIterator<>(query_get_group(nativeTransaction, query, options.nativeObject)).stream().map(ConceptMapGroupImpl::new);
+            return new NativeIterator<>(query_get_group(nativeTransaction, query, options.nativeObject), recorder).stream().map(ConceptMapGroupImpl::new);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
+            recorder.fail(e, 0);
             throw new TypeDBDriverException(e);
         }
     }
@@ -170,9 +217,11 @@ public final class QueryManagerImpl implements QueryManager {
     public Stream<ValueGroup> getGroupAggregate(String query, TypeDBOptions options) {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
+        QueryRecorder recorder = record("get_group_aggregate", query, options);
         try {
-            return new NativeIterator<>(query_get_group_aggregate(nativeTransaction, query, options.nativeObject)).stream().map(ValueGroupImpl::new);
+            return new NativeIterator<>(query_get_group_aggregate(nativeTransaction, query, options.nativeObject), recorder).stream().map(ValueGroupImpl::new);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
+            recorder.fail(e, 0);
             throw new TypeDBDriverException(e);
         }
     }
@@ -196,9 +245,11 @@ public final class QueryManagerImpl implements QueryManager {
     public Stream<JSON> fetch(String query, TypeDBOptions options) {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
+        QueryRecorder recorder = record("fetch", query, options);
         try {
-            return new NativeIterator<>(query_fetch(nativeTransaction, query, options.nativeObject)).stream().map(JSON::parse);
+            return new NativeIterator<>(query_fetch(nativeTransaction, query, options.nativeObject), recorder).stream().map(JSON::parse);
         } catch (com.vaticle.typedb.driver.jni.Error e) {
+            recorder.fail(e, 0);
             throw new TypeDBDriverException(e);
         }
     }
@@ -222,9 +273,12 @@ public final class QueryManagerImpl implements QueryManager {
     public Stream<ConceptMap> insert(String query, TypeDBOptions options) {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
+        QueryRecorder recorder = record("insert", query, options);
         try {
-            return new NativeIterator<>(query_insert(nativeTransaction, query, options.nativeObject)).stream().map(ConceptMapImpl::new);
+            return new NativeIterator<>(query_insert(nativeTransaction, query, options.nativeObject), recorder).stream()
+                    .map(conceptMap -> new ConceptMapImpl(conceptMap, identityMap));
         } catch (com.vaticle.typedb.driver.jni.Error e) {
+            recorder.fail(e, 0);
             throw new TypeDBDriverException(e);
         }
     }
@@ -252,7 +306,13 @@ public final class QueryManagerImpl implements QueryManager {
     public Promise<Void> delete(String query, TypeDBOptions options) {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
-        return new Promise<>(query_delete(nativeTransaction, query, options.nativeObject));
+        QueryRecorder recorder = record("delete", query, options);
+        try {
+            return new Promise<>(finishing(query_delete(nativeTransaction, query, options.nativeObject), recorder));
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            recorder.fail(e, 0);
+            throw new TypeDBDriverException(e);
+        }
     }
 
     @Override
@@ -274,9 +334,12 @@ public final class QueryManagerImpl implements QueryManager {
     public Stream<ConceptMap> update(String query, TypeDBOptions options) {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
+        QueryRecorder recorder = record("update", query, options);
         try {
-            return new NativeIterator<>(query_update(nativeTransaction, query, options.nativeObject)).stream().map(ConceptMapImpl::new);
+            return new NativeIterator<>(query_update(nativeTransaction, query, options.nativeObject), recorder).stream()
+                    .map(conceptMap -> new ConceptMapImpl(conceptMap, identityMap));
         } catch (com.vaticle.typedb.driver.jni.Error e) {
+            recorder.fail(e, 0);
             throw new TypeDBDriverException(e);
         }
     }
@@ -304,7 +367,13 @@ public final class QueryManagerImpl implements QueryManager {
     public Promise<Void> define(String query, TypeDBOptions options) {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
-        return new Promise<>(query_define(nativeTransaction, query, options.nativeObject));
+        QueryRecorder recorder = record("define", query, options);
+        try {
+            return new Promise<>(finishing(query_define(nativeTransaction, query, options.nativeObject), recorder));
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            recorder.fail(e, 0);
+            throw new TypeDBDriverException(e);
+        }
     }
 
     @Override
@@ -330,7 +399,13 @@ public final class QueryManagerImpl implements QueryManager {
     public Promise<Void> undefine(String query, TypeDBOptions options) {
         if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
         if (query == null || query.isEmpty()) throw new TypeDBDriverException(MISSING_QUERY);
-        return new Promise<>(query_undefine(nativeTransaction, query, options.nativeObject));
+        QueryRecorder recorder = record("undefine", query, options);
+        try {
+            return new Promise<>(finishing(query_undefine(nativeTransaction, query, options.nativeObject), recorder));
+        } catch (com.vaticle.typedb.driver.jni.Error e) {
+            recorder.fail(e, 0);
+            throw new TypeDBDriverException(e);
+        }
     }
 
     @Override
@@ -348,4 +423,77 @@ public final class QueryManagerImpl implements QueryManager {
             throw new TypeDBDriverException(e);
         }
     }
+
+    @Override
+    public Stream<Explanation> explainAll(Stream<ConceptMap> answers) {
+        return explainAll(answers, new TypeDBOptions());
+    }
+
+    @Override
+    public Stream<Explanation> explainAll(Stream<ConceptMap> answers, TypeDBOptions options) {
+        if (!nativeTransaction.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        Iterator<ConceptMap.Explainable> explainables = answers.flatMap(answer -> Stream.of(
+                answer.explainables().relations().map(Pair::second),
+                answer.explainables().attributes().map(Pair::second),
+                answer.explainables().ownerships().map(Pair::second)
+        ).flatMap(Function.identity())).iterator();
+        Deque<Pair<Stream<Explanation>, Iterator<Explanation>>> inFlight = new ArrayDeque<>();
+        Iterator<Explanation> explanations = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                while (true) {
+                    while (inFlight.size() < MAX_EXPLAINS_IN_FLIGHT && explainables.hasNext()) {
+                        Stream<Explanation> explanation = explain(explainables.next(), options);
+                        inFlight.addLast(new Pair<>(explanation, explanation.iterator()));
+                    }
+                    if (inFlight.isEmpty()) return false;
+                    else if (inFlight.peekFirst().second().hasNext()) return true;
+                    else inFlight.removeFirst().first().close();
+                }
+            }
+
+            @Override
+            public Explanation next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return inFlight.peekFirst().second().next();
+            }
+        };
+        return new ClosingStream<>(StreamSupport.stream(spliteratorUnknownSize(explanations, NONNULL | ORDERED), false).onClose(() -> {
+            // Explanations consumed through their iterators are not closed by a terminal operation, so their server
+            // streams must be cancelled here.
+            try {
+                inFlight.forEach(explanation -> explanation.first().close());
+                inFlight.clear();
+            } finally {
+                answers.close();
+            }
+        }));
+    }
+
+    private QueryRecorder record(String kind, String query, TypeDBOptions options) {
+        AdmissionControl.Permit permit = transactionPermit == null ? null : transactionPermit.acquire(AdmissionControl.QUERY, metrics);
+        SlowQueryLog.Sample sample = slowQueryLog == null || !slowQueryLog.isQuerySampled() ? null : slowQueryLog.sample(
+                database, kind, query, options.infer(), options.parallel(), options.prefetchSize()
+        );
+        return QueryRecorder.start(metrics, tracer, sample, permit, database, kind, query);
+    }
+
+    private static <T> Supplier<T> finishing(Supplier<T> promise, QueryRecorder recorder) {
+        return () -> {
+            T result = null;
+            try {
+                recorder.advanced();
+                long start = System.nanoTime();
+                result = promise.get();
+                recorder.waited(System.nanoTime() - start);
+                if (result != null) recorder.answered();
+                return result;
+            } catch (RuntimeException e) {
+                recorder.fail(e, 0);
+                throw e;
+            } finally {
+                recorder.finish(result == null ? 0 : 1);
+            }
+        };
+    }
 }
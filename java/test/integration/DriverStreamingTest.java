@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.driver.test.integration;
+
+import com.vaticle.typedb.core.tool.runner.TypeDBCoreRunner;
+import com.vaticle.typedb.driver.TypeDB;
+import com.vaticle.typedb.driver.api.RequestPriority;
+import com.vaticle.typedb.driver.api.TypeDBDriver;
+import com.vaticle.typedb.driver.api.TypeDBOptions;
+import com.vaticle.typedb.driver.api.TypeDBSession;
+import com.vaticle.typedb.driver.api.TypeDBTransaction;
+import com.vaticle.typedb.driver.api.answer.ConceptMap;
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import com.vaticle.typedb.driver.common.metrics.InMemoryDriverMetrics;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.driver.api.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.driver.api.TypeDBSession.Type.SCHEMA;
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.driver.api.TypeDBTransaction.Type.WRITE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DriverStreamingTest {
+    private static final String DATABASE = "typedb";
+    private static final int PEOPLE = 500;
+    private static final String GET_PEOPLE = "match $x isa person; get;";
+
+    private static TypeDBCoreRunner typedb;
+    private static TypeDBDriver typedbDriver;
+
+    @BeforeClass
+    public static void setUpClass() throws InterruptedException, IOException, TimeoutException {
+        Map<String, String> options = new HashMap<>();
+        options.put("--diagnostics.reporting.errors", "false");
+        typedb = new TypeDBCoreRunner(options);
+        typedb.start();
+        typedbDriver = TypeDB.coreDriver(typedb.address());
+        if (typedbDriver.databases().contains(DATABASE)) typedbDriver.databases().get(DATABASE).delete();
+        typedbDriver.databases().create(DATABASE);
+        try (TypeDBSession session = typedbDriver.session(DATABASE, SCHEMA);
+             TypeDBTransaction tx = session.transaction(WRITE)) {
+            tx.query().define("define person sub entity;").resolve();
+            tx.commit();
+        }
+        try (TypeDBSession session = typedbDriver.session(DATABASE, DATA);
+             TypeDBTransaction tx = session.transaction(WRITE)) {
+            String people = IntStream.range(0, PEOPLE).mapToObj(i -> "$p" + i + " isa person;").collect(Collectors.joining(" "));
+            tx.query().insert("insert " + people);
+            tx.commit();
+        }
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        typedbDriver.close();
+        typedb.stop();
+    }
+
+    @After
+    public void resetDriver() {
+        typedbDriver.metrics(null);
+        typedbDriver.removeResponseBufferLimit();
+    }
+
+    @Test
+    public void closingStreamEarlyCancelsIt() {
+        InMemoryDriverMetrics metrics = new InMemoryDriverMetrics();
+        typedbDriver.metrics(metrics);
+        try (TypeDBSession session = typedbDriver.session(DATABASE, DATA);
+             TypeDBTransaction tx = session.transaction(READ, new TypeDBOptions().prefetchSize(10))) {
+            assertTrue(tx.query().get(GET_PEOPLE).findFirst().isPresent());
+            try (Stream<ConceptMap> answers = tx.query().get(GET_PEOPLE)) {
+                Iterator<ConceptMap> iterator = answers.iterator();
+                assertTrue(iterator.hasNext());
+                iterator.next();
+            }
+            assertEquals(2, metrics.cancelledStreams());
+
+            assertEquals(PEOPLE, tx.query().get(GET_PEOPLE).count());
+            assertEquals(2, metrics.cancelledStreams());
+            assertTrue(tx.stats().answers() < 2L * PEOPLE);
+        }
+    }
+
+    @Test
+    public void timedOutQueryLeavesTransactionOpen() throws InterruptedException {
+        // A one-byte response buffer pauses the stream while its answers are unconsumed, so it cannot complete in time.
+        TypeDBOptions options = new TypeDBOptions().prefetchSize(10).responseBufferLimit(1);
+        try (TypeDBSession session = typedbDriver.session(DATABASE, DATA);
+             TypeDBTransaction tx = session.transaction(READ, options)) {
+            try (Stream<ConceptMap> answers = tx.query().get(GET_PEOPLE, new TypeDBOptions().queryTimeoutMillis(100))) {
+                Iterator<ConceptMap> iterator = answers.iterator();
+                assertTrue(iterator.hasNext());
+                iterator.next();
+                Thread.sleep(500);
+                try {
+                    while (iterator.hasNext()) iterator.next();
+                    fail();
+                } catch (TypeDBDriverException e) {
+                    assertTrue(e.getMessage().contains("[CXN25]"));
+                }
+            }
+
+            assertTrue(tx.isOpen());
+            assertEquals(PEOPLE, tx.query().get(GET_PEOPLE).count());
+        }
+    }
+
+    @Test
+    public void priorityLanesKeepIssueOrder() {
+        InMemoryDriverMetrics metrics = new InMemoryDriverMetrics();
+        typedbDriver.metrics(metrics);
+        TypeDBOptions interactive = new TypeDBOptions().priority(RequestPriority.INTERACTIVE);
+        try (TypeDBSession session = typedbDriver.session(DATABASE, DATA);
+             TypeDBTransaction tx = session.transaction(WRITE, new TypeDBOptions().priority(RequestPriority.BATCH).prefetchSize(10))) {
+            try (Stream<ConceptMap> export = tx.query().get(GET_PEOPLE)) {
+                Iterator<ConceptMap> iterator = export.iterator();
+                for (int i = 0; i < 20; i++) iterator.next();
+                assertEquals(PEOPLE, countPeople(tx, interactive));
+                int rest = 0;
+                while (iterator.hasNext()) {
+                    iterator.next();
+                    rest++;
+                }
+                assertEquals(PEOPLE - 20, rest);
+            }
+
+            // The batch write is sent before the interactive read issued after it. It is never committed.
+            tx.query().insert("insert $x isa person;");
+            assertEquals(PEOPLE + 1, countPeople(tx, interactive));
+        }
+        assertTrue(metrics.queuedRequests("batch") > 0);
+        assertTrue(metrics.queuedRequests("interactive") > 0);
+    }
+
+    @Test
+    public void responseBufferLimitPausesStreams() throws InterruptedException {
+        InMemoryDriverMetrics metrics = new InMemoryDriverMetrics();
+        typedbDriver.metrics(metrics);
+        typedbDriver.responseBufferLimit(1);
+        try (TypeDBSession session = typedbDriver.session(DATABASE, DATA);
+             TypeDBTransaction tx = session.transaction(READ, new TypeDBOptions().prefetchSize(10))) {
+            try (Stream<ConceptMap> answers = tx.query().get(GET_PEOPLE)) {
+                Iterator<ConceptMap> iterator = answers.iterator();
+                assertTrue(iterator.hasNext());
+                iterator.next();
+                Thread.sleep(200);
+                assertTrue(typedbDriver.responseBufferedBytes() > 0);
+                assertTrue(tx.stats().answers() < PEOPLE);
+
+                int rest = 0;
+                while (iterator.hasNext()) {
+                    iterator.next();
+                    rest++;
+                }
+                assertEquals(PEOPLE - 1, rest);
+            }
+            assertEquals(0, typedbDriver.responseBufferedBytes());
+        }
+        assertTrue(metrics.peakResponseBufferBytes() > 0);
+        assertTrue(metrics.pausedContinuations() > 0);
+    }
+
+    private static long countPeople(TypeDBTransaction tx, TypeDBOptions options) {
+        return tx.query().getAggregate("match $x isa person; get; count;", options).resolve().get().asLong();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.common;
+
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class IIDTest {
+
+    @Test
+    public void hexRoundTripsThroughBytes() {
+        IID iid = IID.of("0x826e80018000000000000000");
+        assertEquals(12, iid.length());
+        assertEquals("0x826e80018000000000000000", iid.toString());
+        assertEquals(iid, IID.of(iid.bytes()));
+    }
+
+    @Test
+    public void prefixIsOptionalAndDigitsAreCaseInsensitive() {
+        assertEquals(IID.of("0x826E8001"), IID.of("826e8001"));
+        assertEquals("0x826e8001", IID.of("826E8001").toString());
+    }
+
+    @Test
+    public void bytesAreCopiedInAndOut() {
+        byte[] bytes = {(byte) 0x82, 0x6e};
+        IID iid = IID.of(bytes);
+        bytes[0] = 0;
+        assertEquals("0x826e", iid.toString());
+        byte[] copy = iid.bytes();
+        copy[1] = 0;
+        assertArrayEquals(new byte[]{(byte) 0x82, 0x6e}, iid.bytes());
+    }
+
+    @Test
+    public void invalidIIDsAreRejected() {
+        String[] invalid = {null, "", "0x", "0x123", "0xzz", "0x12 4"};
+        for (String iid : invalid) {
+            try {
+                IID.of(iid);
+                fail("Expected '" + iid + "' to be rejected");
+            } catch (TypeDBDriverException ignored) {
+            }
+        }
+        try {
+            IID.of(new byte[0]);
+            fail();
+        } catch (TypeDBDriverException ignored) {
+        }
+    }
+
+    @Test
+    public void equalIIDsHaveEqualHashes() {
+        IID iid = IID.of("0x826e8001");
+        IID same = IID.of(new byte[]{(byte) 0x82, 0x6e, (byte) 0x80, 0x01});
+        assertEquals(iid, same);
+        assertEquals(iid.hashCode(), same.hashCode());
+        assertNotEquals(iid, IID.of("0x826e8002"));
+    }
+
+    @Test
+    public void ordersByUnsignedBytes() {
+        List<IID> iids = new ArrayList<>(List.of(IID.of("0xff"), IID.of("0x7f00"), IID.of("0x7f"), IID.of("0x80")));
+        Collections.sort(iids);
+        assertEquals(List.of(IID.of("0x7f"), IID.of("0x7f00"), IID.of("0x80"), IID.of("0xff")), iids);
+        assertTrue(IID.of("0x80").compareTo(IID.of("0x7f")) > 0);
+    }
+
+    @Test
+    public void internReturnsTheCanonicalInstance() {
+        IID first = IID.of("0x826e80018000000000000001");
+        IID second = IID.of("0x826e80018000000000000001");
+        assertNotSame(first, second);
+        assertSame(first.intern(), second.intern());
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.common.admission;
+
+import com.vaticle.typedb.driver.common.admission.AdmissionControl.Permit;
+import com.vaticle.typedb.driver.common.exception.AdmissionRejectedException;
+import com.vaticle.typedb.driver.common.metrics.InMemoryDriverMetrics;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.vaticle.typedb.driver.common.admission.AdmissionControl.QUERY;
+import static com.vaticle.typedb.driver.common.admission.AdmissionControl.SESSION;
+import static com.vaticle.typedb.driver.common.admission.AdmissionControl.TRANSACTION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AdmissionControlTest {
+    private static final Duration FAST = Duration.ofMillis(1);
+    private static final Duration SLOW = Duration.ofSeconds(1);
+    private static final ExecutorService WAITERS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final InMemoryDriverMetrics metrics = new InMemoryDriverMetrics();
+
+    private Permit transaction(AdmissionControl admissionControl) {
+        return admissionControl.acquireSession(metrics).acquire(TRANSACTION, metrics);
+    }
+
+    private List<Permit> queries(Permit transaction, int count) {
+        List<Permit> queries = new ArrayList<>();
+        for (int i = 0; i < count; i++) queries.add(transaction.acquire(QUERY, metrics));
+        return queries;
+    }
+
+    private static void awaitQueued(AdmissionControl admissionControl, int queued) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (admissionControl.queued(QUERY) != queued) {
+            if (System.nanoTime() > deadline) fail("Expected " + queued + " queued queries");
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void unsetLimitsAreUnbounded() {
+        AdmissionControl admissionControl = new AdmissionControl();
+        queries(transaction(admissionControl), 1000);
+        assertEquals(Integer.MAX_VALUE, admissionControl.limit(QUERY));
+        assertEquals(1000, admissionControl.inFlight(QUERY));
+        assertEquals(1, admissionControl.inFlight(SESSION));
+    }
+
+    @Test
+    public void releasingAPermitReleasesItsChildren() {
+        AdmissionControl admissionControl = new AdmissionControl().maxQueries(4);
+        Permit transaction = transaction(admissionControl);
+        List<Permit> queries = queries(transaction, 3);
+        queries.get(0).release();
+        queries.get(0).release();
+        assertEquals(2, admissionControl.inFlight(QUERY));
+
+        transaction.release();
+        assertEquals(0, admissionControl.inFlight(QUERY));
+        assertEquals(0, admissionControl.inFlight(TRANSACTION));
+        assertEquals(1, admissionControl.inFlight(SESSION));
+    }
+
+    @Test
+    public void adaptiveLimitBacksOffFromTheConcurrencyReached() {
+        AdmissionControl admissionControl = new AdmissionControl().maxQueries(10).adaptive(Duration.ofMillis(100));
+        assertEquals(10, admissionControl.limit(QUERY));
+        List<Permit> queries = queries(transaction(admissionControl), 5);
+
+        // 5 in flight when the slow query finishes: 5 * 0.9 = 4.5
+        queries.get(0).release(SLOW, false);
+        assertEquals(4, admissionControl.limit(QUERY));
+        // 4 in flight when the failed query finishes: min(4.5, 4) * 0.9 = 3.6
+        queries.get(1).release(FAST, true);
+        assertEquals(3, admissionControl.limit(QUERY));
+    }
+
+    @Test
+    public void adaptiveLimitGrowsByOnePerLimitOfSuccesses() {
+        AdmissionControl admissionControl = new AdmissionControl().maxQueries(10).adaptive(Duration.ofMillis(100));
+        Permit transaction = transaction(admissionControl);
+        List<Permit> queries = queries(transaction, 5);
+        queries.get(0).release(SLOW, false);
+        assertEquals(4, admissionControl.limit(QUERY));
+
+        // 4.5 -> 4.72 -> 4.93 -> 5.14
+        queries.get(1).release(FAST, false);
+        queries.get(2).release(FAST, false);
+        assertEquals(4, admissionControl.limit(QUERY));
+        queries.get(3).release(FAST, false);
+        assertEquals(5, admissionControl.limit(QUERY));
+
+        for (int i = 0; i < 100; i++) transaction.acquire(QUERY, metrics).release(FAST, false);
+        assertEquals(10, admissionControl.limit(QUERY));
+    }
+
+    @Test
+    public void adaptiveLimitNeverFallsBelowOne() {
+        AdmissionControl admissionControl = new AdmissionControl().maxQueries(2).adaptive(Duration.ofMillis(100));
+        Permit transaction = transaction(admissionControl);
+        for (int i = 0; i < 20; i++) transaction.acquire(QUERY, metrics).release(FAST, true);
+        assertEquals(1, admissionControl.limit(QUERY));
+        transaction.acquire(QUERY, metrics).release();
+    }
+
+    @Test
+    public void waitingQueriesAreAdmittedInArrivalOrder() throws Exception {
+        AdmissionControl admissionControl = new AdmissionControl().maxQueries(1);
+        Permit running = transaction(admissionControl).acquire(QUERY, metrics);
+        Permit transaction = transaction(admissionControl);
+        List<Integer> admitted = new ArrayList<>();
+        List<CompletableFuture<Void>> waiting = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int position = i;
+            waiting.add(CompletableFuture.runAsync(() -> {
+                Permit permit = transaction.acquire(QUERY, metrics);
+                synchronized (admitted) {
+                    admitted.add(position);
+                }
+                permit.release();
+            }, WAITERS));
+            awaitQueued(admissionControl, i + 1);
+        }
+
+        running.release();
+        CompletableFuture.allOf(waiting.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(0, 1, 2), admitted);
+        assertEquals(0, admissionControl.inFlight(QUERY));
+    }
+
+    @Test
+    public void arrivalsAreRejectedWhileTheQueueIsFull() throws Exception {
+        AdmissionControl admissionControl = new AdmissionControl().maxQueries(1).maxQueueLength(1);
+        Permit running = transaction(admissionControl).acquire(QUERY, metrics);
+        Permit transaction = transaction(admissionControl);
+        CompletableFuture<Permit> waiting = CompletableFuture.supplyAsync(() -> transaction.acquire(QUERY, metrics), WAITERS);
+        awaitQueued(admissionControl, 1);
+
+        try {
+            transaction.acquire(QUERY, metrics);
+            fail();
+        } catch (AdmissionRejectedException e) {
+            assertEquals(QUERY, e.resource());
+        }
+        assertEquals(1, metrics.rejections(QUERY));
+
+        running.release();
+        waiting.get(10, TimeUnit.SECONDS).release();
+        assertEquals(0, admissionControl.inFlight(QUERY));
+    }
+
+    @Test
+    public void waitingBeyondTheMaximumWaitIsRejected() {
+        AdmissionControl admissionControl = new AdmissionControl().maxQueries(1).maxWait(Duration.ofMillis(50));
+        transaction(admissionControl).acquire(QUERY, metrics);
+        Permit transaction = transaction(admissionControl);
+
+        long start = System.nanoTime();
+        try {
+            transaction.acquire(QUERY, metrics);
+            fail();
+        } catch (AdmissionRejectedException e) {
+            assertEquals(QUERY, e.resource());
+        }
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos());
+        assertEquals(0, admissionControl.queued(QUERY));
+        assertEquals(1, admissionControl.inFlight(QUERY));
+        assertEquals(1, metrics.rejections(QUERY));
+    }
+
+    @Test
+    public void interruptedWaitIsRejectedAndKeepsTheInterrupt() throws Exception {
+        AdmissionControl admissionControl = new AdmissionControl().maxQueries(1);
+        transaction(admissionControl).acquire(QUERY, metrics);
+        Permit transaction = transaction(admissionControl);
+        CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                transaction.acquire(QUERY, metrics);
+                interrupted.complete(false);
+            } catch (AdmissionRejectedException e) {
+                interrupted.complete(Thread.currentThread().isInterrupted());
+            }
+        });
+        waiter.start();
+        awaitQueued(admissionControl, 1);
+
+        waiter.interrupt();
+        assertTrue(interrupted.get(10, TimeUnit.SECONDS));
+        assertEquals(0, admissionControl.queued(QUERY));
+        assertEquals(1, admissionControl.inFlight(QUERY));
+    }
+
+    @Test
+    public void raisingTheLimitAdmitsWaitingQueries() throws Exception {
+        AdmissionControl admissionControl = new AdmissionControl().maxQueries(1);
+        transaction(admissionControl).acquire(QUERY, metrics);
+        Permit transaction = transaction(admissionControl);
+        CompletableFuture<Permit> waiting = CompletableFuture.supplyAsync(() -> transaction.acquire(QUERY, metrics), WAITERS);
+        awaitQueued(admissionControl, 1);
+
+        admissionControl.maxQueries(2);
+        waiting.get(10, TimeUnit.SECONDS);
+        assertEquals(2, admissionControl.inFlight(QUERY));
+    }
+
+    @Test
+    public void aTransactionNeverWaitsForItsOwnQueries() {
+        AdmissionControl admissionControl = new AdmissionControl().maxQueries(2);
+        Permit transaction = transaction(admissionControl);
+        Permit unretrieved = transaction.acquire(QUERY, metrics);
+        Permit other = transaction(admissionControl).acquire(QUERY, metrics);
+
+        Permit query = transaction.acquire(QUERY, metrics);
+        assertEquals(2, admissionControl.inFlight(QUERY));
+        unretrieved.release();
+        assertEquals(2, admissionControl.inFlight(QUERY));
+
+        other.release();
+        query.release();
+        assertEquals(0, admissionControl.inFlight(QUERY));
+    }
+
+    @Test
+    public void limitsMustBePositive() {
+        try {
+            new AdmissionControl().maxQueries(0);
+            fail();
+        } catch (RuntimeException ignored) {
+        }
+        try {
+            new AdmissionControl().maxWait(Duration.ofMillis(-1));
+            fail();
+        } catch (RuntimeException ignored) {
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.common.metrics;
+
+import com.vaticle.typedb.driver.common.tracing.DriverTracer;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InMemoryDriverMetricsTest {
+
+    private static QueryRecorder start(DriverMetrics metrics, String kind) {
+        return QueryRecorder.start(metrics, DriverTracer.NOOP, null, null, "db", kind, "match $x isa thing; get;");
+    }
+
+    @Test
+    public void recordsCompletedQueries() {
+        InMemoryDriverMetrics metrics = new InMemoryDriverMetrics();
+        QueryRecorder recorder = start(metrics, "get");
+        recorder.streamOpened();
+        assertEquals(1, metrics.liveNativeHandles());
+        recorder.answered();
+        recorder.answered();
+        recorder.finish(3);
+        recorder.finish(3);
+
+        assertEquals(1, metrics.queries("get"));
+        assertEquals(Map.of("get", 1L), metrics.queries());
+        assertEquals(3, metrics.answers());
+        assertEquals(1, metrics.timeToFirstAnswer().count());
+        assertEquals(1, metrics.streamTime().count());
+        assertEquals(0, metrics.cancelledStreams());
+        assertEquals(0, metrics.liveNativeHandles());
+        assertTrue(metrics.jniCalls() >= 1);
+    }
+
+    @Test
+    public void recordsCancelledStreams() {
+        InMemoryDriverMetrics metrics = new InMemoryDriverMetrics();
+        QueryRecorder recorder = start(metrics, "fetch");
+        recorder.streamOpened();
+        recorder.cancel(1);
+        recorder.cancel(1);
+
+        assertEquals(1, metrics.cancelledStreams());
+        assertEquals(1, metrics.answers());
+        assertEquals(0, metrics.timeToFirstAnswer().count());
+        assertEquals(0, metrics.liveNativeHandles());
+    }
+
+    @Test
+    public void tracksOpenSessionsAndTransactions() {
+        InMemoryDriverMetrics metrics = new InMemoryDriverMetrics();
+        metrics.sessionOpened();
+        metrics.transactionOpened();
+        metrics.transactionOpened();
+        metrics.transactionClosed();
+        assertEquals(1, metrics.openSessions());
+        assertEquals(1, metrics.openTransactions());
+
+        metrics.committed(Duration.ofMillis(5));
+        metrics.conflict();
+        assertEquals(1, metrics.commitLatency().count());
+        assertEquals(1, metrics.conflicts());
+    }
+
+    @Test
+    public void aggregatesQueueDelaysByLane() {
+        InMemoryDriverMetrics metrics = new InMemoryDriverMetrics();
+        metrics.queueDelay("batch", 4, Duration.ofMillis(40), Duration.ofMillis(25));
+        metrics.queueDelay("batch", 4, Duration.ofMillis(40), Duration.ofMillis(15));
+
+        assertEquals(8, metrics.queuedRequests("batch"));
+        assertEquals(Duration.ofMillis(10), metrics.meanQueueDelay("batch"));
+        assertEquals(Duration.ofMillis(25), metrics.maxQueueDelay("batch"));
+        assertEquals(0, metrics.queuedRequests("interactive"));
+        assertEquals(Duration.ZERO, metrics.meanQueueDelay("interactive"));
+    }
+
+    @Test
+    public void keepsPeakResponseBuffer() {
+        InMemoryDriverMetrics metrics = new InMemoryDriverMetrics();
+        metrics.responseBuffer(1000, 2);
+        metrics.responseBuffer(400, 1);
+
+        assertEquals(1000, metrics.peakResponseBufferBytes());
+        assertEquals(3, metrics.pausedContinuations());
+    }
+
+    @Test
+    public void countsAdmissionsAndRejectionsByResource() {
+        InMemoryDriverMetrics metrics = new InMemoryDriverMetrics();
+        metrics.admitted("query", Duration.ofMillis(2));
+        metrics.rejected("query");
+        metrics.rejected("query");
+
+        assertEquals(1, metrics.admissionQueueTime("query").count());
+        assertEquals(2, metrics.rejections("query"));
+        assertEquals(0, metrics.rejections("session"));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.common.tracing;
+
+import com.vaticle.typedb.driver.common.metrics.DriverMetrics;
+import com.vaticle.typedb.driver.common.metrics.QueryRecorder;
+import com.vaticle.typedb.driver.common.tracing.InMemorySpanExporter.RecordedSpan;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class InMemorySpanExporterTest {
+
+    @Test
+    public void recordsSpansOnceInTheOrderTheyEnd() {
+        InMemorySpanExporter exporter = new InMemorySpanExporter();
+        DriverTracer.Span outer = exporter.startSpan(DriverTracer.TRANSACTION_OPEN).setAttribute(DriverTracer.DATABASE, "db");
+        DriverTracer.Span inner = exporter.startSpan(DriverTracer.SESSION_OPEN).setAttribute(DriverTracer.RETRIES, 2);
+        assertTrue(exporter.finishedSpans().isEmpty());
+
+        inner.end();
+        outer.end();
+        outer.end();
+
+        List<RecordedSpan> spans = exporter.finishedSpans();
+        assertEquals(2, spans.size());
+        assertEquals(DriverTracer.SESSION_OPEN, spans.get(0).name());
+        assertEquals(Map.of(DriverTracer.RETRIES, 2L), spans.get(0).attributes());
+        assertEquals(DriverTracer.TRANSACTION_OPEN, spans.get(1).name());
+        assertEquals(Map.of(DriverTracer.DATABASE, "db"), spans.get(1).attributes());
+        assertFalse(spans.get(1).error().isPresent());
+        assertFalse(spans.get(1).duration().isNegative());
+    }
+
+    @Test
+    public void attributesSetAfterEndingAreNotRecorded() {
+        InMemorySpanExporter exporter = new InMemorySpanExporter();
+        DriverTracer.Span span = exporter.startSpan(DriverTracer.COMMIT);
+        span.end();
+        span.setAttribute(DriverTracer.DATABASE, "db");
+
+        assertTrue(exporter.finishedSpans().get(0).attributes().isEmpty());
+    }
+
+    @Test
+    public void recordsQueryErrors() {
+        InMemorySpanExporter exporter = new InMemorySpanExporter();
+        QueryRecorder recorder = QueryRecorder.start(DriverMetrics.NOOP, exporter, null, null, "db", "insert", "insert $x isa person;");
+        RuntimeException error = new RuntimeException("failed");
+        recorder.fail(error, 0);
+
+        RecordedSpan span = exporter.finishedSpans().get(0);
+        assertEquals(DriverTracer.QUERY, span.name());
+        assertEquals(Map.of(DriverTracer.DATABASE, "db", DriverTracer.QUERY_KIND, "insert", DriverTracer.ANSWERS, 0L), span.attributes());
+        assertSame(error, span.error().get());
+    }
+
+    @Test
+    public void resetDiscardsFinishedSpans() {
+        InMemorySpanExporter exporter = new InMemorySpanExporter();
+        exporter.startSpan(DriverTracer.QUERY).end();
+        exporter.reset();
+
+        assertTrue(exporter.finishedSpans().isEmpty());
+    }
+}
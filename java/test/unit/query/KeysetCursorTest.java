@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.driver.query;
+
+import com.vaticle.typedb.driver.common.exception.TypeDBDriverException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class KeysetCursorTest {
+
+    @Test
+    public void doubleKeysAreWrittenWithoutExponent() {
+        assertEquals("0.5", KeysetCursor.doubleLiteral(0.5));
+        assertEquals("-12.25", KeysetCursor.doubleLiteral(-12.25));
+        assertEquals("0.0000010", KeysetCursor.doubleLiteral(1e-6));
+        assertEquals("12345678900000000000.0", KeysetCursor.doubleLiteral(1.23456789e19));
+        assertEquals("100.0", KeysetCursor.doubleLiteral(100.0));
+    }
+
+    @Test
+    public void nonFiniteDoubleKeysAreRejected() {
+        assertRejected(() -> KeysetCursor.doubleLiteral(Double.NaN));
+        assertRejected(() -> KeysetCursor.doubleLiteral(Double.POSITIVE_INFINITY));
+        assertRejected(() -> KeysetCursor.doubleLiteral(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    public void stringKeysAreEscaped() {
+        assertEquals("\"plain\"", KeysetCursor.stringLiteral("plain"));
+        assertEquals("\"say \\\"hi\\\"\"", KeysetCursor.stringLiteral("say \"hi\""));
+        assertEquals("\"back\\\\slash\"", KeysetCursor.stringLiteral("back\\slash"));
+    }
+
+    @Test
+    public void tokensRoundTripEveryKeyLiteral() {
+        String[] keys = {
+                "42", "-7", KeysetCursor.doubleLiteral(1e-6), KeysetCursor.doubleLiteral(1.23456789e19),
+                KeysetCursor.stringLiteral("say \"hi\""), "2024-02-29T13:45", "2024-02-29T13:45:07.123456789"
+        };
+        for (String key : keys) {
+            assertEquals(key, KeysetCursor.decodeToken(KeysetCursor.encodeToken(key)));
+        }
+    }
+
+    @Test
+    public void tokensWhichAreNotSingleLiteralsAreRejected() {
+        String[] keys = {"1.0E10", "1; delete $x isa thing", "\"unterminated", "NaN", ""};
+        for (String key : keys) {
+            assertRejected(() -> KeysetCursor.decodeToken(KeysetCursor.encodeToken(key)));
+        }
+        assertRejected(() -> KeysetCursor.decodeToken("not base64!"));
+    }
+
+    private static void assertRejected(Runnable action) {
+        try {
+            action.run();
+            fail();
+        } catch (TypeDBDriverException ignored) {
+        }
+    }
+}
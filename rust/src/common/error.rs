@@ -22,7 +22,7 @@ use std::{collections::HashSet, error::Error as StdError, fmt};
 use tonic::{Code, Status};
 use typeql::error_messages;
 
-use super::RequestID;
+use super::{CompressionAlgorithm, RequestID};
 
 error_messages! { ConnectionError
     code: "CXN", type: "Connection Error",
@@ -74,6 +74,28 @@ error_messages! { ConnectionError
         23: "Invalid URL '{address}': missing port.",
     AddressTranslationMismatch { unknown: HashSet<String>, unmapped: HashSet<String> } =
         24: "Address translation map does not match the server's advertised address list. User-provided servers not in the advertised list: {unknown:?}. Advertised servers not mapped by user: {unmapped:?}.",
+    QueryTimedOut { timeout_millis: u128 } =
+        25: "The query did not complete within its timeout of {timeout_millis}ms and was cancelled. The transaction remains open.",
+    CompressionUnavailable { algorithm: CompressionAlgorithm } =
+        26: "This driver was built without support for {algorithm:?} compression.",
+}
+
+impl ConnectionError {
+    // The codes of the isolation violations the server reports when a commit conflicts with a concurrent transaction.
+    const ISOLATION_CONFLICT_CODES: [&'static str; 3] = ["[TXN13]", "[TXN14]", "[TXN15]"];
+
+    /// Returns true if the transaction was closed because its commit conflicted with a concurrent transaction.
+    /// Such errors keep the code of `TransactionIsClosedWithErrors`, and are told apart by the code
+    /// of the server error they carry.
+    pub fn is_isolation_conflict(&self) -> bool {
+        match self {
+            Self::TransactionIsClosedWithErrors { errors } => matches!(
+                errors.split_ascii_whitespace().next(),
+                Some(code) if Self::ISOLATION_CONFLICT_CODES.contains(&code)
+            ),
+            _ => false,
+        }
+    }
 }
 
 error_messages! { InternalError
@@ -111,6 +133,14 @@ impl Error {
         }
     }
 
+    /// Returns true if the transaction was closed because its commit conflicted with a concurrent transaction.
+    pub fn is_isolation_conflict(&self) -> bool {
+        match self {
+            Self::Connection(error) => error.is_isolation_conflict(),
+            _ => false,
+        }
+    }
+
     pub fn message(&self) -> String {
         match self {
             Self::Connection(error) => error.message(),
@@ -27,9 +27,31 @@ pub struct ID(Vec<u8>);
 impl ID {
     const PREFIX: &'static str = "0x";
 
+    // The first byte of the iid of a Thing is the encoding prefix of its kind
+    const ENTITY_PREFIX: u8 = 150;
+    const ATTRIBUTE_PREFIX: u8 = 160;
+    const RELATION_PREFIX: u8 = 170;
+
     pub(crate) fn generate() -> Self {
         Uuid::new_v4().as_bytes().to_vec().into()
     }
+
+    /// The kind of `Thing` identified by this iid, or `None` if it is not the iid of a `Thing`.
+    pub(crate) fn thing_kind(&self) -> Option<ThingKind> {
+        match self.0.first()? {
+            &Self::ENTITY_PREFIX => Some(ThingKind::Entity),
+            &Self::ATTRIBUTE_PREFIX => Some(ThingKind::Attribute),
+            &Self::RELATION_PREFIX => Some(ThingKind::Relation),
+            _ => None,
+        }
+    }
+}
+
+#[derive(Copy, Clone, Debug, Eq, PartialEq)]
+pub(crate) enum ThingKind {
+    Entity,
+    Attribute,
+    Relation,
 }
 
 impl From<ID> for Vec<u8> {
@@ -48,4 +48,9 @@ pub struct ReplicaInfo {
     pub is_preferred: bool,
     /// The raft protocol ‘term’ of this replica.
     pub term: i64,
+    /// The number of requests from this driver currently in flight to the server hosting this replica.
+    pub outstanding_requests: usize,
+    /// The moving-average latency of requests from this driver to the server hosting this replica,
+    /// if any request has completed yet.
+    pub latency: Option<Duration>,
 }
@@ -17,6 +17,8 @@
  * under the License.
  */
 
+use std::time::Duration;
+
 pub(crate) mod address;
 pub mod error;
 mod id;
@@ -41,6 +43,7 @@ pub(crate) type Callback = Box<dyn FnOnce() + Send>;
 pub(crate) type StdResult<T, E> = std::result::Result<T, E>;
 pub type Result<T = ()> = StdResult<T, Error>;
 
+pub(crate) use self::id::ThingKind;
 pub type IID = id::ID;
 pub(crate) type RequestID = id::ID;
 pub(crate) type SessionID = id::ID;
@@ -72,3 +75,248 @@ pub enum TransactionType {
     Read = 0,
     Write = 1,
 }
+
+/// This enum is used to specify how operations that may run on any replica choose the replica to try first.
+/// The remaining replicas are tried in turn if the chosen replica is unavailable.
+/// Sessions are only opened on a selected replica if they are data sessions with `read_any_replica` set:
+/// all other sessions are opened on the primary replica.
+///
+/// # Examples
+///
+/// ```rust
+/// connection.set_replica_selector(ReplicaSelector::LowestLatency)
+/// ```
+#[repr(C)]
+#[derive(Copy, Clone, Debug, Default, Eq, PartialEq)]
+pub enum ReplicaSelector {
+    /// Replicas are tried in the order reported by the server.
+    #[default]
+    ListOrder = 0,
+    /// Each operation starts from the replica after the one the previous operation started from.
+    RoundRobin = 1,
+    /// Replicas with the fewest requests in flight from this driver are tried first.
+    LeastOutstanding = 2,
+    /// Replicas with the lowest moving-average request latency are tried first.
+    /// Replicas without latency measurements yet are tried before all others.
+    LowestLatency = 3,
+    /// The preferred replica, as reported by the server, is tried first.
+    PreferLocal = 4,
+}
+
+/// This enum is used to specify the priority lane in which a transaction's requests are dispatched.
+/// Requests are sent in the order they are issued, except that requests for further answers of batch reads
+/// may be sent after requests issued later, without being starved. Writes, commits and rollbacks are only sent
+/// after every request issued before them.
+///
+/// # Examples
+///
+/// ```rust
+/// let options = Options::new().priority(RequestPriority::Batch);
+/// ```
+#[repr(C)]
+#[derive(Copy, Clone, Debug, Default, Eq, PartialEq, Hash)]
+pub enum RequestPriority {
+    /// Latency-sensitive requests, which further answers of batch reads do not delay.
+    #[default]
+    Interactive = 0,
+    /// Throughput-oriented requests, such as bulk loads and exports.
+    Batch = 1,
+}
+
+/// Queueing delay observed by the requests of one priority lane of a transaction,
+/// measured from submitting a request until it is sent to the server.
+///
+/// # Examples
+///
+/// ```rust
+/// let delay = transaction.queue_delay(RequestPriority::Batch);
+/// ```
+#[derive(Copy, Clone, Debug, Default, Eq, PartialEq)]
+pub struct QueueDelay {
+    /// The number of requests sent from the lane.
+    pub requests: u64,
+    /// The total time the lane's requests spent queued.
+    pub total: Duration,
+    /// The longest time any of the lane's requests spent queued.
+    pub max: Duration,
+}
+
+/// Response parts received from the server but not yet consumed, as measured against a response buffer limit.
+/// Sizes are those of the encoded response parts.
+///
+/// # Examples
+///
+/// ```rust
+/// let buffer = transaction.response_buffer();
+/// ```
+#[derive(Copy, Clone, Debug, Default, Eq, PartialEq)]
+pub struct ResponseBufferStats {
+    /// The limit on buffered bytes, if any.
+    pub limit: Option<usize>,
+    /// The number of bytes currently buffered.
+    pub buffered_bytes: usize,
+    /// The largest number of bytes buffered at once.
+    pub peak_bytes: usize,
+    /// The number of times a stream stopped requesting further answers because the buffer was full.
+    pub paused_continuations: u64,
+}
+
+/// Execution statistics of a transaction, as counted by the driver since the transaction was opened.
+/// Sizes are those of the encoded messages.
+///
+/// # Examples
+///
+/// ```rust
+/// let stats = transaction.stats();
+/// ```
+#[derive(Copy, Clone, Debug, Default, Eq, PartialEq)]
+pub struct TransactionStats {
+    /// The number of requests sent to the server, including requests for further answers of streamed queries.
+    pub round_trips: u64,
+    /// The number of network messages the requests were batched into.
+    pub dispatches: u64,
+    /// The number of bytes sent to the server.
+    pub bytes_sent: u64,
+    /// The number of bytes received from the server.
+    pub bytes_received: u64,
+    /// The number of queries sent to the server.
+    pub queries: u64,
+    /// The number of query answers received from the server.
+    pub answers: u64,
+    /// The number of single-response requests whose promises have been resolved.
+    pub promises_resolved: u64,
+    /// The total time spent blocked waiting for responses from the server.
+    /// Only measured by the blocking (`sync`) driver.
+    pub native_wait: Duration,
+}
+
+impl TransactionStats {
+    /// The mean number of requests batched into each network message.
+    pub fn requests_per_dispatch(&self) -> f64 {
+        if self.dispatches == 0 {
+            0.0
+        } else {
+            self.round_trips as f64 / self.dispatches as f64
+        }
+    }
+
+    /// The mean number of answers received per query.
+    pub fn answers_per_query(&self) -> f64 {
+        if self.queries == 0 {
+            0.0
+        } else {
+            self.answers as f64 / self.queries as f64
+        }
+    }
+}
+
+/// This enum is used to specify the algorithm used to compress messages exchanged with the server.
+///
+/// # Examples
+///
+/// ```rust
+/// Compression { algorithm: CompressionAlgorithm::Gzip, min_message_size: 0 }
+/// ```
+#[repr(C)]
+#[derive(Copy, Clone, Debug, Eq, PartialEq)]
+pub enum CompressionAlgorithm {
+    Gzip = 0,
+    Zstd = 1,
+}
+
+impl CompressionAlgorithm {
+    /// Whether the driver was built with support for this algorithm,
+    /// enabled by the `compression-gzip` and `compression-zstd` crate features respectively.
+    pub fn is_available(self) -> bool {
+        match self {
+            Self::Gzip => cfg!(feature = "compression-gzip"),
+            Self::Zstd => cfg!(feature = "compression-zstd"),
+        }
+    }
+}
+
+/// Transport compression of the messages exchanged with the server, configured when opening a connection.
+/// Responses are compressed by the server, if it supports the algorithm, according to its own policy.
+/// Requests outside transactions, such as opening sessions or managing databases, are compressed by the driver
+/// if their encoded size is at least `min_message_size` bytes. Transaction requests, including queries,
+/// are sent on a stream opened before they are known, so they are compressed only if `min_message_size` is zero,
+/// and are all sent uncompressed otherwise.
+///
+/// The algorithm must be enabled by the `compression-gzip` or `compression-zstd` crate feature,
+/// see [`CompressionAlgorithm::is_available`].
+///
+/// # Examples
+///
+/// ```rust
+/// Connection::new_core_with_compression(
+///     "127.0.0.1:1729",
+///     Compression { algorithm: CompressionAlgorithm::Zstd, min_message_size: 0 },
+/// )
+/// ```
+#[derive(Copy, Clone, Debug, Eq, PartialEq)]
+pub struct Compression {
+    /// The compression algorithm.
+    pub algorithm: CompressionAlgorithm,
+    /// The encoded size in bytes below which requests outside transactions are sent uncompressed.
+    /// Transaction requests are compressed only if this is zero.
+    pub min_message_size: usize,
+}
+
+/// Sizes of the messages exchanged with the server by a connection, both as framed gRPC messages
+/// before compression and as transferred, after compression. Both include the 5-byte gRPC message prefix.
+///
+/// # Examples
+///
+/// ```rust
+/// connection.compression_stats().received_ratio()
+/// ```
+#[derive(Copy, Clone, Debug, Default, Eq, PartialEq)]
+pub struct CompressionStats {
+    /// The number of bytes of messages sent, before compression.
+    pub message_bytes_sent: u64,
+    /// The number of bytes sent, after compression.
+    pub wire_bytes_sent: u64,
+    /// The number of bytes of messages received, after decompression.
+    pub message_bytes_received: u64,
+    /// The number of bytes received, before decompression.
+    pub wire_bytes_received: u64,
+}
+
+impl CompressionStats {
+    /// The ratio of bytes sent to the size of the messages sent: 1 without compression, and smaller the better
+    /// requests compress.
+    pub fn sent_ratio(&self) -> f64 {
+        if self.message_bytes_sent == 0 {
+            1.0
+        } else {
+            self.wire_bytes_sent as f64 / self.message_bytes_sent as f64
+        }
+    }
+
+    /// The ratio of bytes received to the size of the messages received: 1 without compression, and smaller the better
+    /// responses compress.
+    pub fn received_ratio(&self) -> f64 {
+        if self.message_bytes_received == 0 {
+            1.0
+        } else {
+            self.wire_bytes_received as f64 / self.message_bytes_received as f64
+        }
+    }
+}
+
+/// Policy for hedging the opening of data sessions that read from any replica.
+/// If the first replica chosen has not responded within the hedge delay, the same request is also sent
+/// to the next replica; the first successful response is used and the other session is closed.
+///
+/// # Examples
+///
+/// ```rust
+/// connection.set_hedge_policy(Some(HedgePolicy { percentile: 0.95, fallback_delay: Duration::from_millis(50) }))
+/// ```
+#[derive(Copy, Clone, Debug, PartialEq)]
+pub struct HedgePolicy {
+    /// The percentile (between 0 and 1) of the recent request latencies to the first replica used as the hedge delay.
+    pub percentile: f64,
+    /// The hedge delay used while no latencies to the first replica have been measured yet.
+    pub fallback_delay: Duration,
+}
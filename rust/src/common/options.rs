@@ -19,6 +19,8 @@
 
 use std::time::Duration;
 
+use super::RequestPriority;
+
 /// TypeDB session and transaction options.
 /// `TypeDBOptions` object can be used to override the default server behaviour.
 /// Options are specified using properties assignment.
@@ -50,6 +52,16 @@ pub struct Options {
     pub schema_lock_acquire_timeout: Option<Duration>,
     /// If set to `True`, enables reading data from any replica, potentially boosting read throughput. Only settable in TypeDB Cloud.
     pub read_any_replica: Option<bool>,
+    /// If set, specifies how long the driver waits for a query to complete before cancelling it, leaving the transaction open.
+    /// Enforced by the driver only. When set on a transaction, it applies to all queries without their own timeout.
+    pub query_timeout: Option<Duration>,
+    /// If set, specifies the priority lane in which requests are dispatched to the server. Requests for further answers
+    /// of batch reads may be sent after requests issued later; all other requests are sent in the order they are issued.
+    /// Enforced by the driver only. When set on a transaction, it applies to all queries without their own priority.
+    pub priority: Option<RequestPriority>,
+    /// If set, limits the size in bytes of the answers the transaction has received but not yet consumed. While the limit
+    /// is exceeded, streamed queries holding unconsumed answers stop requesting further answers. Only settable at transaction level. Enforced by the driver only.
+    pub response_buffer_limit: Option<usize>,
 }
 
 impl Options {
@@ -106,4 +118,23 @@ impl Options {
     pub fn read_any_replica(self, read_any_replica: bool) -> Self {
         Self { read_any_replica: Some(read_any_replica), ..self }
     }
+
+    /// If set, specifies how long the driver waits for a query to complete before cancelling it, leaving the transaction open.
+    /// Enforced by the driver only. When set on a transaction, it applies to all queries without their own timeout.
+    pub fn query_timeout(self, timeout: Duration) -> Self {
+        Self { query_timeout: Some(timeout), ..self }
+    }
+
+    /// If set, specifies the priority lane in which requests are dispatched to the server. Requests for further answers
+    /// of batch reads may be sent after requests issued later; all other requests are sent in the order they are issued.
+    /// Enforced by the driver only. When set on a transaction, it applies to all queries without their own priority.
+    pub fn priority(self, priority: RequestPriority) -> Self {
+        Self { priority: Some(priority), ..self }
+    }
+
+    /// If set, limits the size in bytes of the answers the transaction has received but not yet consumed. While the limit
+    /// is exceeded, streamed queries holding unconsumed answers stop requesting further answers. Only settable at transaction level. Enforced by the driver only.
+    pub fn response_buffer_limit(self, limit: usize) -> Self {
+        Self { response_buffer_limit: Some(limit), ..self }
+    }
 }
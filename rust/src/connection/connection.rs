@@ -20,35 +20,45 @@
 use std::{
     collections::{HashMap, HashSet},
     fmt,
-    sync::{Arc, Mutex},
+    future::Future,
+    sync::{
+        atomic::{AtomicBool, AtomicUsize, Ordering},
+        Arc, Mutex, Weak,
+    },
     time::Duration,
 };
 
-use crossbeam::channel::Sender;
+use crossbeam::{atomic::AtomicCell, channel::Sender};
 use futures::future::join_all;
 use itertools::Itertools;
+use log::debug;
 use tokio::{
     select,
     sync::{
         mpsc::{unbounded_channel as unbounded_async, UnboundedReceiver, UnboundedSender},
         oneshot::{channel as oneshot_async, Sender as AsyncOneshotSender},
     },
-    time::{sleep_until, Instant},
+    time::{sleep_until, timeout, Instant},
 };
 
 use super::{
-    network::transmitter::{RPCTransmitter, TransactionTransmitter},
+    network::{
+        transmitter::{RPCTransmitter, ResponseBudget, TransactionTransmitter},
+        TransportStats,
+    },
     runtime::BackgroundRuntime,
-    TransactionStream,
+    ReplicaStats, TransactionStream,
 };
 use crate::{
     common::{
         address::Address,
         error::{ConnectionError, Error},
         info::{DatabaseInfo, SessionInfo},
-        Callback, Result, SessionID, SessionType, TransactionType,
+        Callback, Compression, CompressionStats, HedgePolicy, ReplicaSelector, ResponseBufferStats, Result, SessionID,
+        SessionType, TransactionType,
     },
     connection::message::{Request, Response, TransactionRequest},
+    database::DatabaseTopology,
     error::InternalError,
     user::User,
     Credential, Options,
@@ -61,6 +71,12 @@ pub struct Connection {
     background_runtime: Arc<BackgroundRuntime>,
     username: Option<String>,
     is_cloud: bool,
+    replica_selector: Arc<AtomicCell<ReplicaSelector>>,
+    replica_rotation: Arc<AtomicUsize>,
+    hedge_policy: Arc<AtomicCell<Option<HedgePolicy>>>,
+    response_budget: Arc<ResponseBudget>,
+    transport_stats: Arc<TransportStats>,
+    database_topologies: Arc<Mutex<HashMap<String, Weak<DatabaseTopology>>>>,
 }
 
 impl Connection {
@@ -76,10 +92,52 @@ impl Connection {
     /// Connection::new_core("127.0.0.1:1729")
     /// ```
     pub fn new_core(address: impl AsRef<str>) -> Result<Self> {
+        Self::new_core_impl(address, None)
+    }
+
+    /// Creates a new TypeDB Server connection which compresses the messages exchanged with the server.
+    /// Fails if the driver was built without support for the compression algorithm.
+    ///
+    /// # Arguments
+    ///
+    /// * `address` -- The address (host:port) on which the TypeDB Server is running
+    /// * `compression` -- The compression algorithm, and the size below which requests are sent uncompressed.
+    ///   See [`Compression`] for which requests are compressed
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// Connection::new_core_with_compression(
+    ///     "127.0.0.1:1729",
+    ///     Compression { algorithm: CompressionAlgorithm::Gzip, min_message_size: 0 },
+    /// )
+    /// ```
+    pub fn new_core_with_compression(address: impl AsRef<str>, compression: Compression) -> Result<Self> {
+        Self::check_compression(compression)?;
+        Self::new_core_impl(address, Some(compression))
+    }
+
+    fn check_compression(compression: Compression) -> Result {
+        if compression.algorithm.is_available() {
+            Ok(())
+        } else {
+            Err(ConnectionError::CompressionUnavailable { algorithm: compression.algorithm }.into())
+        }
+    }
+
+    fn new_core_impl(address: impl AsRef<str>, compression: Option<Compression>) -> Result<Self> {
         let id = address.as_ref().to_string();
         let address: Address = id.parse()?;
         let background_runtime = Arc::new(BackgroundRuntime::new()?);
-        let server_connection = ServerConnection::new_core(background_runtime.clone(), address)?;
+        let response_budget: Arc<ResponseBudget> = Default::default();
+        let transport_stats: Arc<TransportStats> = Default::default();
+        let server_connection = ServerConnection::new_core(
+            background_runtime.clone(),
+            address,
+            compression,
+            response_budget.clone(),
+            transport_stats.clone(),
+        )?;
 
         let advertised_id = server_connection
             .servers_all()?
@@ -94,6 +152,12 @@ impl Connection {
                 background_runtime,
                 username: None,
                 is_cloud: false,
+                replica_selector: Default::default(),
+                replica_rotation: Default::default(),
+                hedge_policy: Default::default(),
+                response_budget,
+                transport_stats,
+                database_topologies: Default::default(),
             }),
             Err(err) => Err(err),
         }
@@ -122,6 +186,42 @@ impl Connection {
     /// )
     /// ```
     pub fn new_cloud<T: AsRef<str> + Sync>(init_addresses: &[T], credential: Credential) -> Result<Self> {
+        Self::new_cloud_from_init_addresses(init_addresses, credential, None)
+    }
+
+    /// Creates a new TypeDB Cloud connection which compresses the messages exchanged with the servers.
+    /// Fails if the driver was built without support for the compression algorithm.
+    ///
+    /// # Arguments
+    ///
+    /// * `init_addresses` -- Addresses (host:port) on which TypeDB Cloud nodes are running
+    /// * `credential` -- User credential and TLS encryption setting
+    /// * `compression` -- The compression algorithm, and the size below which requests are sent uncompressed.
+    ///   See [`Compression`] for which requests are compressed
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// Connection::new_cloud_with_compression(
+    ///     &["localhost:11729", "localhost:21729", "localhost:31729"],
+    ///     credential,
+    ///     Compression { algorithm: CompressionAlgorithm::Zstd, min_message_size: 0 },
+    /// )
+    /// ```
+    pub fn new_cloud_with_compression<T: AsRef<str> + Sync>(
+        init_addresses: &[T],
+        credential: Credential,
+        compression: Compression,
+    ) -> Result<Self> {
+        Self::check_compression(compression)?;
+        Self::new_cloud_from_init_addresses(init_addresses, credential, Some(compression))
+    }
+
+    fn new_cloud_from_init_addresses<T: AsRef<str> + Sync>(
+        init_addresses: &[T],
+        credential: Credential,
+        compression: Option<Compression>,
+    ) -> Result<Self> {
         let background_runtime = Arc::new(BackgroundRuntime::new()?);
 
         let servers = Self::fetch_server_list(background_runtime.clone(), init_addresses, credential.clone())?;
@@ -134,7 +234,7 @@ impl Connection {
             })
             .try_collect()?;
 
-        Self::new_cloud_impl(server_to_address, background_runtime, credential)
+        Self::new_cloud_impl(server_to_address, background_runtime, credential, compression)
     }
 
     /// Creates a new TypeDB Cloud connection.
@@ -184,19 +284,29 @@ impl Connection {
 
         debug_assert_eq!(servers, translated);
 
-        Self::new_cloud_impl(server_to_address, background_runtime, credential)
+        Self::new_cloud_impl(server_to_address, background_runtime, credential, None)
     }
 
     fn new_cloud_impl(
         server_to_address: HashMap<String, Address>,
         background_runtime: Arc<BackgroundRuntime>,
         credential: Credential,
+        compression: Option<Compression>,
     ) -> Result<Connection> {
+        let response_budget: Arc<ResponseBudget> = Default::default();
+        let transport_stats: Arc<TransportStats> = Default::default();
         let server_connections: HashMap<String, ServerConnection> = server_to_address
             .into_iter()
             .map(|(server_id, address)| {
-                ServerConnection::new_cloud(background_runtime.clone(), address, credential.clone())
-                    .map(|server_connection| (server_id, server_connection))
+                ServerConnection::new_cloud(
+                    background_runtime.clone(),
+                    address,
+                    credential.clone(),
+                    compression,
+                    response_budget.clone(),
+                    transport_stats.clone(),
+                )
+                .map(|server_connection| (server_id, server_connection))
             })
             .try_collect()?;
 
@@ -212,6 +322,12 @@ impl Connection {
                 background_runtime,
                 username: Some(credential.username().to_owned()),
                 is_cloud: true,
+                replica_selector: Default::default(),
+                replica_rotation: Default::default(),
+                hedge_policy: Default::default(),
+                response_budget,
+                transport_stats,
+                database_topologies: Default::default(),
             })
         }
     }
@@ -222,8 +338,14 @@ impl Connection {
         credential: Credential,
     ) -> Result<HashSet<String>> {
         for address in addresses.clone() {
-            let server_connection =
-                ServerConnection::new_cloud(background_runtime.clone(), address.as_ref().parse()?, credential.clone());
+            let server_connection = ServerConnection::new_cloud(
+                background_runtime.clone(),
+                address.as_ref().parse()?,
+                credential.clone(),
+                None,
+                Default::default(),
+                Default::default(),
+            );
             match server_connection {
                 Ok(server_connection) => match server_connection.servers_all() {
                     Ok(servers) => return Ok(servers.into_iter().collect()),
@@ -287,6 +409,125 @@ impl Connection {
         self.server_connections.keys().map(String::as_str)
     }
 
+    /// Sets how operations that may run on any replica choose the replica to try first.
+    /// _Only affects TypeDB Cloud_
+    ///
+    /// # Arguments
+    ///
+    /// * `replica_selector` -- The replica selection strategy
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// connection.set_replica_selector(ReplicaSelector::LowestLatency)
+    /// ```
+    pub fn set_replica_selector(&self, replica_selector: ReplicaSelector) {
+        self.replica_selector.store(replica_selector);
+    }
+
+    /// Returns the strategy used by operations that may run on any replica to choose the replica to try first.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// connection.replica_selector()
+    /// ```
+    pub fn replica_selector(&self) -> ReplicaSelector {
+        self.replica_selector.load()
+    }
+
+    /// Sets the policy for hedging the opening of data sessions with `read_any_replica` enabled,
+    /// or disables hedging if `None`. Hedging is disabled by default.
+    /// _Only affects TypeDB Cloud_
+    ///
+    /// # Arguments
+    ///
+    /// * `hedge_policy` -- The hedging policy
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// connection.set_hedge_policy(Some(HedgePolicy { percentile: 0.95, fallback_delay: Duration::from_millis(50) }))
+    /// ```
+    pub fn set_hedge_policy(&self, hedge_policy: Option<HedgePolicy>) {
+        self.hedge_policy.store(hedge_policy);
+    }
+
+    /// Returns the policy for hedging the opening of data sessions with `read_any_replica` enabled, if any.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// connection.hedge_policy()
+    /// ```
+    pub fn hedge_policy(&self) -> Option<HedgePolicy> {
+        self.hedge_policy.load()
+    }
+
+    /// Limits the total size of the answers that all transactions have received from the server but not yet consumed,
+    /// or removes the limit if `None`. While the limit is exceeded, streamed queries holding unconsumed answers
+    /// stop requesting further answers until answers have been consumed. There is no limit by default.
+    ///
+    /// # Arguments
+    ///
+    /// * `limit` -- The limit in bytes
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// connection.set_response_buffer_limit(Some(64 * 1024 * 1024))
+    /// ```
+    pub fn set_response_buffer_limit(&self, limit: Option<usize>) {
+        self.response_budget.set_limit(limit);
+    }
+
+    /// Returns the total size of the answers that all transactions have received from the server
+    /// but not yet consumed, and how often streams have been paused because of the response buffer limit.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// connection.response_buffer()
+    /// ```
+    pub fn response_buffer(&self) -> ResponseBufferStats {
+        self.response_budget.stats()
+    }
+
+    /// Returns the number of message bytes and wire bytes exchanged with the server over this connection,
+    /// from which the achieved compression ratio in each direction can be read.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// connection.compression_stats().sent_ratio()
+    /// ```
+    pub fn compression_stats(&self) -> CompressionStats {
+        self.transport_stats.snapshot()
+    }
+
+    pub(crate) fn next_replica_rotation(&self) -> usize {
+        self.replica_rotation.fetch_add(1, Ordering::Relaxed)
+    }
+
+    /// Returns the topology shared by the databases of the given name, and whether it has just been created.
+    pub(crate) fn database_topology(&self, name: &str) -> (Arc<DatabaseTopology>, bool) {
+        let mut topologies = self.database_topologies.lock().unwrap();
+        topologies.retain(|_, topology| topology.strong_count() > 0);
+        if let Some(topology) = topologies.get(name).and_then(Weak::upgrade) {
+            return (topology, false);
+        }
+        let topology: Arc<DatabaseTopology> = Default::default();
+        topologies.insert(name.to_owned(), Arc::downgrade(&topology));
+        (topology, true)
+    }
+
+    pub(crate) fn spawn_background<F>(&self, future: F)
+    where
+        F: Future<Output = ()> + Send + 'static,
+    {
+        self.background_runtime.spawn(future);
+    }
+
     pub(crate) fn connection(&self, id: &str) -> Option<&ServerConnection> {
         self.server_connections.get(id)
     }
@@ -314,20 +555,64 @@ impl fmt::Debug for Connection {
 
 #[derive(Clone)]
 pub(crate) struct ServerConnection {
+    address: Address,
     background_runtime: Arc<BackgroundRuntime>,
     open_sessions: Arc<Mutex<HashMap<SessionID, UnboundedSender<()>>>>,
     request_transmitter: Arc<RPCTransmitter>,
+    stats: Arc<ReplicaStats>,
+    response_budget: Arc<ResponseBudget>,
+    transport_stats: Arc<TransportStats>,
 }
 
 impl ServerConnection {
-    fn new_core(background_runtime: Arc<BackgroundRuntime>, address: Address) -> Result<Self> {
-        let request_transmitter = Arc::new(RPCTransmitter::start_core(address, &background_runtime)?);
-        Ok(Self { background_runtime, open_sessions: Default::default(), request_transmitter })
+    fn new_core(
+        background_runtime: Arc<BackgroundRuntime>,
+        address: Address,
+        compression: Option<Compression>,
+        response_budget: Arc<ResponseBudget>,
+        transport_stats: Arc<TransportStats>,
+    ) -> Result<Self> {
+        let request_transmitter = Arc::new(RPCTransmitter::start_core(
+            address.clone(),
+            compression,
+            transport_stats.clone(),
+            &background_runtime,
+        )?);
+        Ok(Self {
+            address,
+            background_runtime,
+            open_sessions: Default::default(),
+            request_transmitter,
+            stats: Default::default(),
+            response_budget,
+            transport_stats,
+        })
     }
 
-    fn new_cloud(background_runtime: Arc<BackgroundRuntime>, address: Address, credential: Credential) -> Result<Self> {
-        let request_transmitter = Arc::new(RPCTransmitter::start_cloud(address, credential, &background_runtime)?);
-        Ok(Self { background_runtime, open_sessions: Default::default(), request_transmitter })
+    fn new_cloud(
+        background_runtime: Arc<BackgroundRuntime>,
+        address: Address,
+        credential: Credential,
+        compression: Option<Compression>,
+        response_budget: Arc<ResponseBudget>,
+        transport_stats: Arc<TransportStats>,
+    ) -> Result<Self> {
+        let request_transmitter = Arc::new(RPCTransmitter::start_cloud(
+            address.clone(),
+            credential,
+            compression,
+            transport_stats.clone(),
+            &background_runtime,
+        )?);
+        Ok(Self {
+            address,
+            background_runtime,
+            open_sessions: Default::default(),
+            request_transmitter,
+            stats: Default::default(),
+            response_budget,
+            transport_stats,
+        })
     }
 
     pub(crate) fn validate(&self) -> Result {
@@ -337,19 +622,37 @@ impl ServerConnection {
         }
     }
 
+    pub(crate) fn address(&self) -> &Address {
+        &self.address
+    }
+
+    pub(crate) fn stats(&self) -> &ReplicaStats {
+        &self.stats
+    }
+
     #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
     async fn request(&self, request: Request) -> Result<Response> {
         if !self.background_runtime.is_open() {
             return Err(ConnectionError::ConnectionIsClosed.into());
         }
-        self.request_transmitter.request(request).await
+        let timer = self.stats.start_request();
+        let response = self.request_transmitter.request(request).await;
+        if response.is_ok() {
+            timer.succeeded();
+        }
+        response
     }
 
     fn request_blocking(&self, request: Request) -> Result<Response> {
         if !self.background_runtime.is_open() {
             return Err(ConnectionError::ConnectionIsClosed.into());
         }
-        self.request_transmitter.request_blocking(request)
+        let timer = self.stats.start_request();
+        let response = self.request_transmitter.request_blocking(request);
+        if response.is_ok() {
+            timer.succeeded();
+        }
+        response
     }
 
     pub(crate) fn force_close(&self) -> Result {
@@ -389,6 +692,15 @@ impl ServerConnection {
         }
     }
 
+    /// Retrieves the replicas of a database without blocking the calling thread in either build,
+    /// for use by tasks running on the background runtime.
+    pub(crate) async fn get_database_replicas_in_background(&self, database_name: String) -> Result<DatabaseInfo> {
+        match self.request_transmitter.request_async(Request::DatabaseGet { database_name }).await? {
+            Response::DatabaseGet { database } => Ok(database),
+            other => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
+        }
+    }
+
     #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
     pub(crate) async fn all_databases(&self) -> Result<Vec<DatabaseInfo>> {
         match self.request(Request::DatabasesAll).await? {
@@ -435,7 +747,45 @@ impl ServerConnection {
         options: Options,
     ) -> Result<SessionInfo> {
         let start = Instant::now();
-        match self.request(Request::SessionOpen { database_name, session_type, options }).await? {
+        let response = self.request(Request::SessionOpen { database_name, session_type, options }).await?;
+        self.session_opened(response, start)
+    }
+
+    /// Opens the session on this server, and also on `hedge` if this server has not responded within `hedge_delay`.
+    /// Returns the connection to the server whose session was opened first; the other session, if any, is closed.
+    /// The network latency of the session is measured from the moment its own request was sent.
+    #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
+    pub(crate) async fn open_session_hedged(
+        &self,
+        hedge: &ServerConnection,
+        hedge_delay: Duration,
+        database_name: String,
+        session_type: SessionType,
+        options: Options,
+    ) -> Result<(ServerConnection, SessionInfo)> {
+        if !self.background_runtime.is_open() {
+            return Err(ConnectionError::ConnectionIsClosed.into());
+        }
+        let race = race_session_open([self.clone(), hedge.clone()], hedge_delay, database_name, session_type, options);
+
+        #[cfg(feature = "sync")]
+        let (winner, start, response) = self.background_runtime.run_blocking(race)?;
+
+        #[cfg(not(feature = "sync"))]
+        let (winner, start, response) = {
+            let (result_sink, result) = oneshot_async();
+            self.background_runtime.spawn(async move {
+                result_sink.send(race.await).ok();
+            });
+            result.await??
+        };
+
+        let connection = if winner == 0 { self } else { hedge };
+        connection.session_opened(response, start).map(|info| (connection.clone(), info))
+    }
+
+    fn session_opened(&self, response: Response, start: Instant) -> Result<SessionInfo> {
+        match response {
             Response::SessionOpen { session_id, server_duration } => {
                 let (on_close_register_sink, on_close_register_source) = unbounded_async();
                 let (pulse_shutdown_sink, pulse_shutdown_source) = unbounded_async();
@@ -488,6 +838,8 @@ impl ServerConnection {
                     request_sink,
                     response_source,
                     self.background_runtime.callback_handler_sink(),
+                    Arc::new(ResponseBudget::new(options.response_buffer_limit, Some(self.response_budget.clone()))),
+                    self.transport_stats.clone(),
                 );
                 let transmitter_shutdown_sink = transmitter.shutdown_sink().clone();
                 let transaction_stream = TransactionStream::new(transaction_type, options, transmitter);
@@ -565,6 +917,71 @@ impl fmt::Debug for ServerConnection {
     }
 }
 
+async fn race_session_open(
+    connections: [ServerConnection; 2],
+    hedge_delay: Duration,
+    database_name: String,
+    session_type: SessionType,
+    options: Options,
+) -> Result<(usize, Instant, Response)> {
+    let is_claimed = Arc::new(AtomicBool::new(false));
+    let (result_sink, mut result_source) = unbounded_async();
+    let attempt = |index: usize| {
+        let connection: ServerConnection = connections[index].clone();
+        let request = Request::SessionOpen { database_name: database_name.clone(), session_type, options };
+        let is_claimed = is_claimed.clone();
+        let result_sink = result_sink.clone();
+        async move {
+            let timer = connection.stats.start_request();
+            let start = Instant::now();
+            let response = connection.request_transmitter.request_async(request).await;
+            if response.is_ok() {
+                timer.succeeded();
+            }
+            match response {
+                Ok(Response::SessionOpen { session_id, .. }) if is_claimed.swap(true, Ordering::AcqRel) => {
+                    debug!("Hedged session open lost the race, closing the redundant session");
+                    connection.request_transmitter.request_async(Request::SessionClose { session_id }).await.ok();
+                }
+                response => {
+                    result_sink.send((index, start, response)).ok();
+                }
+            }
+        }
+    };
+
+    tokio::spawn(attempt(0));
+    let mut attempts = 1;
+    let mut failures = 0;
+    loop {
+        let received = if attempts < connections.len() {
+            timeout(hedge_delay, result_source.recv()).await.ok()
+        } else {
+            Some(result_source.recv().await)
+        };
+        match received {
+            None => {
+                debug!("Session open not answered within {hedge_delay:?}, hedging to another replica");
+                tokio::spawn(attempt(attempts));
+                attempts += 1;
+            }
+            Some(Some((index, start, Ok(response)))) => return Ok((index, start, response)),
+            Some(Some((_, _, Err(err)))) => {
+                failures += 1;
+                if failures < attempts {
+                    continue;
+                } else if attempts < connections.len() {
+                    tokio::spawn(attempt(attempts));
+                    attempts += 1;
+                } else {
+                    return Err(err);
+                }
+            }
+            Some(None) => return Err(InternalError::RecvError.into()),
+        }
+    }
+}
+
 async fn session_pulse(
     session_id: SessionID,
     request_transmitter: Arc<RPCTransmitter>,
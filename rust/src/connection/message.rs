@@ -33,7 +33,7 @@ use crate::{
     },
     logic::{Explanation, Rule},
     user::User,
-    Options, SessionType, TransactionType,
+    Options, RequestPriority, SessionType, TransactionType,
 };
 
 #[derive(Debug)]
@@ -143,6 +143,32 @@ pub(super) enum TransactionRequest {
     Stream { request_id: RequestID },
 }
 
+impl TransactionRequest {
+    pub(super) fn query_timeout(&self) -> Option<Duration> {
+        match self {
+            Self::Query(request) => request.options().query_timeout,
+            _ => None,
+        }
+    }
+
+    pub(super) fn priority(&self) -> Option<RequestPriority> {
+        match self {
+            Self::Query(request) => request.options().priority,
+            _ => None,
+        }
+    }
+
+    /// Whether the request may depend on the effects of the requests issued before it, and so must not be sent
+    /// ahead of any of them. Only read queries and requests for further answers are not barriers.
+    pub(super) fn is_barrier(&self) -> bool {
+        match self {
+            Self::Query(request) => !request.is_read(),
+            Self::Stream { .. } => false,
+            _ => true,
+        }
+    }
+}
+
 #[derive(Debug)]
 pub(super) enum TransactionResponse {
     Open,
@@ -157,6 +183,15 @@ pub(super) enum TransactionResponse {
     Logic(LogicResponse),
 }
 
+impl TransactionResponse {
+    pub(super) fn answer_count(&self) -> usize {
+        match self {
+            Self::Query(response) => response.answer_count(),
+            _ => 0,
+        }
+    }
+}
+
 #[derive(Debug)]
 pub(super) enum QueryRequest {
     Define { query: String, options: Options },
@@ -177,6 +212,56 @@ pub(super) enum QueryRequest {
     Explain { explainable_id: i64, options: Options }, // TODO: ID type
 }
 
+impl QueryRequest {
+    fn is_read(&self) -> bool {
+        matches!(
+            self,
+            Self::Get { .. }
+                | Self::GetAggregate { .. }
+                | Self::GetGroup { .. }
+                | Self::GetGroupAggregate { .. }
+                | Self::Fetch { .. }
+                | Self::Explain { .. }
+        )
+    }
+
+    fn options(&self) -> &Options {
+        match self {
+            Self::Define { options, .. }
+            | Self::Undefine { options, .. }
+            | Self::Delete { options, .. }
+            | Self::Get { options, .. }
+            | Self::Insert { options, .. }
+            | Self::Update { options, .. }
+            | Self::GetAggregate { options, .. }
+            | Self::GetGroup { options, .. }
+            | Self::GetGroupAggregate { options, .. }
+            | Self::Fetch { options, .. }
+            | Self::Explain { options, .. } => options,
+        }
+    }
+
+    pub(super) fn with_transaction_defaults(mut self, defaults: &Options) -> Self {
+        match &mut self {
+            Self::Define { options, .. }
+            | Self::Undefine { options, .. }
+            | Self::Delete { options, .. }
+            | Self::Get { options, .. }
+            | Self::Insert { options, .. }
+            | Self::Update { options, .. }
+            | Self::GetAggregate { options, .. }
+            | Self::GetGroup { options, .. }
+            | Self::GetGroupAggregate { options, .. }
+            | Self::Fetch { options, .. }
+            | Self::Explain { options, .. } => {
+                options.query_timeout = options.query_timeout.or(defaults.query_timeout);
+                options.priority = options.priority.or(defaults.priority);
+            }
+        }
+        self
+    }
+}
+
 #[derive(Debug)]
 pub(super) enum QueryResponse {
     Define,
@@ -197,6 +282,20 @@ pub(super) enum QueryResponse {
     Explain { answers: Vec<Explanation> },
 }
 
+impl QueryResponse {
+    fn answer_count(&self) -> usize {
+        match self {
+            Self::Define | Self::Undefine | Self::Delete => 0,
+            Self::Get { answers } | Self::Insert { answers } | Self::Update { answers } => answers.len(),
+            Self::GetAggregate { answer } => answer.is_some() as usize,
+            Self::GetGroup { answers } => answers.len(),
+            Self::GetGroupAggregate { answers } => answers.len(),
+            Self::Fetch { answers } => answers.len(),
+            Self::Explain { answers } => answers.len(),
+        }
+    }
+}
+
 #[derive(Debug)]
 pub(super) enum ConceptRequest {
     GetEntityType { label: String },
@@ -21,8 +21,9 @@ mod connection;
 mod credential;
 mod message;
 mod network;
+mod replica_stats;
 mod runtime;
 mod transaction_stream;
 
 pub use self::{connection::Connection, credential::Credential};
-pub(crate) use self::{connection::ServerConnection, transaction_stream::TransactionStream};
+pub(crate) use self::{connection::ServerConnection, replica_stats::ReplicaStats, transaction_stream::TransactionStream};
@@ -17,28 +17,38 @@
  * under the License.
  */
 
-use std::sync::{Arc, RwLock};
+use std::{
+    pin::Pin,
+    sync::{
+        atomic::{AtomicU64, Ordering},
+        Arc, RwLock,
+    },
+    task::{Context, Poll},
+};
 
+use futures::{future::BoxFuture, FutureExt, TryFutureExt};
 use tonic::{
     body::BoxBody,
     client::GrpcService,
+    codegen::{http, Body as HttpBody, Bytes, Service},
     service::{
         interceptor::{InterceptedService, ResponseFuture as InterceptorResponseFuture},
         Interceptor,
     },
-    transport::{channel::ResponseFuture as ChannelResponseFuture, Channel, Error as TonicError},
+    transport::{Body as TransportBody, Channel, Error as TonicError},
     Request, Status,
 };
 
 use crate::{
-    common::{address::Address, Result, StdResult},
+    common::{address::Address, CompressionStats, Result, StdResult},
     Credential,
 };
 
-type ResponseFuture = InterceptorResponseFuture<ChannelResponseFuture>;
+type MeteredResponseFuture = BoxFuture<'static, StdResult<http::Response<MeteredBody<TransportBody>>, TonicError>>;
+type ResponseFuture = InterceptorResponseFuture<MeteredResponseFuture>;
 
-pub(super) type PlainTextChannel = InterceptedService<Channel, PlainTextFacade>;
-pub(super) type CallCredChannel = InterceptedService<Channel, CredentialInjector>;
+pub(super) type PlainTextChannel = InterceptedService<MeteredChannel, PlainTextFacade>;
+pub(super) type CallCredChannel = InterceptedService<MeteredChannel, CredentialInjector>;
 
 pub(super) trait GRPCChannel:
     GrpcService<BoxBody, Error = TonicError, ResponseBody = BoxBody, Future = ResponseFuture> + Clone + Send + 'static
@@ -58,8 +68,9 @@ impl GRPCChannel for CallCredChannel {
     }
 }
 
-pub(super) fn open_plaintext_channel(address: Address) -> PlainTextChannel {
-    PlainTextChannel::new(Channel::builder(address.into_uri()).connect_lazy(), PlainTextFacade)
+pub(super) fn open_plaintext_channel(address: Address, transport_stats: Arc<TransportStats>) -> PlainTextChannel {
+    let channel = MeteredChannel::new(Channel::builder(address.into_uri()).connect_lazy(), transport_stats);
+    PlainTextChannel::new(channel, PlainTextFacade)
 }
 
 #[derive(Clone, Debug)]
@@ -74,16 +85,133 @@ impl Interceptor for PlainTextFacade {
 pub(super) fn open_callcred_channel(
     address: Address,
     credential: Credential,
+    transport_stats: Arc<TransportStats>,
 ) -> Result<(CallCredChannel, Arc<CallCredentials>)> {
     let mut builder = Channel::builder(address.into_uri());
     if credential.is_tls_enabled() {
         builder = builder.tls_config(credential.tls_config().clone().unwrap())?;
     }
-    let channel = builder.connect_lazy();
+    let channel = MeteredChannel::new(builder.connect_lazy(), transport_stats);
     let call_credentials = Arc::new(CallCredentials::new(credential));
     Ok((CallCredChannel::new(channel, CredentialInjector::new(call_credentials.clone())), call_credentials))
 }
 
+/// Sizes of the messages exchanged with the server, before compression and as transferred.
+#[derive(Debug, Default)]
+pub(in crate::connection) struct TransportStats {
+    message_bytes_sent: AtomicU64,
+    wire_bytes_sent: AtomicU64,
+    message_bytes_received: AtomicU64,
+    wire_bytes_received: AtomicU64,
+}
+
+impl TransportStats {
+    /// The length of the prefix framing each gRPC message on the wire.
+    const MESSAGE_PREFIX_LEN: u64 = 5;
+
+    pub(in crate::connection) fn snapshot(&self) -> CompressionStats {
+        CompressionStats {
+            message_bytes_sent: self.message_bytes_sent.load(Ordering::Relaxed),
+            wire_bytes_sent: self.wire_bytes_sent.load(Ordering::Relaxed),
+            message_bytes_received: self.message_bytes_received.load(Ordering::Relaxed),
+            wire_bytes_received: self.wire_bytes_received.load(Ordering::Relaxed),
+        }
+    }
+
+    pub(super) fn message_sent(&self, encoded_len: usize) {
+        self.message_bytes_sent.fetch_add(encoded_len as u64 + Self::MESSAGE_PREFIX_LEN, Ordering::Relaxed);
+    }
+
+    pub(super) fn message_received(&self, encoded_len: usize) {
+        self.message_bytes_received.fetch_add(encoded_len as u64 + Self::MESSAGE_PREFIX_LEN, Ordering::Relaxed);
+    }
+}
+
+/// A channel counting the bytes of the request and response bodies it transfers.
+#[derive(Clone, Debug)]
+pub(super) struct MeteredChannel {
+    channel: Channel,
+    transport_stats: Arc<TransportStats>,
+}
+
+impl MeteredChannel {
+    fn new(channel: Channel, transport_stats: Arc<TransportStats>) -> Self {
+        Self { channel, transport_stats }
+    }
+}
+
+impl Service<http::Request<BoxBody>> for MeteredChannel {
+    type Response = http::Response<MeteredBody<TransportBody>>;
+    type Error = TonicError;
+    type Future = MeteredResponseFuture;
+
+    fn poll_ready(&mut self, cx: &mut Context<'_>) -> Poll<StdResult<(), Self::Error>> {
+        self.channel.poll_ready(cx)
+    }
+
+    fn call(&mut self, request: http::Request<BoxBody>) -> Self::Future {
+        let sent = self.transport_stats.clone();
+        let request = request.map(|body| BoxBody::new(MeteredBody::new(body, sent, Direction::Sent)));
+        let received = self.transport_stats.clone();
+        self.channel
+            .call(request)
+            .map_ok(|response| response.map(|body| MeteredBody::new(body, received, Direction::Received)))
+            .boxed()
+    }
+}
+
+#[derive(Copy, Clone, Debug)]
+enum Direction {
+    Sent,
+    Received,
+}
+
+pub(super) struct MeteredBody<B> {
+    inner: B,
+    transport_stats: Arc<TransportStats>,
+    direction: Direction,
+}
+
+impl<B> MeteredBody<B> {
+    fn new(inner: B, transport_stats: Arc<TransportStats>, direction: Direction) -> Self {
+        Self { inner, transport_stats, direction }
+    }
+}
+
+impl<B: Default> Default for MeteredBody<B> {
+    fn default() -> Self {
+        Self::new(B::default(), Default::default(), Direction::Received)
+    }
+}
+
+impl<B: HttpBody<Data = Bytes> + Unpin> HttpBody for MeteredBody<B> {
+    type Data = Bytes;
+    type Error = B::Error;
+
+    fn poll_data(mut self: Pin<&mut Self>, cx: &mut Context<'_>) -> Poll<Option<StdResult<Bytes, B::Error>>> {
+        let poll = Pin::new(&mut self.inner).poll_data(cx);
+        if let Poll::Ready(Some(Ok(data))) = &poll {
+            let counter = match self.direction {
+                Direction::Sent => &self.transport_stats.wire_bytes_sent,
+                Direction::Received => &self.transport_stats.wire_bytes_received,
+            };
+            counter.fetch_add(data.len() as u64, Ordering::Relaxed);
+        }
+        poll
+    }
+
+    fn poll_trailers(
+        mut self: Pin<&mut Self>,
+        cx: &mut Context<'_>,
+    ) -> Poll<StdResult<Option<http::HeaderMap>, B::Error>> {
+        Pin::new(&mut self.inner).poll_trailers(cx)
+    }
+
+    fn is_end_stream(&self) -> bool {
+        self.inner.is_end_stream()
+    }
+}
+
 #[derive(Debug)]
 pub(super) struct CallCredentials {
     credential: Credential,
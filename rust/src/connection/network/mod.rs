@@ -21,3 +21,5 @@ mod channel;
 mod proto;
 mod stub;
 pub(super) mod transmitter;
+
+pub(super) use self::channel::TransportStats;
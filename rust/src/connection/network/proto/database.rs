@@ -35,6 +35,8 @@ impl FromProto<ReplicaProto> for ReplicaInfo {
             is_primary: proto.primary,
             is_preferred: proto.preferred,
             term: proto.term,
+            outstanding_requests: 0,
+            latency: None,
         }
     }
 }
@@ -19,36 +19,82 @@
 
 use std::sync::Arc;
 
-use futures::{future::BoxFuture, FutureExt, TryFutureExt};
+use futures::{future::BoxFuture, FutureExt, StreamExt, TryFutureExt};
 use log::{debug, trace, warn};
+use prost::Message;
 use tokio::sync::mpsc::{unbounded_channel as unbounded_async, UnboundedSender};
 use tokio_stream::wrappers::UnboundedReceiverStream;
-use tonic::{Response, Status, Streaming};
+use tonic::{codec::CompressionEncoding, Response, Status, Streaming};
 use typedb_protocol::{
     connection, database, database_manager, server_manager, session, transaction, type_db_client::TypeDbClient as GRPC,
     user, user_manager,
 };
 
-use super::channel::{CallCredentials, GRPCChannel};
-use crate::common::{error::ConnectionError, Error, Result, StdResult};
+use super::channel::{CallCredentials, GRPCChannel, TransportStats};
+use crate::common::{error::ConnectionError, Compression, CompressionAlgorithm, Error, Result, StdResult};
 
 type TonicResult<T> = StdResult<Response<T>, Status>;
 
 #[derive(Clone, Debug)]
 pub(super) struct RPCStub<Channel: GRPCChannel> {
     grpc: GRPC<Channel>,
+    compressed_grpc: Option<(GRPC<Channel>, usize)>,
     call_credentials: Option<Arc<CallCredentials>>,
+    transport_stats: Arc<TransportStats>,
 }
 
 impl<Channel: GRPCChannel> RPCStub<Channel> {
-    pub(super) async fn new(channel: Channel, call_credentials: Option<Arc<CallCredentials>>) -> Self {
-        let mut this = Self { grpc: GRPC::new(channel), call_credentials };
+    pub(super) async fn new(
+        channel: Channel,
+        call_credentials: Option<Arc<CallCredentials>>,
+        compression: Option<Compression>,
+        transport_stats: Arc<TransportStats>,
+    ) -> Self {
+        let mut grpc = GRPC::new(channel);
+        let mut compressed_grpc = None;
+        if let Some((encoding, min_message_size)) = compression.and_then(Self::encoding) {
+            grpc = grpc.accept_compressed(encoding);
+            compressed_grpc = Some((grpc.clone().send_compressed(encoding), min_message_size));
+        }
+        let mut this = Self { grpc, compressed_grpc, call_credentials, transport_stats };
         if let Err(err) = this.renew_token().await {
             warn!("{err:?}");
         }
         this
     }
 
+    #[allow(unreachable_code)]
+    fn encoding(Compression { algorithm, min_message_size }: Compression) -> Option<(CompressionEncoding, usize)> {
+        let encoding = match algorithm {
+            #[cfg(feature = "compression-gzip")]
+            CompressionAlgorithm::Gzip => CompressionEncoding::Gzip,
+            #[cfg(feature = "compression-zstd")]
+            CompressionAlgorithm::Zstd => CompressionEncoding::Zstd,
+            #[allow(unreachable_patterns)]
+            _ => return None,
+        };
+        Some((encoding, min_message_size))
+    }
+
+    /// Returns the client to send the request with: compressing it if it is large enough to be worth compressing.
+    fn grpc(&mut self, request: &impl Message) -> &mut GRPC<Channel> {
+        let encoded_len = request.encoded_len();
+        self.transport_stats.message_sent(encoded_len);
+        match &mut self.compressed_grpc {
+            Some((grpc, min_message_size)) if encoded_len >= *min_message_size => grpc,
+            _ => &mut self.grpc,
+        }
+    }
+
+    /// Returns the client to open a stream with. The stream's requests are only known once it is open,
+    /// so they are compressed only if every request is to be compressed.
+    fn streaming_grpc(&mut self) -> &mut GRPC<Channel> {
+        match &mut self.compressed_grpc {
+            Some((grpc, 0)) => grpc,
+            _ => &mut self.grpc,
+        }
+    }
+
     async fn call_with_auto_renew_token<F, R>(&mut self, call: F) -> Result<R>
     where
         for<'a> F: Fn(&'a mut Self) -> BoxFuture<'a, Result<R>>,
@@ -64,12 +110,12 @@ impl<Channel: GRPCChannel> RPCStub<Channel> {
     }
 
     async fn renew_token(&mut self) -> Result {
-        if let Some(call_credentials) = &self.call_credentials {
+        if let Some(call_credentials) = self.call_credentials.clone() {
             trace!("renewing token...");
             call_credentials.reset_token();
             let req = user::token::Req { username: call_credentials.username().to_owned() };
             trace!("sending token request...");
-            let token = self.grpc.user_token(req).await?.into_inner().token;
+            let token = self.grpc(&req).user_token(req).await?.into_inner().token;
             call_credentials.set_token(token);
             trace!("renewed token");
         }
@@ -77,74 +123,74 @@ impl<Channel: GRPCChannel> RPCStub<Channel> {
     }
 
     pub(super) async fn connection_open(&mut self, req: connection::open::Req) -> Result<connection::open::Res> {
-        self.single(|this| Box::pin(this.grpc.connection_open(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).connection_open(req.clone()))).await
     }
 
     pub(super) async fn servers_all(&mut self, req: server_manager::all::Req) -> Result<server_manager::all::Res> {
-        self.single(|this| Box::pin(this.grpc.servers_all(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).servers_all(req.clone()))).await
     }
 
     pub(super) async fn databases_contains(
         &mut self,
         req: database_manager::contains::Req,
     ) -> Result<database_manager::contains::Res> {
-        self.single(|this| Box::pin(this.grpc.databases_contains(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).databases_contains(req.clone()))).await
     }
 
     pub(super) async fn databases_create(
         &mut self,
         req: database_manager::create::Req,
     ) -> Result<database_manager::create::Res> {
-        self.single(|this| Box::pin(this.grpc.databases_create(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).databases_create(req.clone()))).await
     }
 
     pub(super) async fn databases_get(
         &mut self,
         req: database_manager::get::Req,
     ) -> Result<database_manager::get::Res> {
-        self.single(|this| Box::pin(this.grpc.databases_get(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).databases_get(req.clone()))).await
     }
 
     pub(super) async fn databases_all(
         &mut self,
         req: database_manager::all::Req,
     ) -> Result<database_manager::all::Res> {
-        self.single(|this| Box::pin(this.grpc.databases_all(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).databases_all(req.clone()))).await
     }
 
     pub(super) async fn database_delete(&mut self, req: database::delete::Req) -> Result<database::delete::Res> {
-        self.single(|this| Box::pin(this.grpc.database_delete(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).database_delete(req.clone()))).await
     }
 
     pub(super) async fn database_schema(&mut self, req: database::schema::Req) -> Result<database::schema::Res> {
-        self.single(|this| Box::pin(this.grpc.database_schema(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).database_schema(req.clone()))).await
     }
 
     pub(super) async fn database_type_schema(
         &mut self,
         req: database::type_schema::Req,
     ) -> Result<database::type_schema::Res> {
-        self.single(|this| Box::pin(this.grpc.database_type_schema(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).database_type_schema(req.clone()))).await
     }
 
     pub(super) async fn database_rule_schema(
         &mut self,
         req: database::rule_schema::Req,
     ) -> Result<database::rule_schema::Res> {
-        self.single(|this| Box::pin(this.grpc.database_rule_schema(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).database_rule_schema(req.clone()))).await
     }
 
     pub(super) async fn session_open(&mut self, req: session::open::Req) -> Result<session::open::Res> {
-        self.single(|this| Box::pin(this.grpc.session_open(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).session_open(req.clone()))).await
     }
 
     pub(super) async fn session_close(&mut self, req: session::close::Req) -> Result<session::close::Res> {
         debug!("closing session");
-        self.single(|this| Box::pin(this.grpc.session_close(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).session_close(req.clone()))).await
     }
 
     pub(super) async fn session_pulse(&mut self, req: session::pulse::Req) -> Result<session::pulse::Res> {
-        self.single(|this| Box::pin(this.grpc.session_pulse(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).session_pulse(req.clone()))).await
     }
 
     pub(super) async fn transaction(
@@ -156,8 +202,12 @@ impl<Channel: GRPCChannel> RPCStub<Channel> {
             Box::pin(async {
                 let (sender, receiver) = unbounded_async();
                 sender.send(transaction_req)?;
-                this.grpc
-                    .transaction(UnboundedReceiverStream::new(receiver))
+                let transport_stats = this.transport_stats.clone();
+                let requests = UnboundedReceiverStream::new(receiver).inspect(move |requests: &transaction::Client| {
+                    transport_stats.message_sent(requests.encoded_len())
+                });
+                this.streaming_grpc()
+                    .transaction(requests)
                     .map_ok(|stream| Response::new((sender, stream.into_inner())))
                     .map(|r| Ok(r?.into_inner()))
                     .await
@@ -167,47 +217,56 @@ impl<Channel: GRPCChannel> RPCStub<Channel> {
     }
 
     pub(super) async fn users_all(&mut self, req: user_manager::all::Req) -> Result<user_manager::all::Res> {
-        self.single(|this| Box::pin(this.grpc.users_all(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).users_all(req.clone()))).await
     }
 
     pub(super) async fn users_contain(
         &mut self,
         req: user_manager::contains::Req,
     ) -> Result<user_manager::contains::Res> {
-        self.single(|this| Box::pin(this.grpc.users_contains(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).users_contains(req.clone()))).await
     }
 
     pub(super) async fn users_create(&mut self, req: user_manager::create::Req) -> Result<user_manager::create::Res> {
-        self.single(|this| Box::pin(this.grpc.users_create(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).users_create(req.clone()))).await
     }
 
     pub(super) async fn users_delete(&mut self, req: user_manager::delete::Req) -> Result<user_manager::delete::Res> {
-        self.single(|this| Box::pin(this.grpc.users_delete(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).users_delete(req.clone()))).await
     }
 
     pub(super) async fn users_get(&mut self, req: user_manager::get::Req) -> Result<user_manager::get::Res> {
-        self.single(|this| Box::pin(this.grpc.users_get(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).users_get(req.clone()))).await
     }
 
     pub(super) async fn users_password_set(
         &mut self,
         req: user_manager::password_set::Req,
     ) -> Result<user_manager::password_set::Res> {
-        self.single(|this| Box::pin(this.grpc.users_password_set(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).users_password_set(req.clone()))).await
     }
 
     pub(super) async fn user_password_update(
         &mut self,
         req: user::password_update::Req,
     ) -> Result<user::password_update::Res> {
-        self.single(|this| Box::pin(this.grpc.user_password_update(req.clone()))).await
+        self.single(|this| Box::pin(this.grpc(&req).user_password_update(req.clone()))).await
     }
 
     async fn single<F, R>(&mut self, call: F) -> Result<R>
     where
         for<'a> F: Fn(&'a mut Self) -> BoxFuture<'a, TonicResult<R>> + Send + Sync,
-        R: 'static,
+        R: Message + 'static,
     {
-        self.call_with_auto_renew_token(|this| Box::pin(call(this).map(|r| Ok(r?.into_inner())))).await
+        let transport_stats = self.transport_stats.clone();
+        self.call_with_auto_renew_token(|this| {
+            let transport_stats = transport_stats.clone();
+            Box::pin(call(this).map(move |r| {
+                let response = r?.into_inner();
+                transport_stats.message_received(response.encoded_len());
+                Ok(response)
+            }))
+        })
+        .await
     }
 }
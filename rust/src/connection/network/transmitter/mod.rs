@@ -17,13 +17,16 @@
  * under the License.
  */
 
+mod response_budget;
 mod response_sink;
 mod rpc;
 mod transaction;
 
 use crossbeam::channel::{bounded as bounded_blocking, Receiver as SyncReceiver, Sender as SyncSender};
 
-pub(in crate::connection) use self::{rpc::RPCTransmitter, transaction::TransactionTransmitter};
+pub(in crate::connection) use self::{
+    response_budget::ResponseBudget, rpc::RPCTransmitter, transaction::TransactionTransmitter,
+};
 
 fn oneshot_blocking<T>() -> (SyncSender<T>, SyncReceiver<T>) {
     bounded_blocking::<T>(1)
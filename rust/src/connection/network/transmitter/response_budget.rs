@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+use std::sync::{
+    atomic::{AtomicBool, AtomicU64, AtomicUsize, Ordering},
+    Arc,
+};
+
+use tokio::{select, sync::Notify};
+
+use crate::common::ResponseBufferStats;
+
+/// Byte budget for response parts received from the server but not yet consumed.
+/// A transaction's budget draws on its connection's budget as well, and is exhausted when either is.
+/// The budget is soft: responses are never dropped, and while it is exhausted only streams that still hold
+/// unconsumed response parts of their own stop requesting further answers. A stream whose answers have all been
+/// consumed always continues, so that consumers waiting on one stream never stall another.
+#[derive(Debug, Default)]
+pub(in crate::connection) struct ResponseBudget {
+    limit: AtomicUsize,
+    buffered: AtomicUsize,
+    peak: AtomicUsize,
+    paused: AtomicU64,
+    is_closed: AtomicBool,
+    drained: Notify,
+    parent: Option<Arc<ResponseBudget>>,
+}
+
+impl ResponseBudget {
+    pub(in crate::connection) fn new(limit: Option<usize>, parent: Option<Arc<ResponseBudget>>) -> Self {
+        Self { limit: AtomicUsize::new(limit.unwrap_or(0)), parent, ..Default::default() }
+    }
+
+    pub(in crate::connection) fn set_limit(&self, limit: Option<usize>) {
+        self.limit.store(limit.unwrap_or(0), Ordering::Relaxed);
+        self.drained.notify_waiters();
+    }
+
+    pub(in crate::connection) fn stats(&self) -> ResponseBufferStats {
+        let limit = self.limit.load(Ordering::Relaxed);
+        ResponseBufferStats {
+            limit: if limit == 0 { None } else { Some(limit) },
+            buffered_bytes: self.buffered.load(Ordering::Relaxed),
+            peak_bytes: self.peak.load(Ordering::Relaxed),
+            paused_continuations: self.paused.load(Ordering::Relaxed),
+        }
+    }
+
+    pub(super) fn reserve(self: &Arc<Self>, bytes: usize, stream: Option<Arc<StreamBacklog>>) -> Reservation {
+        self.add(bytes);
+        if let Some(stream) = &stream {
+            stream.buffered.fetch_add(bytes, Ordering::Relaxed);
+        }
+        Reservation { budget: Some(self.clone()), stream, bytes }
+    }
+
+    pub(super) fn is_exhausted(&self) -> bool {
+        if self.is_closed.load(Ordering::Relaxed) {
+            return false;
+        }
+        let limit = self.limit.load(Ordering::Relaxed);
+        (limit != 0 && self.buffered.load(Ordering::Relaxed) >= limit)
+            || self.parent.as_ref().map_or(false, |parent| parent.is_exhausted())
+    }
+
+    pub(super) fn pause(&self) {
+        self.paused.fetch_add(1, Ordering::Relaxed);
+        if let Some(parent) = &self.parent {
+            parent.pause();
+        }
+    }
+
+    /// Waits until neither this budget nor its parent's is exhausted.
+    pub(super) async fn drained(&self) {
+        loop {
+            let drained = self.drained.notified();
+            let parent_drained = self.parent.as_ref().map(|parent| parent.drained.notified());
+            if !self.is_exhausted() {
+                return;
+            }
+            match parent_drained {
+                Some(parent_drained) => select! {
+                    _ = drained => (),
+                    _ = parent_drained => (),
+                },
+                None => drained.await,
+            }
+        }
+    }
+
+    /// Stops limiting, waking any paused streams so that they can wind down.
+    pub(super) fn close(&self) {
+        self.is_closed.store(true, Ordering::Relaxed);
+        self.drained.notify_waiters();
+    }
+
+    fn add(&self, bytes: usize) {
+        let buffered = self.buffered.fetch_add(bytes, Ordering::Relaxed) + bytes;
+        self.peak.fetch_max(buffered, Ordering::Relaxed);
+        if let Some(parent) = &self.parent {
+            parent.add(bytes);
+        }
+    }
+
+    fn sub(&self, bytes: usize) {
+        self.buffered.fetch_sub(bytes, Ordering::Relaxed);
+        self.drained.notify_waiters();
+        if let Some(parent) = &self.parent {
+            parent.sub(bytes);
+        }
+    }
+}
+
+/// The size of the response parts of one stream received from the server but not yet consumed.
+#[derive(Debug, Default)]
+pub(super) struct StreamBacklog {
+    buffered: AtomicUsize,
+    emptied: Notify,
+}
+
+impl StreamBacklog {
+    pub(super) fn is_empty(&self) -> bool {
+        self.buffered.load(Ordering::Relaxed) == 0
+    }
+
+    /// Waits until every response part of the stream received so far has been consumed.
+    pub(super) async fn emptied(&self) {
+        loop {
+            let emptied = self.emptied.notified();
+            if self.is_empty() {
+                return;
+            }
+            emptied.await;
+        }
+    }
+
+    fn sub(&self, bytes: usize) {
+        if self.buffered.fetch_sub(bytes, Ordering::Relaxed) == bytes {
+            self.emptied.notify_waiters();
+        }
+    }
+}
+
+/// The share of a response budget held by a buffered response part, returned once it is consumed or dropped.
+#[derive(Debug)]
+pub(super) struct Reservation {
+    budget: Option<Arc<ResponseBudget>>,
+    stream: Option<Arc<StreamBacklog>>,
+    bytes: usize,
+}
+
+impl Reservation {
+    pub(super) fn none() -> Self {
+        Self { budget: None, stream: None, bytes: 0 }
+    }
+}
+
+impl Drop for Reservation {
+    fn drop(&mut self) {
+        if let Some(stream) = self.stream.take() {
+            stream.sub(self.bytes);
+        }
+        if let Some(budget) = self.budget.take() {
+            budget.sub(self.bytes);
+        }
+    }
+}
+
+#[cfg(test)]
+mod test {
+    use std::sync::Arc;
+
+    use futures::FutureExt;
+
+    use super::{ResponseBudget, StreamBacklog};
+
+    #[test]
+    fn test_budget_is_exhausted_until_consumed() {
+        let budget = Arc::new(ResponseBudget::new(Some(100), None));
+        let first = budget.reserve(60, None);
+        assert!(!budget.is_exhausted());
+        let second = budget.reserve(60, None);
+        assert!(budget.is_exhausted());
+        assert!(budget.drained().now_or_never().is_none());
+
+        drop(first);
+        assert!(!budget.is_exhausted());
+        assert!(budget.drained().now_or_never().is_some());
+
+        let stats = budget.stats();
+        assert_eq!(stats.buffered_bytes, 60);
+        assert_eq!(stats.peak_bytes, 120);
+        drop(second);
+        assert_eq!(budget.stats().buffered_bytes, 0);
+    }
+
+    #[test]
+    fn test_transaction_budget_draws_on_connection_budget() {
+        let connection = Arc::new(ResponseBudget::new(Some(100), None));
+        let transaction = Arc::new(ResponseBudget::new(None, Some(connection.clone())));
+        let other_transaction = Arc::new(ResponseBudget::new(None, Some(connection.clone())));
+
+        let reservation = transaction.reserve(100, None);
+        assert!(connection.is_exhausted());
+        assert!(other_transaction.is_exhausted());
+        transaction.pause();
+        assert_eq!(connection.stats().paused_continuations, 1);
+
+        drop(reservation);
+        assert!(!other_transaction.is_exhausted());
+        assert_eq!(connection.stats().buffered_bytes, 0);
+    }
+
+    #[test]
+    fn test_closed_budget_is_never_exhausted() {
+        let budget = Arc::new(ResponseBudget::new(Some(10), None));
+        let _reservation = budget.reserve(20, None);
+        assert!(budget.is_exhausted());
+        budget.close();
+        assert!(!budget.is_exhausted());
+        assert!(budget.drained().now_or_never().is_some());
+    }
+
+    #[test]
+    fn test_removing_limit_wakes_paused_streams() {
+        let budget = Arc::new(ResponseBudget::new(Some(10), None));
+        let _reservation = budget.reserve(20, None);
+        let mut drained = Box::pin(budget.drained());
+        assert!(drained.as_mut().now_or_never().is_none());
+        budget.set_limit(None);
+        assert!(drained.now_or_never().is_some());
+    }
+
+    #[test]
+    fn test_stream_backlog_tracks_its_own_parts_only() {
+        let budget = Arc::new(ResponseBudget::new(Some(10), None));
+        let outer = Arc::new(StreamBacklog::default());
+        let inner = Arc::new(StreamBacklog::default());
+
+        let outer_part = budget.reserve(20, Some(outer.clone()));
+        assert!(budget.is_exhausted());
+        assert!(!outer.is_empty());
+        // A stream with nothing left to consume may continue even though the budget is exhausted.
+        assert!(inner.is_empty());
+        assert!(inner.emptied().now_or_never().is_some());
+
+        let inner_part = budget.reserve(5, Some(inner.clone()));
+        let mut inner_emptied = Box::pin(inner.emptied());
+        assert!(inner_emptied.as_mut().now_or_never().is_none());
+        drop(inner_part);
+        assert!(inner_emptied.now_or_never().is_some());
+
+        assert!(outer.emptied().now_or_never().is_none());
+        drop(outer_part);
+        assert!(outer.is_empty());
+        assert!(!budget.is_exhausted());
+    }
+}
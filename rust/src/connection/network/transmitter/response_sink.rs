@@ -21,6 +21,7 @@ use crossbeam::channel::Sender as SyncSender;
 use log::{debug, error};
 use tokio::sync::{mpsc::UnboundedSender, oneshot::Sender as AsyncOneshotSender};
 
+use super::response_budget::Reservation;
 use crate::{
     common::Result,
     error::{ConnectionError, InternalError},
@@ -31,7 +32,7 @@ use crate::{
 pub(super) enum ResponseSink<T> {
     AsyncOneShot(AsyncOneshotSender<Result<T>>),
     BlockingOneShot(SyncSender<Result<T>>),
-    Streamed(UnboundedSender<Result<T>>),
+    Streamed(UnboundedSender<(Result<T>, Reservation)>),
 }
 
 impl<T> ResponseSink<T> {
@@ -39,7 +40,7 @@ impl<T> ResponseSink<T> {
         let result = match self {
             Self::AsyncOneShot(sink) => sink.send(response).map_err(|_| InternalError::SendError.into()),
             Self::BlockingOneShot(sink) => sink.send(response).map_err(Error::from),
-            Self::Streamed(sink) => sink.send(response).map_err(Error::from),
+            Self::Streamed(sink) => sink.send((response, Reservation::none())).map_err(Error::from),
         };
         match result {
             Err(Error::Internal(err @ InternalError::SendError)) => debug!("{err}"),
@@ -48,9 +49,9 @@ impl<T> ResponseSink<T> {
         }
     }
 
-    pub(super) fn send(&self, response: Result<T>) {
+    pub(super) fn send(&self, response: Result<T>, reservation: Reservation) {
         let result = match self {
-            Self::Streamed(sink) => sink.send(response).map_err(Error::from),
+            Self::Streamed(sink) => sink.send((response, reservation)).map_err(Error::from),
             _ => unreachable!("attempted to stream over a one-shot callback"),
         };
         match result {
@@ -60,11 +61,18 @@ impl<T> ResponseSink<T> {
         }
     }
 
+    pub(super) fn is_closed(&self) -> bool {
+        match self {
+            Self::Streamed(sink) => sink.is_closed(),
+            _ => false,
+        }
+    }
+
     pub(super) fn error(self, error: ConnectionError) {
         match self {
             Self::AsyncOneShot(sink) => sink.send(Err(error.into())).ok(),
             Self::BlockingOneShot(sink) => sink.send(Err(error.into())).ok(),
-            Self::Streamed(sink) => sink.send(Err(error.into())).ok(),
+            Self::Streamed(sink) => sink.send((Err(error.into()), Reservation::none())).ok(),
         };
     }
 }
@@ -17,6 +17,8 @@
  * under the License.
  */
 
+use std::sync::Arc;
+
 use tokio::{
     select,
     sync::{
@@ -27,11 +29,11 @@ use tokio::{
 
 use super::{oneshot_blocking, response_sink::ResponseSink};
 use crate::{
-    common::{address::Address, Result},
+    common::{address::Address, Compression, Result},
     connection::{
         message::{Request, Response},
         network::{
-            channel::{open_callcred_channel, open_plaintext_channel, GRPCChannel},
+            channel::{open_callcred_channel, open_plaintext_channel, GRPCChannel, TransportStats},
             proto::{FromProto, IntoProto, TryFromProto, TryIntoProto},
             stub::RPCStub,
         },
@@ -46,12 +48,17 @@ pub(in crate::connection) struct RPCTransmitter {
 }
 
 impl RPCTransmitter {
-    pub(in crate::connection) fn start_core(address: Address, runtime: &BackgroundRuntime) -> Result<Self> {
+    pub(in crate::connection) fn start_core(
+        address: Address,
+        compression: Option<Compression>,
+        transport_stats: Arc<TransportStats>,
+        runtime: &BackgroundRuntime,
+    ) -> Result<Self> {
         let (request_sink, request_source) = unbounded_async();
         let (shutdown_sink, shutdown_source) = unbounded_async();
         runtime.run_blocking(async move {
-            let channel = open_plaintext_channel(address);
-            let rpc = RPCStub::new(channel, None).await;
+            let channel = open_plaintext_channel(address, transport_stats.clone());
+            let rpc = RPCStub::new(channel, None, compression, transport_stats).await;
             tokio::spawn(Self::dispatcher_loop(rpc, request_source, shutdown_source));
             Ok::<(), Error>(())
         })?;
@@ -61,13 +68,15 @@ impl RPCTransmitter {
     pub(in crate::connection) fn start_cloud(
         address: Address,
         credential: Credential,
+        compression: Option<Compression>,
+        transport_stats: Arc<TransportStats>,
         runtime: &BackgroundRuntime,
     ) -> Result<Self> {
         let (request_sink, request_source) = unbounded_async();
         let (shutdown_sink, shutdown_source) = unbounded_async();
         runtime.run_blocking(async move {
-            let (channel, call_credentials) = open_callcred_channel(address, credential)?;
-            let rpc = RPCStub::new(channel, Some(call_credentials)).await;
+            let (channel, call_credentials) = open_callcred_channel(address, credential, transport_stats.clone())?;
+            let rpc = RPCStub::new(channel, Some(call_credentials), compression, transport_stats).await;
             tokio::spawn(Self::dispatcher_loop(rpc, request_source, shutdown_source));
             Ok::<(), Error>(())
         })?;
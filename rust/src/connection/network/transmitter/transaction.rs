@@ -18,15 +18,18 @@
  */
 
 use std::{
-    collections::HashMap,
-    sync::{Arc, RwLock},
+    collections::{HashMap, HashSet, VecDeque},
+    sync::{
+        atomic::{AtomicU64, Ordering},
+        Arc, RwLock,
+    },
     time::Duration,
 };
 
 use crossbeam::{atomic::AtomicCell, channel::Sender};
 use futures::StreamExt;
 #[cfg(not(feature = "sync"))]
-use futures::TryStreamExt;
+use futures::{stream, TryStreamExt};
 #[cfg(feature = "sync")]
 use itertools::Itertools;
 use log::{debug, error};
@@ -39,24 +42,31 @@ use tokio::{
         mpsc::{error::SendError, unbounded_channel as unbounded_async, UnboundedReceiver, UnboundedSender},
         oneshot::{channel as oneshot_async, Sender as AsyncOneshotSender},
     },
-    time::{sleep_until, Instant},
+    task::JoinHandle,
+    time::{sleep, sleep_until, Instant},
 };
 use tonic::Streaming;
 use typedb_protocol::transaction::{self, server::Server, stream::State};
 
 #[cfg(feature = "sync")]
 use super::oneshot_blocking as oneshot;
-use super::response_sink::ResponseSink;
+use super::{
+    response_budget::{ResponseBudget, StreamBacklog},
+    response_sink::ResponseSink,
+};
 use crate::{
     common::{
         box_promise,
         error::ConnectionError,
         stream::{NetworkStream, Stream},
-        Callback, Promise, RequestID, Result,
+        Callback, Promise, QueueDelay, RequestID, RequestPriority, ResponseBufferStats, Result, TransactionStats,
     },
     connection::{
         message::{TransactionRequest, TransactionResponse},
-        network::proto::{IntoProto, TryFromProto},
+        network::{
+            proto::{IntoProto, TryFromProto},
+            TransportStats,
+        },
         runtime::BackgroundRuntime,
     },
 };
@@ -67,6 +77,9 @@ pub(in crate::connection) struct TransactionTransmitter {
     error: Arc<RwLock<Option<ConnectionError>>>,
     on_close_register_sink: UnboundedSender<Box<dyn FnOnce(ConnectionError) + Send + Sync>>,
     shutdown_sink: UnboundedSender<()>,
+    queue_delays: Arc<[LaneStats; 2]>,
+    response_budget: Arc<ResponseBudget>,
+    counters: Arc<TransactionCounters>,
 }
 
 impl Drop for TransactionTransmitter {
@@ -81,12 +94,16 @@ impl TransactionTransmitter {
         request_sink: UnboundedSender<transaction::Client>,
         response_source: Streaming<transaction::Server>,
         callback_handler_sink: Sender<(Callback, AsyncOneshotSender<()>)>,
+        response_budget: Arc<ResponseBudget>,
+        transport_stats: Arc<TransportStats>,
     ) -> Self {
         let (buffer_sink, buffer_source) = unbounded_async();
         let (on_close_register_sink, on_close_register_source) = unbounded_async();
         let (shutdown_sink, shutdown_source) = unbounded_async();
         let is_open = Arc::new(AtomicCell::new(true));
         let error = Arc::new(RwLock::new(None));
+        let queue_delays: Arc<[LaneStats; 2]> = Default::default();
+        let counters: Arc<TransactionCounters> = Default::default();
         background_runtime.spawn(Self::start_workers(
             buffer_sink.clone(),
             buffer_source,
@@ -98,14 +115,39 @@ impl TransactionTransmitter {
             callback_handler_sink,
             shutdown_sink.clone(),
             shutdown_source,
+            queue_delays.clone(),
+            response_budget.clone(),
+            counters.clone(),
+            transport_stats,
         ));
-        Self { request_sink: buffer_sink, is_open, error, on_close_register_sink, shutdown_sink }
+        Self {
+            request_sink: buffer_sink,
+            is_open,
+            error,
+            on_close_register_sink,
+            shutdown_sink,
+            queue_delays,
+            response_budget,
+            counters,
+        }
     }
 
     pub(in crate::connection) fn is_open(&self) -> bool {
         self.is_open.load()
     }
 
+    pub(in crate::connection) fn queue_delay(&self, priority: RequestPriority) -> QueueDelay {
+        self.queue_delays[priority as usize].snapshot()
+    }
+
+    pub(in crate::connection) fn response_buffer(&self) -> ResponseBufferStats {
+        self.response_budget.stats()
+    }
+
+    pub(in crate::connection) fn stats(&self) -> TransactionStats {
+        self.counters.snapshot()
+    }
+
     pub(in crate::connection) fn shutdown_sink(&self) -> &UnboundedSender<()> {
         &self.shutdown_sink
     }
@@ -132,9 +174,12 @@ impl TransactionTransmitter {
         }
         let (res_sink, recv) = oneshot();
         let send_result = self.request_sink.send((req, Some(ResponseSink::AsyncOneShot(res_sink))));
+        let counters = self.counters.clone();
         box_promise(async move {
             send_result.map_err(|_| ConnectionError::TransactionIsClosed)?;
-            recv.await?.map(Into::into)
+            let response = recv.await;
+            counters.promises_resolved.fetch_add(1, Ordering::Relaxed);
+            response?.map(Into::into)
         })
     }
 
@@ -149,11 +194,58 @@ impl TransactionTransmitter {
         }
         let (res_sink, recv) = oneshot();
         let send_result = self.request_sink.send((req, Some(ResponseSink::BlockingOneShot(res_sink))));
+        let counters = self.counters.clone();
         box_promise(move || {
-            send_result.map_err(|_| ConnectionError::TransactionIsClosed.into()).and_then(|_| recv.recv()?)
+            send_result.map_err(|_| ConnectionError::TransactionIsClosed)?;
+            let response = counters.wait(|| recv.recv());
+            counters.promises_resolved.fetch_add(1, Ordering::Relaxed);
+            response?
         })
     }
 
+    #[cfg(not(feature = "sync"))]
+    pub(in crate::connection) fn batch(
+        &self,
+        reqs: Vec<TransactionRequest>,
+    ) -> Result<impl Stream<Item = Result<TransactionResponse>>> {
+        if !self.is_open() {
+            return Err(self.error().into());
+        }
+        let receivers = reqs
+            .into_iter()
+            .map(|req| {
+                let (res_sink, recv) = oneshot();
+                self.request_sink
+                    .send((req, Some(ResponseSink::AsyncOneShot(res_sink))))
+                    .map_err(|_| ConnectionError::TransactionIsClosed)?;
+                Ok(recv)
+            })
+            .collect::<Result<Vec<_>>>()?;
+        Ok(stream::iter(receivers).then(|recv| async move { recv.await?.map(Into::into) }))
+    }
+
+    #[cfg(feature = "sync")]
+    pub(in crate::connection) fn batch(
+        &self,
+        reqs: Vec<TransactionRequest>,
+    ) -> Result<impl Stream<Item = Result<TransactionResponse>>> {
+        if !self.is_open() {
+            return Err(self.error().into());
+        }
+        let receivers = reqs
+            .into_iter()
+            .map(|req| {
+                let (res_sink, recv) = oneshot();
+                self.request_sink
+                    .send((req, Some(ResponseSink::BlockingOneShot(res_sink))))
+                    .map_err(|_| ConnectionError::TransactionIsClosed)?;
+                Ok(recv)
+            })
+            .collect::<Result<Vec<_>>>()?;
+        let counters = self.counters.clone();
+        Ok(receivers.into_iter().map(move |recv| counters.wait(|| recv.recv())?))
+    }
+
     pub(in crate::connection) fn stream(
         &self,
         req: TransactionRequest,
@@ -165,7 +257,16 @@ impl TransactionTransmitter {
         self.request_sink
             .send((req, Some(ResponseSink::Streamed(res_part_sink))))
             .map_err(|_| ConnectionError::TransactionIsClosed)?;
-        Ok(NetworkStream::new(recv).map_ok(Into::into))
+        #[cfg(not(feature = "sync"))]
+        let responses = NetworkStream::new(recv);
+        #[cfg(feature = "sync")]
+        let responses = {
+            let counters = self.counters.clone();
+            let mut responses = NetworkStream::new(recv);
+            std::iter::from_fn(move || counters.wait(|| responses.next()))
+        };
+        // Each response part returns its share of the response budget as soon as it is consumed.
+        Ok(responses.map(|(response, _reservation)| response).map_ok(Into::into))
     }
 
     fn error(&self) -> ConnectionError {
@@ -189,10 +290,20 @@ impl TransactionTransmitter {
         callback_handler_sink: Sender<(Callback, AsyncOneshotSender<()>)>,
         shutdown_sink: UnboundedSender<()>,
         shutdown_signal: UnboundedReceiver<()>,
+        queue_delays: Arc<[LaneStats; 2]>,
+        response_budget: Arc<ResponseBudget>,
+        counters: Arc<TransactionCounters>,
+        transport_stats: Arc<TransportStats>,
     ) {
         let collector = ResponseCollector {
             request_sink: queue_sink,
             callbacks: Default::default(),
+            expired: Default::default(),
+            timers: Default::default(),
+            batch_streams: Default::default(),
+            stream_backlogs: Default::default(),
+            response_budget,
+            counters,
             is_open,
             error,
             on_close: Default::default(),
@@ -204,8 +315,9 @@ impl TransactionTransmitter {
             collector.clone(),
             on_close_callback_source,
             shutdown_signal,
+            queue_delays,
         ));
-        tokio::spawn(Self::listen_loop(response_source, collector, shutdown_sink));
+        tokio::spawn(Self::listen_loop(response_source, collector, shutdown_sink, transport_stats));
     }
 
     async fn dispatch_loop(
@@ -214,23 +326,25 @@ impl TransactionTransmitter {
         mut collector: ResponseCollector,
         mut on_close_callback_source: UnboundedReceiver<Box<dyn FnOnce(ConnectionError) + Send + Sync>>,
         mut shutdown_signal: UnboundedReceiver<()>,
+        queue_delays: Arc<[LaneStats; 2]>,
     ) {
         const MAX_GRPC_MESSAGE_LEN: usize = 1_000_000;
         const DISPATCH_INTERVAL: Duration = Duration::from_millis(3);
 
-        let mut request_buffer = TransactionRequestBuffer::default();
+        let counters = collector.counters.clone();
+        let mut dispatch_queue = DispatchQueue::default();
         let mut next_dispatch = Instant::now() + DISPATCH_INTERVAL;
         loop {
             select! { biased;
                 _ = shutdown_signal.recv() => {
-                    if !request_buffer.is_empty() {
-                        request_sink.send(request_buffer.take()).unwrap();
+                    while !dispatch_queue.is_empty() {
+                        counters.dispatch(&request_sink, dispatch_queue.take(MAX_GRPC_MESSAGE_LEN, &queue_delays));
                     }
                     break;
                 }
                 _ = sleep_until(next_dispatch) => {
-                    if !request_buffer.is_empty() {
-                        request_sink.send(request_buffer.take()).unwrap();
+                    while !dispatch_queue.is_empty() {
+                        counters.dispatch(&request_sink, dispatch_queue.take(MAX_GRPC_MESSAGE_LEN, &queue_delays));
                     }
                     next_dispatch = Instant::now() + DISPATCH_INTERVAL;
                 }
@@ -241,14 +355,34 @@ impl TransactionTransmitter {
                 }
                 recv = request_source.recv() => {
                     if let Some((request, callback)) = recv {
+                        if matches!(request, TransactionRequest::Query(_)) {
+                            collector.counters.queries.fetch_add(1, Ordering::Relaxed);
+                        }
+                        let timeout = request.query_timeout();
+                        let (priority, placement) = match &request {
+                            TransactionRequest::Stream { request_id } => match collector.stream_priority(request_id) {
+                                RequestPriority::Batch => (RequestPriority::Batch, Placement::Deferred),
+                                priority => (priority, Placement::Ordered),
+                            },
+                            request if request.is_barrier() => {
+                                (request.priority().unwrap_or_default(), Placement::Barrier)
+                            }
+                            request => (request.priority().unwrap_or_default(), Placement::Ordered),
+                        };
                         let request = request.into_proto();
                         if let Some(callback) = callback {
-                            collector.register(request.req_id.clone().into(), callback);
+                            let request_id: RequestID = request.req_id.clone().into();
+                            // Only the further answers of batch reads may be deferred behind later requests.
+                            let defer_stream = priority == RequestPriority::Batch && placement == Placement::Ordered;
+                            collector.register(request_id.clone(), callback, defer_stream);
+                            if let Some(timeout) = timeout {
+                                collector.expire_after(request_id, timeout);
+                            }
                         }
-                        if request_buffer.len() + request.encoded_len() > MAX_GRPC_MESSAGE_LEN {
-                            request_sink.send(request_buffer.take()).unwrap();
+                        if dispatch_queue.len() + request.encoded_len() > MAX_GRPC_MESSAGE_LEN {
+                            counters.dispatch(&request_sink, dispatch_queue.take(MAX_GRPC_MESSAGE_LEN, &queue_delays));
                         }
-                        request_buffer.push(request);
+                        dispatch_queue.push(request, priority, placement);
                     } else {
                         break;
                     }
@@ -261,10 +395,16 @@ impl TransactionTransmitter {
         mut grpc_source: Streaming<transaction::Server>,
         collector: ResponseCollector,
         shutdown_sink: UnboundedSender<()>,
+        transport_stats: Arc<TransportStats>,
     ) {
         loop {
             match grpc_source.next().await {
-                Some(Ok(message)) => collector.collect(message).await,
+                Some(Ok(message)) => {
+                    let encoded_len = message.encoded_len();
+                    transport_stats.message_received(encoded_len);
+                    collector.counters.bytes_received.fetch_add(encoded_len as u64, Ordering::Relaxed);
+                    collector.collect(message).await
+                }
                 Some(Err(err)) => {
                     break collector
                         .close(ConnectionError::TransactionIsClosedWithErrors { errors: err.message().to_owned() })
@@ -279,7 +419,7 @@ impl TransactionTransmitter {
 
 #[derive(Default)]
 struct TransactionRequestBuffer {
-    reqs: Vec<transaction::Req>,
+    reqs: VecDeque<(transaction::Req, RequestPriority, Instant)>,
     len: usize,
 }
 
@@ -292,14 +432,163 @@ impl TransactionRequestBuffer {
         self.len
     }
 
-    fn push(&mut self, request: transaction::Req) {
+    fn push(&mut self, request: transaction::Req, priority: RequestPriority, queued_at: Instant) {
         self.len += request.encoded_len();
-        self.reqs.push(request);
+        self.reqs.push_back((request, priority, queued_at));
+    }
+
+    fn front_len(&self) -> Option<usize> {
+        self.reqs.front().map(|(request, _, _)| request.encoded_len())
+    }
+
+    fn pop(&mut self) -> Option<(transaction::Req, RequestPriority, Instant)> {
+        let (request, priority, queued_at) = self.reqs.pop_front()?;
+        self.len -= request.encoded_len();
+        Some((request, priority, queued_at))
+    }
+
+    fn append(&mut self, other: &mut Self) {
+        self.len += std::mem::take(&mut other.len);
+        self.reqs.append(&mut other.reqs);
+    }
+}
+
+/// Where a request is queued for dispatch.
+#[derive(Copy, Clone, Debug, Eq, PartialEq)]
+enum Placement {
+    /// Sent in the order it was issued.
+    Ordered,
+    /// A request for further answers of a batch read, which may be sent after requests issued later.
+    Deferred,
+    /// Sent in the order it was issued, and only after every request issued before it, deferred or not.
+    Barrier,
+}
+
+/// Requests waiting to be dispatched. Requests are sent in the order they were issued, except requests for further
+/// answers of batch reads: while both kinds are waiting, messages are composed by weighted round-robin,
+/// taking `ORDERED_WEIGHT` requests in order for every deferred request.
+#[derive(Default)]
+struct DispatchQueue {
+    ordered: TransactionRequestBuffer,
+    deferred: TransactionRequestBuffer,
+    ordered_credit: usize,
+}
+
+impl DispatchQueue {
+    const ORDERED_WEIGHT: usize = 4;
+
+    fn is_empty(&self) -> bool {
+        self.ordered.is_empty() && self.deferred.is_empty()
+    }
+
+    fn len(&self) -> usize {
+        self.ordered.len() + self.deferred.len()
+    }
+
+    fn push(&mut self, request: transaction::Req, priority: RequestPriority, placement: Placement) {
+        let queued_at = Instant::now();
+        match placement {
+            Placement::Ordered => self.ordered.push(request, priority, queued_at),
+            Placement::Deferred => self.deferred.push(request, priority, queued_at),
+            Placement::Barrier => {
+                self.ordered.append(&mut self.deferred);
+                self.ordered.push(request, priority, queued_at);
+            }
+        }
+    }
+
+    fn next_is_deferred(&self) -> Option<bool> {
+        match (self.ordered.is_empty(), self.deferred.is_empty()) {
+            (true, true) => None,
+            (false, true) => Some(false),
+            (true, false) => Some(true),
+            (false, false) => Some(self.ordered_credit >= Self::ORDERED_WEIGHT),
+        }
+    }
+
+    fn take(&mut self, max_len: usize, queue_delays: &[LaneStats; 2]) -> transaction::Client {
+        let mut reqs = Vec::new();
+        let mut len = 0;
+        let now = Instant::now();
+        while let Some(is_deferred) = self.next_is_deferred() {
+            let buffer = if is_deferred { &mut self.deferred } else { &mut self.ordered };
+            let request_len = buffer.front_len().unwrap();
+            if !reqs.is_empty() && len + request_len > max_len {
+                break;
+            }
+            let (request, priority, queued_at) = buffer.pop().unwrap();
+            queue_delays[priority as usize].record(now.saturating_duration_since(queued_at));
+            self.ordered_credit = if is_deferred { 0 } else { (self.ordered_credit + 1).min(Self::ORDERED_WEIGHT) };
+            len += request_len;
+            reqs.push(request);
+        }
+        transaction::Client { reqs }
     }
+}
+
+#[derive(Default)]
+struct LaneStats {
+    requests: AtomicU64,
+    total_delay_micros: AtomicU64,
+    max_delay_micros: AtomicU64,
+}
 
-    fn take(&mut self) -> transaction::Client {
-        self.len = 0;
-        transaction::Client { reqs: std::mem::take(&mut self.reqs) }
+impl LaneStats {
+    fn record(&self, delay: Duration) {
+        let micros = delay.as_micros() as u64;
+        self.requests.fetch_add(1, Ordering::Relaxed);
+        self.total_delay_micros.fetch_add(micros, Ordering::Relaxed);
+        self.max_delay_micros.fetch_max(micros, Ordering::Relaxed);
+    }
+
+    fn snapshot(&self) -> QueueDelay {
+        QueueDelay {
+            requests: self.requests.load(Ordering::Relaxed),
+            total: Duration::from_micros(self.total_delay_micros.load(Ordering::Relaxed)),
+            max: Duration::from_micros(self.max_delay_micros.load(Ordering::Relaxed)),
+        }
+    }
+}
+
+#[derive(Default)]
+struct TransactionCounters {
+    round_trips: AtomicU64,
+    dispatches: AtomicU64,
+    bytes_sent: AtomicU64,
+    bytes_received: AtomicU64,
+    queries: AtomicU64,
+    answers: AtomicU64,
+    promises_resolved: AtomicU64,
+    native_wait_micros: AtomicU64,
+}
+
+impl TransactionCounters {
+    fn dispatch(&self, request_sink: &UnboundedSender<transaction::Client>, message: transaction::Client) {
+        self.round_trips.fetch_add(message.reqs.len() as u64, Ordering::Relaxed);
+        self.dispatches.fetch_add(1, Ordering::Relaxed);
+        self.bytes_sent.fetch_add(message.encoded_len() as u64, Ordering::Relaxed);
+        request_sink.send(message).unwrap();
+    }
+
+    #[cfg(feature = "sync")]
+    fn wait<T>(&self, wait: impl FnOnce() -> T) -> T {
+        let start = Instant::now();
+        let result = wait();
+        self.native_wait_micros.fetch_add(start.elapsed().as_micros() as u64, Ordering::Relaxed);
+        result
+    }
+
+    fn snapshot(&self) -> TransactionStats {
+        TransactionStats {
+            round_trips: self.round_trips.load(Ordering::Relaxed),
+            dispatches: self.dispatches.load(Ordering::Relaxed),
+            bytes_sent: self.bytes_sent.load(Ordering::Relaxed),
+            bytes_received: self.bytes_received.load(Ordering::Relaxed),
+            queries: self.queries.load(Ordering::Relaxed),
+            answers: self.answers.load(Ordering::Relaxed),
+            promises_resolved: self.promises_resolved.load(Ordering::Relaxed),
+            native_wait: Duration::from_micros(self.native_wait_micros.load(Ordering::Relaxed)),
+        }
     }
 }
 
@@ -307,6 +596,12 @@ impl TransactionRequestBuffer {
 struct ResponseCollector {
     request_sink: UnboundedSender<(TransactionRequest, Option<ResponseSink<TransactionResponse>>)>,
     callbacks: Arc<RwLock<HashMap<RequestID, ResponseSink<TransactionResponse>>>>,
+    expired: Arc<RwLock<HashSet<RequestID>>>,
+    timers: Arc<RwLock<HashMap<RequestID, JoinHandle<()>>>>,
+    batch_streams: Arc<RwLock<HashSet<RequestID>>>,
+    stream_backlogs: Arc<RwLock<HashMap<RequestID, Arc<StreamBacklog>>>>,
+    response_budget: Arc<ResponseBudget>,
+    counters: Arc<TransactionCounters>,
     is_open: Arc<AtomicCell<bool>>,
     error: Arc<RwLock<Option<ConnectionError>>>,
     on_close: Arc<RwLock<Vec<Box<dyn FnOnce(ConnectionError) + Send + Sync>>>>,
@@ -314,10 +609,64 @@ struct ResponseCollector {
 }
 
 impl ResponseCollector {
-    fn register(&mut self, request_id: RequestID, callback: ResponseSink<TransactionResponse>) {
+    fn register(&mut self, request_id: RequestID, callback: ResponseSink<TransactionResponse>, defer_stream: bool) {
+        if matches!(callback, ResponseSink::Streamed(_)) {
+            if defer_stream {
+                // Requests for further answers are dispatched with the same priority as the query.
+                self.batch_streams.write().unwrap().insert(request_id.clone());
+            }
+            self.stream_backlogs.write().unwrap().insert(request_id.clone(), Default::default());
+        }
         self.callbacks.write().unwrap().insert(request_id, callback);
     }
 
+    fn deregister(&self, request_id: &RequestID) -> Option<ResponseSink<TransactionResponse>> {
+        if let Some(timer) = self.timers.write().unwrap().remove(request_id) {
+            timer.abort();
+        }
+        self.batch_streams.write().unwrap().remove(request_id);
+        self.stream_backlogs.write().unwrap().remove(request_id);
+        self.callbacks.write().unwrap().remove(request_id)
+    }
+
+    fn stream_priority(&self, request_id: &RequestID) -> RequestPriority {
+        if self.batch_streams.read().unwrap().contains(request_id) {
+            RequestPriority::Batch
+        } else {
+            RequestPriority::Interactive
+        }
+    }
+
+    fn expire_after(&self, request_id: RequestID, timeout: Duration) {
+        // Spawning under the lock ensures that a timer which fires at once finds itself recorded.
+        let mut timers = self.timers.write().unwrap();
+        let timer = tokio::spawn(self.clone().expire(request_id.clone(), timeout));
+        timers.insert(request_id, timer);
+    }
+
+    async fn expire(self, request_id: RequestID, timeout: Duration) {
+        sleep(timeout).await;
+        self.timers.write().unwrap().remove(&request_id);
+        let callback = self.deregister(&request_id);
+        if let Some(callback) = callback {
+            debug!("Request {request_id} timed out after {timeout:?}.");
+            // Responses still in flight for this request are discarded, and no further answers are requested.
+            self.expired.write().unwrap().insert(request_id);
+            callback.error(ConnectionError::QueryTimedOut { timeout_millis: timeout.as_millis() });
+        }
+    }
+
+    fn unknown_request(&self, request_id: RequestID, is_last: bool) {
+        let is_expired = if is_last {
+            self.expired.write().unwrap().remove(&request_id)
+        } else {
+            self.expired.read().unwrap().contains(&request_id)
+        };
+        if !is_expired {
+            error!("{}", ConnectionError::UnknownRequestId { request_id });
+        }
+    }
+
     async fn collect(&self, message: transaction::Server) {
         match message.server {
             Some(Server::Res(res)) => self.collect_res(res),
@@ -332,9 +681,10 @@ impl ResponseCollector {
             return;
         }
         let request_id = res.req_id.clone().into();
-        match self.callbacks.write().unwrap().remove(&request_id) {
-            Some(sink) => sink.finish(TransactionResponse::try_from_proto(res)),
-            _ => error!("{}", ConnectionError::UnknownRequestId { request_id }),
+        let callback = self.deregister(&request_id);
+        match callback {
+            Some(sink) => sink.finish(self.counted(TransactionResponse::try_from_proto(res))),
+            _ => self.unknown_request(request_id, true),
         }
     }
 
@@ -345,30 +695,79 @@ impl ResponseCollector {
             Some(transaction::res_part::Res::StreamResPart(stream_res_part)) => {
                 match State::from_i32(stream_res_part.state).expect("enum out of range") {
                     State::Done => {
-                        self.callbacks.write().unwrap().remove(&request_id);
-                    }
-                    State::Continue => {
-                        match self.request_sink.send((TransactionRequest::Stream { request_id }, None)) {
-                            Err(SendError((TransactionRequest::Stream { request_id }, None))) => {
-                                let callback = self.callbacks.write().unwrap().remove(&request_id).unwrap();
-                                callback.error(ConnectionError::TransactionIsClosed);
-                            }
-                            _ => (),
+                        if self.deregister(&request_id).is_none() {
+                            self.expired.write().unwrap().remove(&request_id);
                         }
                     }
+                    State::Continue => self.continue_stream(request_id),
                 }
             }
             Some(_) => match self.callbacks.read().unwrap().get(&request_id) {
-                Some(sink) => sink.send(TransactionResponse::try_from_proto(res_part)),
-                _ => error!("{}", ConnectionError::UnknownRequestId { request_id }),
+                Some(sink) => {
+                    let backlog = self.stream_backlogs.read().unwrap().get(&request_id).cloned();
+                    let reservation = self.response_budget.reserve(res_part.encoded_len(), backlog);
+                    sink.send(self.counted(TransactionResponse::try_from_proto(res_part)), reservation)
+                }
+                _ => self.unknown_request(request_id, false),
             },
             None => error!("{}", ConnectionError::MissingResponseField { field: "res_part.res" }),
         }
     }
 
+    fn counted(&self, response: Result<TransactionResponse>) -> Result<TransactionResponse> {
+        if let Ok(response) = &response {
+            self.counters.answers.fetch_add(response.answer_count() as u64, Ordering::Relaxed);
+        }
+        response
+    }
+
+    fn continue_stream(&self, request_id: RequestID) {
+        let is_abandoned = self.callbacks.read().unwrap().get(&request_id).map_or(true, ResponseSink::is_closed);
+        if is_abandoned {
+            // The receiving stream has been dropped: stop requesting answers for it from the server.
+            debug!("Stream {request_id} was dropped, not requesting further answers.");
+            if self.deregister(&request_id).is_none() {
+                self.expired.write().unwrap().remove(&request_id);
+            }
+            return;
+        }
+        let backlog = self.stream_backlogs.read().unwrap().get(&request_id).cloned();
+        if let Some(backlog) = backlog.filter(|backlog| !backlog.is_empty()) {
+            if self.response_budget.is_exhausted() {
+                // Too many answers are waiting to be consumed, some of them this stream's: request more once either
+                // this stream's answers have all been consumed, or enough answers of any stream have been.
+                debug!("Response buffer is full, pausing stream {request_id}.");
+                self.response_budget.pause();
+                let collector = self.clone();
+                tokio::spawn(async move {
+                    select! {
+                        _ = backlog.emptied() => (),
+                        _ = collector.response_budget.drained() => (),
+                    }
+                    collector.continue_stream(request_id);
+                });
+                return;
+            }
+        }
+        match self.request_sink.send((TransactionRequest::Stream { request_id }, None)) {
+            Err(SendError((TransactionRequest::Stream { request_id }, None))) => {
+                if let Some(callback) = self.deregister(&request_id) {
+                    callback.error(ConnectionError::TransactionIsClosed);
+                }
+            }
+            _ => (),
+        }
+    }
+
     async fn close(self, error: ConnectionError) {
         self.is_open.store(false);
         *self.error.write().unwrap() = Some(error.clone());
+        for (_, timer) in self.timers.write().unwrap().drain() {
+            timer.abort();
+        }
+        self.batch_streams.write().unwrap().clear();
+        self.stream_backlogs.write().unwrap().clear();
+        self.response_budget.close();
         let mut listeners = std::mem::take(&mut *self.callbacks.write().unwrap());
         for (_, listener) in listeners.drain() {
             listener.error(error.clone());
@@ -382,3 +781,190 @@ impl ResponseCollector {
         }
     }
 }
+
+#[cfg(test)]
+mod test {
+    use std::{future::Future, sync::Arc, time::Duration};
+
+    use crossbeam::atomic::AtomicCell;
+    use prost::Message;
+    use tokio::{
+        runtime,
+        sync::{mpsc::unbounded_channel, oneshot},
+        time::sleep,
+    };
+    use typedb_protocol::transaction;
+
+    use super::{
+        DispatchQueue, LaneStats, Placement, ResponseBudget, ResponseCollector, ResponseSink, TransactionCounters,
+    };
+    use crate::{
+        common::{error::ConnectionError, RequestID, RequestPriority},
+        connection::{
+            message::{QueryRequest, TransactionRequest},
+            network::proto::IntoProto,
+        },
+        Options,
+    };
+
+    const MAX_LEN: usize = 1_000_000;
+
+    fn insert(query: &str) -> transaction::Req {
+        TransactionRequest::Query(QueryRequest::Insert { query: query.to_owned(), options: Options::new() })
+            .into_proto()
+    }
+
+    fn get(query: &str) -> transaction::Req {
+        TransactionRequest::Query(QueryRequest::Get { query: query.to_owned(), options: Options::new() }).into_proto()
+    }
+
+    fn stream() -> transaction::Req {
+        TransactionRequest::Stream { request_id: RequestID::generate() }.into_proto()
+    }
+
+    fn commit() -> transaction::Req {
+        TransactionRequest::Commit.into_proto()
+    }
+
+    fn ids(requests: &[&transaction::Req]) -> Vec<Vec<u8>> {
+        requests.iter().map(|request| request.req_id.clone()).collect()
+    }
+
+    fn take_all(queue: &mut DispatchQueue) -> Vec<Vec<u8>> {
+        let queue_delays: [LaneStats; 2] = Default::default();
+        let mut sent = Vec::new();
+        while !queue.is_empty() {
+            sent.extend(queue.take(MAX_LEN, &queue_delays).reqs.into_iter().map(|request| request.req_id));
+        }
+        sent
+    }
+
+    #[test]
+    fn test_batch_writes_are_sent_before_commit() {
+        let (continuation_1, continuation_2) = (stream(), stream());
+        let inserts = [insert("insert $x isa person;"), insert("insert $y isa person;"), insert("insert $z isa dog;")];
+        let (read, commit) = (get("match $x isa person; get;"), commit());
+
+        let mut queue = DispatchQueue::default();
+        queue.push(continuation_1.clone(), RequestPriority::Batch, Placement::Deferred);
+        for insert in &inserts {
+            queue.push(insert.clone(), RequestPriority::Batch, Placement::Barrier);
+        }
+        queue.push(read.clone(), RequestPriority::Interactive, Placement::Ordered);
+        queue.push(continuation_2.clone(), RequestPriority::Batch, Placement::Deferred);
+        queue.push(commit.clone(), RequestPriority::Interactive, Placement::Barrier);
+
+        let expected = ids(&[&continuation_1, &inserts[0], &inserts[1], &inserts[2], &read, &continuation_2, &commit]);
+        assert_eq!(take_all(&mut queue), expected);
+    }
+
+    #[test]
+    fn test_deferred_continuations_yield_to_later_requests() {
+        let continuations = [stream(), stream()];
+        let reads: Vec<_> = (0..5).map(|i| get(&format!("match $x isa person, has age {i}; get;"))).collect();
+
+        let mut queue = DispatchQueue::default();
+        for continuation in &continuations {
+            queue.push(continuation.clone(), RequestPriority::Batch, Placement::Deferred);
+        }
+        for read in &reads {
+            queue.push(read.clone(), RequestPriority::Interactive, Placement::Ordered);
+        }
+
+        let expected =
+            ids(&[&reads[0], &reads[1], &reads[2], &reads[3], &continuations[0], &reads[4], &continuations[1]]);
+        assert_eq!(take_all(&mut queue), expected);
+    }
+
+    #[test]
+    fn test_messages_are_split_at_max_len() {
+        let inserts: Vec<_> = (0..3).map(|i| insert(&format!("insert $x isa person, has age {i};"))).collect();
+        let max_len = inserts[0].encoded_len() + inserts[1].encoded_len();
+
+        let mut queue = DispatchQueue::default();
+        for insert in &inserts {
+            queue.push(insert.clone(), RequestPriority::Batch, Placement::Barrier);
+        }
+
+        let queue_delays: [LaneStats; 2] = Default::default();
+        assert_eq!(queue.take(max_len, &queue_delays).reqs.len(), 2);
+        assert_eq!(queue.take(max_len, &queue_delays).reqs.len(), 1);
+        assert!(queue.is_empty());
+        assert_eq!(queue_delays[RequestPriority::Batch as usize].snapshot().requests, 3);
+    }
+
+    fn collector() -> ResponseCollector {
+        ResponseCollector {
+            request_sink: unbounded_channel().0,
+            callbacks: Default::default(),
+            expired: Default::default(),
+            timers: Default::default(),
+            batch_streams: Default::default(),
+            stream_backlogs: Default::default(),
+            response_budget: Arc::new(ResponseBudget::new(None, None)),
+            counters: Arc::new(TransactionCounters::default()),
+            is_open: Arc::new(AtomicCell::new(true)),
+            error: Default::default(),
+            on_close: Default::default(),
+            callback_handler_sink: crossbeam::channel::unbounded().0,
+        }
+    }
+
+    fn block_on<F: Future>(future: F) -> F::Output {
+        runtime::Builder::new_current_thread().enable_time().build().unwrap().block_on(future)
+    }
+
+    #[test]
+    fn test_request_expires_after_timeout() {
+        block_on(async {
+            let mut collector = collector();
+            let request_id = RequestID::generate();
+            let (sink, mut response) = oneshot::channel();
+            collector.register(request_id.clone(), ResponseSink::AsyncOneShot(sink), false);
+            collector.expire_after(request_id.clone(), Duration::from_millis(10));
+
+            sleep(Duration::from_millis(50)).await;
+            let error = response.try_recv().unwrap().err().unwrap();
+            assert_eq!(error.to_string(), ConnectionError::QueryTimedOut { timeout_millis: 10 }.to_string());
+            assert!(collector.callbacks.read().unwrap().is_empty());
+            assert!(collector.timers.read().unwrap().is_empty());
+            // Responses still in flight for the expired request are expected, and silently discarded.
+            assert!(collector.expired.read().unwrap().contains(&request_id));
+        });
+    }
+
+    #[test]
+    fn test_answered_request_cancels_its_timer() {
+        block_on(async {
+            let mut collector = collector();
+            let request_id = RequestID::generate();
+            let (sink, mut response) = oneshot::channel();
+            collector.register(request_id.clone(), ResponseSink::AsyncOneShot(sink), false);
+            collector.expire_after(request_id.clone(), Duration::from_millis(10));
+
+            let _sink = collector.deregister(&request_id).unwrap();
+            assert!(collector.timers.read().unwrap().is_empty());
+            sleep(Duration::from_millis(50)).await;
+            assert!(response.try_recv().is_err());
+            assert!(collector.expired.read().unwrap().is_empty());
+        });
+    }
+
+    #[test]
+    fn test_closing_cancels_pending_timers() {
+        block_on(async {
+            let mut collector = collector();
+            let request_id = RequestID::generate();
+            let (sink, mut response) = oneshot::channel();
+            collector.register(request_id.clone(), ResponseSink::AsyncOneShot(sink), false);
+            collector.expire_after(request_id.clone(), Duration::from_millis(10));
+
+            collector.clone().close(ConnectionError::TransactionIsClosed).await;
+            assert!(collector.timers.read().unwrap().is_empty());
+            let error = response.try_recv().unwrap().err().unwrap();
+            assert_eq!(error.to_string(), ConnectionError::TransactionIsClosed.to_string());
+            sleep(Duration::from_millis(50)).await;
+            assert!(collector.expired.read().unwrap().is_empty());
+        });
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{
+    collections::VecDeque,
+    sync::{
+        atomic::{AtomicU64, AtomicUsize, Ordering},
+        Mutex,
+    },
+    time::{Duration, Instant},
+};
+
+/// Request statistics for a single server, as observed by this driver.
+#[derive(Debug, Default)]
+pub(crate) struct ReplicaStats {
+    outstanding_requests: AtomicUsize,
+    latency_ewma_micros: AtomicU64,
+    recent_latencies: Mutex<VecDeque<Duration>>,
+}
+
+impl ReplicaStats {
+    /// Each new latency sample contributes `1 / LATENCY_EWMA_WEIGHT` of the moving average.
+    const LATENCY_EWMA_WEIGHT: u64 = 5;
+    /// Number of most recent latency samples kept for percentile estimates.
+    const RECENT_LATENCIES_CAPACITY: usize = 128;
+
+    pub(crate) fn start_request(&self) -> RequestTimer<'_> {
+        self.outstanding_requests.fetch_add(1, Ordering::Relaxed);
+        RequestTimer { stats: self, start: Instant::now() }
+    }
+
+    pub(crate) fn outstanding_requests(&self) -> usize {
+        self.outstanding_requests.load(Ordering::Relaxed)
+    }
+
+    pub(crate) fn latency(&self) -> Option<Duration> {
+        match self.latency_ewma_micros.load(Ordering::Relaxed) {
+            0 => None,
+            micros => Some(Duration::from_micros(micros)),
+        }
+    }
+
+    /// Estimates the given percentile (between 0 and 1) of the most recent request latencies.
+    pub(crate) fn latency_percentile(&self, percentile: f64) -> Option<Duration> {
+        let mut latencies: Vec<Duration> = self.recent_latencies.lock().unwrap().iter().copied().collect();
+        if latencies.is_empty() {
+            return None;
+        }
+        latencies.sort_unstable();
+        let rank = (percentile.clamp(0.0, 1.0) * (latencies.len() - 1) as f64).round() as usize;
+        Some(latencies[rank])
+    }
+
+    fn record_latency(&self, latency: Duration) {
+        {
+            let mut recent_latencies = self.recent_latencies.lock().unwrap();
+            if recent_latencies.len() == Self::RECENT_LATENCIES_CAPACITY {
+                recent_latencies.pop_front();
+            }
+            recent_latencies.push_back(latency);
+        }
+        let sample = (latency.as_micros() as u64).max(1);
+        self.latency_ewma_micros
+            .fetch_update(Ordering::Relaxed, Ordering::Relaxed, |average| match average {
+                0 => Some(sample),
+                average => Some((average * (Self::LATENCY_EWMA_WEIGHT - 1) + sample) / Self::LATENCY_EWMA_WEIGHT),
+            })
+            .ok();
+    }
+}
+
+/// Tracks a single in-flight request. Only successful requests contribute to the latency average,
+/// so that fast connection failures do not make an unavailable server look responsive.
+pub(crate) struct RequestTimer<'a> {
+    stats: &'a ReplicaStats,
+    start: Instant,
+}
+
+impl RequestTimer<'_> {
+    pub(crate) fn succeeded(self) {
+        self.stats.record_latency(self.start.elapsed());
+    }
+}
+
+impl Drop for RequestTimer<'_> {
+    fn drop(&mut self) {
+        self.stats.outstanding_requests.fetch_sub(1, Ordering::Relaxed);
+    }
+}
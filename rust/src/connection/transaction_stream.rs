@@ -31,7 +31,7 @@ use crate::{
     answer::{readable_concept, ConceptMap, ConceptMapGroup, ValueGroup},
     common::{
         stream::{BoxStream, Stream},
-        Promise, Result, IID,
+        Promise, QueueDelay, RequestPriority, ResponseBufferStats, Result, ThingKind, TransactionStats, IID,
     },
     concept::{
         Annotation, Attribute, AttributeType, Entity, EntityType, Relation, RelationType, RoleType, SchemaException,
@@ -81,6 +81,18 @@ impl TransactionStream {
         self.transaction_transmitter.on_close(callback)
     }
 
+    pub(crate) fn queue_delay(&self, priority: RequestPriority) -> QueueDelay {
+        self.transaction_transmitter.queue_delay(priority)
+    }
+
+    pub(crate) fn response_buffer(&self) -> ResponseBufferStats {
+        self.transaction_transmitter.response_buffer()
+    }
+
+    pub(crate) fn stats(&self) -> TransactionStats {
+        self.transaction_transmitter.stats()
+    }
+
     pub(crate) fn commit(self: Pin<Box<Self>>) -> impl Promise<'static, Result> {
         let promise = self.transaction_transmitter.single(TransactionRequest::Commit);
         promisify! {
@@ -291,6 +303,52 @@ impl TransactionStream {
         }
     }
 
+    pub(crate) fn get_entities(&self, iids: Vec<IID>) -> Result<impl Stream<Item = Result<Option<Entity>>>> {
+        let stream = self.concept_batch(iids.into_iter().map(|iid| ConceptRequest::GetEntity { iid }).collect())?;
+        Ok(stream.map(|result| match result {
+            Ok(ConceptResponse::GetEntity { entity }) => Ok(entity),
+            Ok(other) => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
+            Err(err) => Err(err),
+        }))
+    }
+
+    pub(crate) fn get_relations(&self, iids: Vec<IID>) -> Result<impl Stream<Item = Result<Option<Relation>>>> {
+        let stream = self.concept_batch(iids.into_iter().map(|iid| ConceptRequest::GetRelation { iid }).collect())?;
+        Ok(stream.map(|result| match result {
+            Ok(ConceptResponse::GetRelation { relation }) => Ok(relation),
+            Ok(other) => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
+            Err(err) => Err(err),
+        }))
+    }
+
+    pub(crate) fn get_attributes(&self, iids: Vec<IID>) -> Result<impl Stream<Item = Result<Option<Attribute>>>> {
+        let stream = self.concept_batch(iids.into_iter().map(|iid| ConceptRequest::GetAttribute { iid }).collect())?;
+        Ok(stream.map(|result| match result {
+            Ok(ConceptResponse::GetAttribute { attribute }) => Ok(attribute),
+            Ok(other) => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
+            Err(err) => Err(err),
+        }))
+    }
+
+    pub(crate) fn get_things(&self, iids: Vec<IID>) -> Result<impl Stream<Item = Result<Option<Thing>>>> {
+        // An iid that is not that of a Thing is looked up as an entity, which the server does not find
+        let requests = iids
+            .into_iter()
+            .map(|iid| match iid.thing_kind() {
+                Some(ThingKind::Attribute) => ConceptRequest::GetAttribute { iid },
+                Some(ThingKind::Relation) => ConceptRequest::GetRelation { iid },
+                Some(ThingKind::Entity) | None => ConceptRequest::GetEntity { iid },
+            })
+            .collect();
+        Ok(self.concept_batch(requests)?.map(|result| match result {
+            Ok(ConceptResponse::GetEntity { entity }) => Ok(entity.map(Thing::Entity)),
+            Ok(ConceptResponse::GetRelation { relation }) => Ok(relation.map(Thing::Relation)),
+            Ok(ConceptResponse::GetAttribute { attribute }) => Ok(attribute.map(Thing::Attribute)),
+            Ok(other) => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
+            Err(err) => Err(err),
+        }))
+    }
+
     pub(crate) fn get_schema_exceptions(&self) -> Result<impl Stream<Item = Result<SchemaException>>> {
         let stream = self.concept_stream(ConceptRequest::GetSchemaExceptions)?;
         Ok(stream.flat_map(|result| match result {
@@ -1254,6 +1312,7 @@ impl TransactionStream {
     }
 
     fn query_single(&self, req: QueryRequest) -> impl Promise<'_, Result<QueryResponse>> {
+        let req = req.with_transaction_defaults(&self.options);
         let promise = self.single(TransactionRequest::Query(req));
         promisify! {
             match resolve!(promise)? {
@@ -1328,6 +1387,7 @@ impl TransactionStream {
     }
 
     fn query_stream(&self, req: QueryRequest) -> Result<impl Stream<Item = Result<QueryResponse>>> {
+        let req = req.with_transaction_defaults(&self.options);
         Ok(self.stream(TransactionRequest::Query(req))?.map(|response| match response {
             Ok(TransactionResponse::Query(res)) => Ok(res),
             Ok(other) => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
@@ -1335,6 +1395,15 @@ impl TransactionStream {
         }))
     }
 
+    fn concept_batch(&self, reqs: Vec<ConceptRequest>) -> Result<impl Stream<Item = Result<ConceptResponse>>> {
+        let reqs = reqs.into_iter().map(TransactionRequest::Concept).collect();
+        Ok(self.transaction_transmitter.batch(reqs)?.map(|response| match response {
+            Ok(TransactionResponse::Concept(res)) => Ok(res),
+            Ok(other) => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
+            Err(err) => Err(err),
+        }))
+    }
+
     fn concept_stream(&self, req: ConceptRequest) -> Result<impl Stream<Item = Result<ConceptResponse>>> {
         Ok(self.stream(TransactionRequest::Concept(req))?.map(|response| match response {
             Ok(TransactionResponse::Concept(res)) => Ok(res),
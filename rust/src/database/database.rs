@@ -19,46 +19,97 @@
 
 #[cfg(not(feature = "sync"))]
 use std::future::Future;
-use std::{fmt, sync::RwLock, thread::sleep, time::Duration};
+use std::{
+    fmt, mem,
+    sync::{Arc, Mutex, RwLock, Weak},
+    thread::sleep,
+    time::Duration,
+};
 
+use itertools::Itertools;
 use log::{debug, error};
 
 use crate::{
     common::{
         error::ConnectionError,
         info::{DatabaseInfo, ReplicaInfo},
-        Error, Result,
+        Error, Options, ReplicaSelector, Result, SessionType,
     },
     connection::ServerConnection,
     error::InternalError,
     Connection,
 };
 
+type TopologyCallback = Box<dyn FnMut() + Send>;
+type TopologyListeners = Arc<Mutex<Vec<TopologyCallback>>>;
+
 /// A TypeDB database
 pub struct Database {
     name: String,
-    replicas: RwLock<Vec<Replica>>,
+    topology: Arc<DatabaseTopology>,
+    listeners: TopologyListeners,
     connection: Connection,
 }
 
+/// The replicas of a database as last fetched, and the callbacks of each `Database` to notify when they change.
+/// Shared by every `Database` of the same name obtained through a connection, so that a single background task
+/// keeps the replicas up to date for all of them, until none is left. Callbacks are dropped with the `Database`
+/// that registered them.
+#[derive(Default)]
+pub(crate) struct DatabaseTopology {
+    replicas: RwLock<Vec<Replica>>,
+    listeners: Mutex<Vec<Weak<Mutex<Vec<TopologyCallback>>>>>,
+}
+
+impl DatabaseTopology {
+    fn register(&self, listeners: &TopologyListeners) {
+        let mut all_listeners = self.listeners.lock().unwrap();
+        all_listeners.retain(|listeners| listeners.strong_count() > 0);
+        all_listeners.push(Arc::downgrade(listeners));
+    }
+
+    fn notify(&self) {
+        let all_listeners: Vec<TopologyListeners> =
+            self.listeners.lock().unwrap().iter().filter_map(Weak::upgrade).collect();
+        for listeners in all_listeners {
+            // Callbacks run without holding the lock, so that they may register further callbacks.
+            let mut callbacks = mem::take(&mut *listeners.lock().unwrap());
+            callbacks.iter_mut().for_each(|callback| callback());
+            let mut registered = listeners.lock().unwrap();
+            callbacks.append(&mut registered);
+            *registered = callbacks;
+        }
+    }
+}
+
 impl Database {
     const PRIMARY_REPLICA_TASK_MAX_RETRIES: usize = 10;
     const FETCH_REPLICAS_MAX_RETRIES: usize = 10;
     const WAIT_FOR_PRIMARY_REPLICA_SELECTION: Duration = Duration::from_secs(2);
+    const TOPOLOGY_POLL_INTERVAL: Duration = Duration::from_secs(1);
 
     pub(super) fn new(database_info: DatabaseInfo, connection: Connection) -> Result<Self> {
         let name = database_info.name.clone();
-        let replicas = RwLock::new(Replica::try_from_info(database_info, &connection)?);
-        Ok(Self { name, replicas, connection })
+        let replicas = Replica::try_from_info(database_info, &connection)?;
+        Ok(Self::with_replicas(name, replicas, connection))
     }
 
     #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
     pub(super) async fn get(name: String, connection: Connection) -> Result<Self> {
-        Ok(Self {
-            name: name.clone(),
-            replicas: RwLock::new(Replica::fetch_all(name, connection.clone()).await?),
-            connection,
-        })
+        let replicas = Replica::fetch_all(name.clone(), connection.clone()).await?;
+        Ok(Self::with_replicas(name, replicas, connection))
+    }
+
+    fn with_replicas(name: String, replicas: Vec<Replica>, connection: Connection) -> Self {
+        let (topology, is_new) = connection.database_topology(&name);
+        *topology.replicas.write().unwrap() = replicas;
+        let listeners = TopologyListeners::default();
+        topology.register(&listeners);
+        let database = Self { name, topology, listeners, connection };
+        if is_new && database.connection.is_cloud() {
+            database.watch_topology();
+        }
+        database
     }
 
     /// Retrieves the database name as a string.
@@ -75,7 +126,7 @@ impl Database {
     /// database.replicas_info()
     /// ```
     pub fn replicas_info(&self) -> Vec<ReplicaInfo> {
-        self.replicas.read().unwrap().iter().map(Replica::to_info).collect()
+        self.topology.replicas.read().unwrap().iter().map(Replica::to_info).collect()
     }
 
     /// Returns the primary replica for this database.
@@ -103,6 +154,26 @@ impl Database {
         self.preferred_replica().map(|replica| replica.to_info())
     }
 
+    /// Registers a callback function which will be executed when the replicas of this database change,
+    /// such as when a new primary replica is elected. Replica changes are detected by polling in the background,
+    /// which also keeps the cached primary replica up to date for write operations. A single poller serves
+    /// every `Database` of the same name obtained through the connection. Callbacks are dropped together with
+    /// this `Database`, and may register further callbacks.
+    /// _Only works in TypeDB Cloud_
+    ///
+    /// # Arguments
+    ///
+    /// * `function` -- The callback function.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// database.on_topology_change(function);
+    /// ```
+    pub fn on_topology_change(&self, callback: impl FnMut() + Send + 'static) {
+        self.listeners.lock().unwrap().push(Box::new(callback));
+    }
+
     /// Deletes this database.
     ///
     /// # Examples
@@ -170,14 +241,33 @@ impl Database {
         }
     }
 
+    /// Runs a task which opens a session. Only data sessions which may read from any replica are opened
+    /// on the replicas in selection order: schema sessions, and data sessions which may write, go to the primary.
+    #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
+    pub(super) async fn run_session_task<F, P, R>(
+        &self,
+        session_type: SessionType,
+        options: Options,
+        task: F,
+    ) -> Result<R>
+    where
+        F: Fn(ServerDatabase) -> P,
+        P: Future<Output = Result<R>>,
+    {
+        if session_type == SessionType::Data && options.read_any_replica == Some(true) {
+            self.run_failsafe(task).await
+        } else {
+            self.run_on_primary_replica(task).await
+        }
+    }
+
     #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
     pub(super) async fn run_on_any_replica<F, P, R>(&self, task: F) -> Result<R>
     where
         F: Fn(ServerDatabase) -> P,
         P: Future<Output = Result<R>>,
     {
-        let replicas = self.replicas.read().unwrap().clone();
-        for replica in replicas {
+        for replica in self.selected_replicas() {
             match task(replica.database.clone()).await {
                 Err(Error::Connection(
                     ConnectionError::ServerConnectionFailedStatusError { .. } | ConnectionError::ConnectionFailed,
@@ -206,9 +296,17 @@ impl Database {
                     | ConnectionError::ServerConnectionFailedStatusError { .. }
                     | ConnectionError::ConnectionFailed,
                 )) => {
-                    debug!("Primary replica error, waiting...");
-                    Self::wait_for_primary_replica_selection().await;
-                    primary_replica = self.seek_primary_replica().await?;
+                    primary_replica = match self.primary_replica() {
+                        Some(replica) if replica.term > primary_replica.term => {
+                            debug!("Primary replica error, retrying on the newly elected primary...");
+                            replica
+                        }
+                        _ => {
+                            debug!("Primary replica error, waiting...");
+                            Self::wait_for_primary_replica_selection().await;
+                            self.seek_primary_replica().await?
+                        }
+                    };
                 }
                 res => return res,
             }
@@ -220,7 +318,7 @@ impl Database {
     async fn seek_primary_replica(&self) -> Result<Replica> {
         for _ in 0..Self::FETCH_REPLICAS_MAX_RETRIES {
             let replicas = Replica::fetch_all(self.name.clone(), self.connection.clone()).await?;
-            *self.replicas.write().unwrap() = replicas;
+            *self.topology.replicas.write().unwrap() = replicas;
             if let Some(replica) = self.primary_replica() {
                 return Ok(replica);
             }
@@ -229,12 +327,66 @@ impl Database {
         Err(self.connection.unable_to_connect_error())
     }
 
+    /// Returns the first two replicas to try, in selection order, and the delay after which to hedge
+    /// a request to the first one with the second, if hedging is enabled.
+    pub(super) fn hedge_targets(&self) -> Option<(ServerDatabase, ServerDatabase, Duration)> {
+        let policy = self.connection.hedge_policy()?;
+        let mut replicas = self.selected_replicas().into_iter();
+        let (first, second) = (replicas.next()?, replicas.next()?);
+        let delay =
+            first.database.connection().stats().latency_percentile(policy.percentile).unwrap_or(policy.fallback_delay);
+        Some((first.database, second.database, delay))
+    }
+
+    fn selected_replicas(&self) -> Vec<Replica> {
+        let mut replicas = self.topology.replicas.read().unwrap().clone();
+        match self.connection.replica_selector() {
+            ReplicaSelector::ListOrder => (),
+            ReplicaSelector::RoundRobin => {
+                if !replicas.is_empty() {
+                    let offset = self.connection.next_replica_rotation() % replicas.len();
+                    replicas.rotate_left(offset);
+                }
+            }
+            ReplicaSelector::LeastOutstanding => {
+                replicas.sort_by_key(|replica| replica.database.connection().stats().outstanding_requests())
+            }
+            ReplicaSelector::LowestLatency => replicas.sort_by_key(|replica| {
+                replica.database.connection().stats().latency().unwrap_or(Duration::ZERO)
+            }),
+            ReplicaSelector::PreferLocal => replicas.sort_by_key(|replica| !replica.is_preferred),
+        }
+        replicas
+    }
+
+    fn watch_topology(&self) {
+        let name = self.name.clone();
+        let connection = self.connection.clone();
+        let topology = Arc::downgrade(&self.topology);
+        self.connection.spawn_background(async move {
+            loop {
+                tokio::time::sleep(Self::TOPOLOGY_POLL_INTERVAL).await;
+                if !connection.is_open() {
+                    break;
+                }
+                let Some(topology) = topology.upgrade() else { break };
+                let Ok(fetched) = Replica::fetch_all_in_background(name.clone(), &connection).await else { continue };
+                if Replica::same_topology(&topology.replicas.read().unwrap(), &fetched) {
+                    continue;
+                }
+                debug!("Replicas of database '{}' changed: {:?}", name, fetched);
+                *topology.replicas.write().unwrap() = fetched;
+                tokio::task::spawn_blocking(move || topology.notify());
+            }
+        });
+    }
+
     fn primary_replica(&self) -> Option<Replica> {
-        self.replicas.read().unwrap().iter().filter(|r| r.is_primary).max_by_key(|r| r.term).cloned()
+        self.topology.replicas.read().unwrap().iter().filter(|r| r.is_primary).max_by_key(|r| r.term).cloned()
     }
 
     fn preferred_replica(&self) -> Option<Replica> {
-        self.replicas.read().unwrap().iter().filter(|r| r.is_preferred).max_by_key(|r| r.term).cloned()
+        self.topology.replicas.read().unwrap().iter().filter(|r| r.is_preferred).max_by_key(|r| r.term).cloned()
     }
 
     #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
@@ -246,7 +398,7 @@ impl Database {
 
 impl fmt::Debug for Database {
     fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
-        f.debug_struct("Database").field("name", &self.name).field("replicas", &self.replicas).finish()
+        f.debug_struct("Database").field("name", &self.name).field("replicas", &self.topology.replicas).finish()
     }
 }
 
@@ -293,14 +445,38 @@ impl Replica {
     }
 
     fn to_info(&self) -> ReplicaInfo {
+        let stats = self.database.connection().stats();
         ReplicaInfo {
             server: self.server.clone(),
             is_primary: self.is_primary,
             is_preferred: self.is_preferred,
             term: self.term,
+            outstanding_requests: stats.outstanding_requests(),
+            latency: stats.latency(),
         }
     }
 
+    async fn fetch_all_in_background(name: String, connection: &Connection) -> Result<Vec<Self>> {
+        for (server, server_connection) in connection.connections() {
+            match server_connection.get_database_replicas_in_background(name.clone()).await {
+                Ok(info) => return Self::try_from_info(info, connection),
+                Err(err) => debug!("Failed to poll replica info for database '{}' from {}: {}", name, server, err),
+            }
+        }
+        Err(connection.unable_to_connect_error())
+    }
+
+    fn same_topology(left: &[Self], right: &[Self]) -> bool {
+        let topology = |replicas: &[Self]| {
+            replicas
+                .iter()
+                .map(|replica| (replica.server.clone(), replica.is_primary, replica.term))
+                .sorted()
+                .collect_vec()
+        };
+        topology(left) == topology(right)
+    }
+
     #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
     async fn fetch_all(name: String, connection: Connection) -> Result<Vec<Self>> {
         for (server, server_connection) in connection.connections() {
@@ -383,3 +559,60 @@ impl fmt::Display for ServerDatabase {
         write!(f, "{}", self.name)
     }
 }
+
+#[cfg(test)]
+mod test {
+    use std::sync::{
+        atomic::{AtomicUsize, Ordering},
+        Arc, Mutex,
+    };
+
+    use super::{DatabaseTopology, TopologyListeners};
+
+    #[test]
+    fn test_listeners_are_dropped_with_their_database() {
+        let topology = DatabaseTopology::default();
+        let calls = Arc::new(AtomicUsize::new(0));
+        let listeners = TopologyListeners::default();
+        topology.register(&listeners);
+        let counter = calls.clone();
+        listeners.lock().unwrap().push(Box::new(move || {
+            counter.fetch_add(1, Ordering::Relaxed);
+        }));
+
+        topology.notify();
+        assert_eq!(calls.load(Ordering::Relaxed), 1);
+
+        drop(listeners);
+        topology.notify();
+        assert_eq!(calls.load(Ordering::Relaxed), 1);
+        topology.register(&TopologyListeners::default());
+        assert_eq!(topology.listeners.lock().unwrap().len(), 1);
+    }
+
+    #[test]
+    fn test_listener_may_register_another_listener() {
+        let topology = DatabaseTopology::default();
+        let calls = Arc::new(AtomicUsize::new(0));
+        let listeners = TopologyListeners::default();
+        topology.register(&listeners);
+        let registered = Arc::new(Mutex::new(false));
+        let (inner_listeners, inner_calls, is_registered) = (listeners.clone(), calls.clone(), registered.clone());
+        listeners.lock().unwrap().push(Box::new(move || {
+            let mut is_registered = is_registered.lock().unwrap();
+            if !*is_registered {
+                let calls = inner_calls.clone();
+                inner_listeners.lock().unwrap().push(Box::new(move || {
+                    calls.fetch_add(1, Ordering::Relaxed);
+                }));
+                *is_registered = true;
+            }
+        }));
+
+        topology.notify();
+        assert_eq!(calls.load(Ordering::Relaxed), 0);
+        assert_eq!(listeners.lock().unwrap().len(), 2);
+        topology.notify();
+        assert_eq!(calls.load(Ordering::Relaxed), 1);
+    }
+}
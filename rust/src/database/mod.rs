@@ -21,4 +21,5 @@ mod database;
 mod database_manager;
 mod session;
 
+pub(crate) use self::database::DatabaseTopology;
 pub use self::{database::Database, database_manager::DatabaseManager, session::Session};
@@ -21,7 +21,7 @@ use core::fmt;
 use std::sync::{Arc, Mutex, RwLock};
 
 use crossbeam::atomic::AtomicCell;
-use log::warn;
+use log::{debug, warn};
 
 use crate::{
     common::{error::ConnectionError, info::SessionInfo, Result, SessionType, TransactionType},
@@ -90,13 +90,46 @@ impl Session {
     /// ```
     #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
     pub async fn new_with_options(database: Database, session_type: SessionType, options: Options) -> Result<Self> {
-        let server_session = database
-            .run_failsafe(|database| async move {
-                let session_info =
-                    database.connection().open_session(database.name().to_owned(), session_type, options).await?;
-                Ok(ServerSession { connection: database.connection().clone(), info: session_info })
-            })
-            .await?;
+        let hedge_targets = match (session_type, options.read_any_replica) {
+            (SessionType::Data, Some(true)) => database.hedge_targets(),
+            _ => None,
+        };
+        let hedged_session = match hedge_targets {
+            Some((first, second, hedge_delay)) => {
+                match first
+                    .connection()
+                    .open_session_hedged(
+                        second.connection(),
+                        hedge_delay,
+                        database.name().to_owned(),
+                        session_type,
+                        options,
+                    )
+                    .await
+                {
+                    Ok((connection, info)) => Some(ServerSession { connection, info }),
+                    Err(err) => {
+                        debug!("Hedged session open failed on both replicas, falling back to failsafe: {err}");
+                        None
+                    }
+                }
+            }
+            None => None,
+        };
+        let server_session = match hedged_session {
+            Some(server_session) => server_session,
+            None => {
+                database
+                    .run_session_task(session_type, options, |database| async move {
+                        let session_info = database
+                            .connection()
+                            .open_session(database.name().to_owned(), session_type, options)
+                            .await?;
+                        Ok(ServerSession { connection: database.connection().clone(), info: session_info })
+                    })
+                    .await?
+            }
+        };
 
         let is_open = Arc::new(AtomicCell::new(true));
         let on_close: Arc<Mutex<Vec<Callback>>> = Arc::new(Mutex::new(vec![Box::new({
@@ -126,6 +159,17 @@ impl Session {
         self.database.name()
     }
 
+    /// Returns the address of the server this session is currently open on.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// session.server_address();
+    /// ```
+    pub fn server_address(&self) -> String {
+        self.server_session.read().unwrap().connection.address().to_string()
+    }
+
     /// The current session’s type (SCHEMA or DATA)
     pub fn type_(&self) -> SessionType {
         self.session_type
@@ -244,7 +288,7 @@ impl Session {
 
                 let (server_session, (transaction_stream, transaction_shutdown_sink)) = self
                     .database
-                    .run_failsafe(|database| {
+                    .run_session_task(self.session_type, options, |database| {
                         let session_type = self.session_type;
                         async move {
                             let connection = database.connection();
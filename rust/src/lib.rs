@@ -31,8 +31,9 @@ mod user;
 
 pub use self::{
     common::{
-        box_stream, error, info, BoxPromise, BoxStream, Error, Options, Promise, Result, SessionType, TransactionType,
-        IID,
+        box_stream, error, info, BoxPromise, BoxStream, Compression, CompressionAlgorithm, CompressionStats, Error,
+        HedgePolicy, Options, Promise, QueueDelay, ReplicaSelector, RequestPriority, ResponseBufferStats, Result,
+        SessionType, TransactionStats, TransactionType, IID,
     },
     connection::{Connection, Credential},
     database::{Database, DatabaseManager, Session},
@@ -21,7 +21,9 @@ use std::pin::Pin;
 
 use crate::{
     common::{stream::Stream, Promise, IID},
-    concept::{Attribute, AttributeType, Entity, EntityType, Relation, RelationType, SchemaException, ValueType},
+    concept::{
+        Attribute, AttributeType, Entity, EntityType, Relation, RelationType, SchemaException, Thing, ValueType,
+    },
     connection::TransactionStream,
     Result,
 };
@@ -183,6 +185,70 @@ impl<'tx> ConceptManager<'tx> {
         self.transaction_stream.get_ref().get_attribute(iid)
     }
 
+    /// Retrieves a `Thing` for each of the given iids in a single batched request.
+    /// Results are returned in the order of the given iids, with `None` for iids that do not identify a `Thing`.
+    ///
+    /// # Arguments
+    ///
+    /// * `iids` -- The iids of the `Thing` instances to retrieve
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.concepts().get_things(iids)
+    /// ```
+    pub fn get_things(&self, iids: Vec<IID>) -> Result<impl Stream<Item = Result<Option<Thing>>> + 'tx> {
+        self.transaction_stream.get_ref().get_things(iids)
+    }
+
+    /// Retrieves an `Entity` for each of the given iids in a single batched request.
+    /// Results are returned in the order of the given iids, with `None` for iids that do not identify an `Entity`.
+    ///
+    /// # Arguments
+    ///
+    /// * `iids` -- The iids of the `Entity` instances to retrieve
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.concepts().get_entities(iids)
+    /// ```
+    pub fn get_entities(&self, iids: Vec<IID>) -> Result<impl Stream<Item = Result<Option<Entity>>> + 'tx> {
+        self.transaction_stream.get_ref().get_entities(iids)
+    }
+
+    /// Retrieves a `Relation` for each of the given iids in a single batched request.
+    /// Results are returned in the order of the given iids, with `None` for iids that do not identify a `Relation`.
+    ///
+    /// # Arguments
+    ///
+    /// * `iids` -- The iids of the `Relation` instances to retrieve
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.concepts().get_relations(iids)
+    /// ```
+    pub fn get_relations(&self, iids: Vec<IID>) -> Result<impl Stream<Item = Result<Option<Relation>>> + 'tx> {
+        self.transaction_stream.get_ref().get_relations(iids)
+    }
+
+    /// Retrieves an `Attribute` for each of the given iids in a single batched request.
+    /// Results are returned in the order of the given iids, with `None` for iids that do not identify an `Attribute`.
+    ///
+    /// # Arguments
+    ///
+    /// * `iids` -- The iids of the `Attribute` instances to retrieve
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.concepts().get_attributes(iids)
+    /// ```
+    pub fn get_attributes(&self, iids: Vec<IID>) -> Result<impl Stream<Item = Result<Option<Attribute>>> + 'tx> {
+        self.transaction_stream.get_ref().get_attributes(iids)
+    }
+
     /// Retrieves a list of all schema exceptions for the current transaction.
     ///
     /// # Examples
@@ -25,7 +25,7 @@ use std::{fmt, marker::PhantomData, pin::Pin};
 
 use self::{concept::ConceptManager, logic::LogicManager, query::QueryManager};
 use crate::{
-    common::{Promise, Result, TransactionType},
+    common::{Promise, QueueDelay, RequestPriority, ResponseBufferStats, Result, TransactionStats, TransactionType},
     connection::TransactionStream,
     error::ConnectionError,
     Options,
@@ -99,6 +99,46 @@ impl Transaction<'_> {
         self.transaction_stream.on_close(callback)
     }
 
+    /// Retrieves the queueing delay observed so far by the requests this transaction dispatched in the given
+    /// priority lane, measured from submitting each request until it was sent to the server.
+    ///
+    /// # Arguments
+    ///
+    /// * `priority` -- The priority lane.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.queue_delay(RequestPriority::Batch)
+    /// ```
+    pub fn queue_delay(&self, priority: RequestPriority) -> QueueDelay {
+        self.transaction_stream.queue_delay(priority)
+    }
+
+    /// Retrieves the size of the answers this transaction has received from the server but not yet consumed,
+    /// and how often its streams have been paused because of the response buffer limit.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.response_buffer()
+    /// ```
+    pub fn response_buffer(&self) -> ResponseBufferStats {
+        self.transaction_stream.response_buffer()
+    }
+
+    /// Retrieves the execution statistics of this transaction: requests sent and how they were batched,
+    /// bytes exchanged with the server, answers received, promises resolved and time spent waiting for responses.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.stats()
+    /// ```
+    pub fn stats(&self) -> TransactionStats {
+        self.transaction_stream.stats()
+    }
+
     /// Closes the transaction.
     ///
     /// # Examples
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+//! Transport throughput of Get query results of different sizes, streamed from a stand-in server,
+//! with and without compression. Compressed runs need the `compression-gzip` and `compression-zstd` features
+//! enabled both for this benchmark and for the driver; algorithms the driver was built without are skipped.
+
+mod mock_server;
+
+use std::{
+    net::{SocketAddr, TcpListener},
+    time::{Duration, Instant},
+};
+
+use futures::{executor::block_on, StreamExt};
+use tokio::runtime::Runtime;
+use tonic::transport::{server::TcpIncoming, Server};
+use typedb_driver::{
+    Compression, CompressionAlgorithm, Connection, DatabaseManager, Session, SessionType::Data, TransactionType::Read,
+};
+
+use self::mock_server::{MockServer, ResultShape};
+
+const ANSWER_COUNT: usize = 10_000;
+const VALUE_SIZES: [usize; 4] = [16, 256, 4_096, 65_536];
+const WARMUP_ITERATIONS: usize = 2;
+const ITERATIONS: usize = 10;
+
+fn main() {
+    let runtime = Runtime::new().expect("failed to start the stand-in server runtime");
+    let compressions = [
+        None,
+        Some(Compression { algorithm: CompressionAlgorithm::Gzip, min_message_size: 0 }),
+        Some(Compression { algorithm: CompressionAlgorithm::Zstd, min_message_size: 0 }),
+    ];
+    println!("compression\tvalue_bytes\tanswers/s\tvalue_MB/s\treceived_ratio");
+    for value_size in VALUE_SIZES {
+        let shape = ResultShape { answer_count: ANSWER_COUNT / (value_size / 4_096).max(1), value_size };
+        let address = serve(&runtime, shape);
+        for compression in compressions {
+            if compression.map_or(false, |compression| !compression.algorithm.is_available()) {
+                continue;
+            }
+            let (elapsed, ratio) = block_on(run(address, compression, shape)).expect("benchmark run failed");
+            let answers = (shape.answer_count * ITERATIONS) as f64;
+            println!(
+                "{}\t{}\t{:.0}\t{:.1}\t{:.3}",
+                compression.map_or("none".to_owned(), |compression| format!("{:?}", compression.algorithm)),
+                value_size,
+                answers / elapsed.as_secs_f64(),
+                answers * value_size as f64 / elapsed.as_secs_f64() / 1_000_000.0,
+                ratio,
+            );
+        }
+    }
+}
+
+fn serve(runtime: &Runtime, shape: ResultShape) -> SocketAddr {
+    let address = TcpListener::bind("127.0.0.1:0").and_then(|listener| listener.local_addr()).unwrap();
+    let incoming = runtime.block_on(async { TcpIncoming::new(address, true, None) }).unwrap();
+    let service = MockServer::new(address, shape).into_service();
+    runtime.spawn(Server::builder().add_service(service).serve_with_incoming(incoming));
+    address
+}
+
+/// Returns the time taken by the measured iterations, and the ratio of bytes received to message bytes.
+async fn run(
+    address: SocketAddr,
+    compression: Option<Compression>,
+    shape: ResultShape,
+) -> typedb_driver::Result<(Duration, f64)> {
+    let connection = match compression {
+        Some(compression) => Connection::new_core_with_compression(address.to_string(), compression)?,
+        None => Connection::new_core(address.to_string())?,
+    };
+    let session = Session::new(DatabaseManager::new(connection.clone()).get("benchmark").await?, Data).await?;
+    let transaction = session.transaction(Read).await?;
+    let mut elapsed = Duration::ZERO;
+    for iteration in 0..WARMUP_ITERATIONS + ITERATIONS {
+        let start = Instant::now();
+        let mut answers = transaction.query().get("match $x isa name; get;")?;
+        let mut count = 0;
+        while let Some(answer) = answers.next().await {
+            answer?;
+            count += 1;
+        }
+        assert_eq!(count, shape.answer_count);
+        if iteration >= WARMUP_ITERATIONS {
+            elapsed += start.elapsed();
+        }
+    }
+    let ratio = connection.compression_stats().received_ratio();
+    connection.force_close()?;
+    Ok((elapsed, ratio))
+}
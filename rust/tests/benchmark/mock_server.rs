@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{collections::HashMap, net::SocketAddr, sync::Arc};
+
+use futures::StreamExt;
+use tokio::sync::mpsc::unbounded_channel;
+use tokio_stream::wrappers::UnboundedReceiverStream;
+use tonic::{Request, Response, Status, Streaming};
+use typedb_protocol::{
+    concept, connection, database, database_manager, database_replicas, query_manager, server_manager, session,
+    transaction,
+    type_db_server::{TypeDb, TypeDbServer},
+    user, user_manager, value, Attribute, AttributeType, Concept, ConceptMap, DatabaseReplicas, Explainables, Server,
+    Value, ValueType,
+};
+
+type TonicResult<T> = Result<Response<T>, Status>;
+
+/// The answers the stand-in server returns to every Get query: `answer_count` concept maps,
+/// each holding a single string attribute of `value_size` bytes.
+#[derive(Copy, Clone, Debug)]
+pub struct ResultShape {
+    pub answer_count: usize,
+    pub value_size: usize,
+}
+
+/// A stand-in TypeDB server implementing just enough of the protocol to open a session and a transaction,
+/// and to stream canned answers to Get queries, so that transport throughput can be measured without a database.
+pub struct MockServer {
+    address: SocketAddr,
+    answers: Arc<Vec<query_manager::ResPart>>,
+}
+
+impl MockServer {
+    const ANSWERS_PER_RES_PART: usize = 50;
+
+    pub fn new(address: SocketAddr, shape: ResultShape) -> Self {
+        let answers = (0..shape.answer_count)
+            .map(|i| answer(i, shape.value_size))
+            .collect::<Vec<_>>()
+            .chunks(Self::ANSWERS_PER_RES_PART)
+            .map(|answers| query_manager::ResPart {
+                res: Some(query_manager::res_part::Res::GetResPart(query_manager::get::ResPart {
+                    answers: answers.to_vec(),
+                })),
+            })
+            .collect();
+        Self { address, answers: Arc::new(answers) }
+    }
+
+    /// Returns the gRPC service. Responses are compressed with the algorithms this benchmark is built with,
+    /// when the driver accepts them.
+    pub fn into_service(self) -> TypeDbServer<Self> {
+        #[allow(unused_mut)]
+        let mut service = TypeDbServer::new(self);
+        #[cfg(feature = "compression-gzip")]
+        {
+            service = service
+                .accept_compressed(tonic::codec::CompressionEncoding::Gzip)
+                .send_compressed(tonic::codec::CompressionEncoding::Gzip);
+        }
+        #[cfg(feature = "compression-zstd")]
+        {
+            service = service
+                .accept_compressed(tonic::codec::CompressionEncoding::Zstd)
+                .send_compressed(tonic::codec::CompressionEncoding::Zstd);
+        }
+        service
+    }
+
+    fn respond(&self, req: transaction::Req) -> Vec<transaction::Server> {
+        let req_id = req.req_id;
+        match req.req {
+            Some(transaction::req::Req::QueryManagerReq(_)) => {
+                let res_parts = self.answers.iter().cloned().map(transaction::res_part::Res::QueryManagerResPart);
+                let done = transaction::res_part::Res::StreamResPart(transaction::stream::ResPart {
+                    state: transaction::stream::State::Done.into(),
+                });
+                res_parts
+                    .chain(Some(done))
+                    .map(|res| transaction::Server {
+                        server: Some(transaction::server::Server::ResPart(transaction::ResPart {
+                            req_id: req_id.clone(),
+                            res: Some(res),
+                        })),
+                    })
+                    .collect()
+            }
+            _ => Vec::new(),
+        }
+    }
+}
+
+fn answer(index: usize, value_size: usize) -> ConceptMap {
+    const WORDS: [&str; 8] = ["typedb ", "entity ", "relation ", "attribute ", "role ", "rule ", "schema ", "data "];
+    let mut text = format!("{index:08} ");
+    let mut words = WORDS.iter().cycle().skip(index % WORDS.len());
+    while text.len() < value_size {
+        text.push_str(words.next().unwrap());
+    }
+    text.truncate(value_size);
+
+    let attribute = Attribute {
+        iid: (index as u64).to_be_bytes().to_vec(),
+        attribute_type: Some(AttributeType {
+            label: "name".to_owned(),
+            is_root: false,
+            is_abstract: false,
+            value_type: ValueType::String.into(),
+        }),
+        value: Some(Value { value: Some(value::Value::String(text)) }),
+        inferred: false,
+    };
+    ConceptMap {
+        map: HashMap::from([("x".to_owned(), Concept { concept: Some(concept::Concept::Attribute(attribute)) })]),
+        explainables: Some(Explainables::default()),
+    }
+}
+
+fn unimplemented<T>() -> TonicResult<T> {
+    Err(Status::unimplemented("not supported by the stand-in server"))
+}
+
+#[tonic::async_trait]
+impl TypeDb for MockServer {
+    async fn connection_open(&self, _: Request<connection::open::Req>) -> TonicResult<connection::open::Res> {
+        Ok(Response::new(Default::default()))
+    }
+
+    async fn servers_all(&self, _: Request<server_manager::all::Req>) -> TonicResult<server_manager::all::Res> {
+        let server = Server { address: self.address.to_string(), ..Default::default() };
+        Ok(Response::new(server_manager::all::Res { servers: vec![server], ..Default::default() }))
+    }
+
+    async fn users_contains(
+        &self,
+        _: Request<user_manager::contains::Req>,
+    ) -> TonicResult<user_manager::contains::Res> {
+        unimplemented()
+    }
+
+    async fn users_create(&self, _: Request<user_manager::create::Req>) -> TonicResult<user_manager::create::Res> {
+        unimplemented()
+    }
+
+    async fn users_delete(&self, _: Request<user_manager::delete::Req>) -> TonicResult<user_manager::delete::Res> {
+        unimplemented()
+    }
+
+    async fn users_all(&self, _: Request<user_manager::all::Req>) -> TonicResult<user_manager::all::Res> {
+        unimplemented()
+    }
+
+    async fn users_password_set(
+        &self,
+        _: Request<user_manager::password_set::Req>,
+    ) -> TonicResult<user_manager::password_set::Res> {
+        unimplemented()
+    }
+
+    async fn users_get(&self, _: Request<user_manager::get::Req>) -> TonicResult<user_manager::get::Res> {
+        unimplemented()
+    }
+
+    async fn user_password_update(
+        &self,
+        _: Request<user::password_update::Req>,
+    ) -> TonicResult<user::password_update::Res> {
+        unimplemented()
+    }
+
+    async fn user_token(&self, _: Request<user::token::Req>) -> TonicResult<user::token::Res> {
+        unimplemented()
+    }
+
+    async fn databases_contains(
+        &self,
+        _: Request<database_manager::contains::Req>,
+    ) -> TonicResult<database_manager::contains::Res> {
+        Ok(Response::new(database_manager::contains::Res { contains: true, ..Default::default() }))
+    }
+
+    async fn databases_create(
+        &self,
+        _: Request<database_manager::create::Req>,
+    ) -> TonicResult<database_manager::create::Res> {
+        unimplemented()
+    }
+
+    async fn databases_get(
+        &self,
+        request: Request<database_manager::get::Req>,
+    ) -> TonicResult<database_manager::get::Res> {
+        let replica = database_replicas::Replica {
+            address: self.address.to_string(),
+            primary: true,
+            preferred: true,
+            ..Default::default()
+        };
+        let database = DatabaseReplicas { name: request.into_inner().name, replicas: vec![replica] };
+        Ok(Response::new(database_manager::get::Res { database: Some(database), ..Default::default() }))
+    }
+
+    async fn databases_all(&self, _: Request<database_manager::all::Req>) -> TonicResult<database_manager::all::Res> {
+        unimplemented()
+    }
+
+    async fn database_schema(&self, _: Request<database::schema::Req>) -> TonicResult<database::schema::Res> {
+        unimplemented()
+    }
+
+    async fn database_type_schema(
+        &self,
+        _: Request<database::type_schema::Req>,
+    ) -> TonicResult<database::type_schema::Res> {
+        unimplemented()
+    }
+
+    async fn database_rule_schema(
+        &self,
+        _: Request<database::rule_schema::Req>,
+    ) -> TonicResult<database::rule_schema::Res> {
+        unimplemented()
+    }
+
+    async fn database_delete(&self, _: Request<database::delete::Req>) -> TonicResult<database::delete::Res> {
+        unimplemented()
+    }
+
+    async fn session_open(&self, _: Request<session::open::Req>) -> TonicResult<session::open::Res> {
+        let session_id = uuid::Uuid::new_v4().as_bytes().to_vec();
+        Ok(Response::new(session::open::Res { session_id, ..Default::default() }))
+    }
+
+    async fn session_close(&self, _: Request<session::close::Req>) -> TonicResult<session::close::Res> {
+        Ok(Response::new(Default::default()))
+    }
+
+    async fn session_pulse(&self, _: Request<session::pulse::Req>) -> TonicResult<session::pulse::Res> {
+        Ok(Response::new(session::pulse::Res { alive: true, ..Default::default() }))
+    }
+
+    type TransactionStream = UnboundedReceiverStream<Result<transaction::Server, Status>>;
+
+    async fn transaction(
+        &self,
+        request: Request<Streaming<transaction::Client>>,
+    ) -> TonicResult<Self::TransactionStream> {
+        let mut requests = request.into_inner();
+        let (response_sink, response_source) = unbounded_channel();
+        let server = MockServer { address: self.address, answers: self.answers.clone() };
+        tokio::spawn(async move {
+            while let Some(Ok(client)) = requests.next().await {
+                for response in client.reqs.into_iter().flat_map(|req| server.respond(req)) {
+                    if response_sink.send(Ok(response)).is_err() {
+                        return;
+                    }
+                }
+            }
+        });
+        Ok(Response::new(UnboundedReceiverStream::new(response_source)))
+    }
+}
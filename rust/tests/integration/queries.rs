@@ -17,16 +17,19 @@
  * under the License.
  */
 
-use std::{sync::Arc, time::Instant};
+use std::{
+    sync::Arc,
+    time::{Duration, Instant},
+};
 
 use chrono::{NaiveDate, NaiveDateTime};
 use futures::StreamExt;
 use serial_test::serial;
-use tokio::sync::mpsc;
+use tokio::{sync::mpsc, time::sleep};
 use typedb_driver::{
     concept::{Attribute, Concept, Value},
     error::ConnectionError,
-    Connection, Credential, DatabaseManager, Error, Options, Session,
+    Connection, Credential, DatabaseManager, Error, Options, RequestPriority, Session,
     SessionType::{Data, Schema},
     TransactionType::{Read, Write},
 };
@@ -317,6 +320,137 @@ test_for_each_arg! {
         Ok(())
     }
 
+    async fn dropped_stream_is_cancelled(connection: Connection) -> typedb_driver::Result {
+        common::create_test_database_with_schema(connection.clone(), "define person sub entity;").await?;
+        let databases = DatabaseManager::new(connection);
+
+        let session = Session::new(databases.get(common::TEST_DATABASE).await?, Data).await?;
+        insert_people(&session, PEOPLE).await?;
+
+        let transaction = session.transaction_with_options(Read, Options::new().prefetch_size(10)).await?;
+        let answer_stream = transaction.query().get("match $x isa person; get;")?;
+        let results: Vec<_> = answer_stream.take(5).collect().await;
+        assert_eq!(results.len(), 5);
+        assert!(results.into_iter().all(|res| res.is_ok()));
+
+        let person_count = transaction.query().get_aggregate("match $x isa person; get; count;").await?;
+        assert_eq!(person_count, Some(Value::Long(PEOPLE as i64)));
+        assert!(transaction.stats().answers < PEOPLE as u64);
+
+        Ok(())
+    }
+
+    async fn query_timeout_leaves_transaction_open(connection: Connection) -> typedb_driver::Result {
+        common::create_test_database_with_schema(connection.clone(), "define person sub entity;").await?;
+        let databases = DatabaseManager::new(connection);
+
+        let session = Session::new(databases.get(common::TEST_DATABASE).await?, Data).await?;
+        insert_people(&session, PEOPLE).await?;
+
+        // A one-byte response buffer pauses the stream while its answers are unconsumed, so it cannot complete in time.
+        let options = Options::new().prefetch_size(10).response_buffer_limit(1);
+        let transaction = session.transaction_with_options(Read, options).await?;
+        let with_timeout = Options::new().query_timeout(Duration::from_millis(100));
+        let mut answer_stream = transaction.query().get_with_options("match $x isa person; get;", with_timeout)?;
+        assert!(answer_stream.next().await.unwrap().is_ok());
+        sleep(Duration::from_millis(500)).await;
+
+        let results: Vec<_> = answer_stream.collect().await;
+        assert!(results.len() < PEOPLE);
+        assert!(matches!(results.last(), Some(Err(Error::Connection(ConnectionError::QueryTimedOut { .. })))));
+
+        assert!(transaction.is_open());
+        let person_count = transaction.query().get_aggregate("match $x isa person; get; count;").await?;
+        assert_eq!(person_count, Some(Value::Long(PEOPLE as i64)));
+
+        Ok(())
+    }
+
+    async fn priority_lanes_keep_issue_order(connection: Connection) -> typedb_driver::Result {
+        common::create_test_database_with_schema(connection.clone(), "define person sub entity;").await?;
+        let databases = DatabaseManager::new(connection);
+
+        let session = Session::new(databases.get(common::TEST_DATABASE).await?, Data).await?;
+        insert_people(&session, PEOPLE).await?;
+
+        let options = Options::new().priority(RequestPriority::Batch).prefetch_size(10);
+        let transaction = session.transaction_with_options(Write, options).await?;
+        let interactive = Options::new().priority(RequestPriority::Interactive);
+        let count_query = "match $x isa person; get; count;";
+
+        let mut export = transaction.query().get("match $x isa person; get;")?;
+        for _ in 0..20 {
+            export.next().await.unwrap()?;
+        }
+        let person_count = transaction.query().get_aggregate_with_options(count_query, interactive).await?;
+        assert_eq!(person_count, Some(Value::Long(PEOPLE as i64)));
+        let rest: Vec<_> = export.collect().await;
+        assert_eq!(rest.len(), PEOPLE - 20);
+        assert!(rest.into_iter().all(|res| res.is_ok()));
+
+        // The batch write is sent before the interactive read issued after it.
+        let _ = transaction.query().insert("insert $x isa person;")?;
+        let person_count = transaction.query().get_aggregate_with_options(count_query, interactive).await?;
+        assert_eq!(person_count, Some(Value::Long(PEOPLE as i64 + 1)));
+
+        assert!(transaction.queue_delay(RequestPriority::Batch).requests > 0);
+        assert!(transaction.queue_delay(RequestPriority::Interactive).requests > 0);
+
+        Ok(())
+    }
+
+    async fn response_buffer_limit_pauses_streams(connection: Connection) -> typedb_driver::Result {
+        common::create_test_database_with_schema(connection.clone(), "define person sub entity;").await?;
+        let databases = DatabaseManager::new(connection);
+
+        let session = Session::new(databases.get(common::TEST_DATABASE).await?, Data).await?;
+        insert_people(&session, PEOPLE).await?;
+
+        let options = Options::new().prefetch_size(10).response_buffer_limit(1);
+        let transaction = session.transaction_with_options(Read, options).await?;
+        let mut answer_stream = transaction.query().get("match $x isa person; get;")?;
+        assert!(answer_stream.next().await.unwrap().is_ok());
+        sleep(Duration::from_millis(200)).await;
+
+        let buffer = transaction.response_buffer();
+        assert_eq!(buffer.limit, Some(1));
+        assert!(buffer.buffered_bytes > 0);
+        assert!(buffer.paused_continuations > 0);
+        assert!(transaction.stats().answers < PEOPLE as u64);
+
+        let rest: Vec<_> = answer_stream.collect().await;
+        assert_eq!(rest.len(), PEOPLE - 1);
+        assert!(rest.into_iter().all(|res| res.is_ok()));
+        assert_eq!(transaction.response_buffer().buffered_bytes, 0);
+
+        Ok(())
+    }
+
+    async fn connection_response_buffer_limit_pauses_streams(connection: Connection) -> typedb_driver::Result {
+        common::create_test_database_with_schema(connection.clone(), "define person sub entity;").await?;
+        let databases = DatabaseManager::new(connection.clone());
+
+        let session = Session::new(databases.get(common::TEST_DATABASE).await?, Data).await?;
+        insert_people(&session, PEOPLE).await?;
+
+        connection.set_response_buffer_limit(Some(1));
+        let transaction = session.transaction_with_options(Read, Options::new().prefetch_size(10)).await?;
+        let mut answer_stream = transaction.query().get("match $x isa person; get;")?;
+        assert!(answer_stream.next().await.unwrap().is_ok());
+        sleep(Duration::from_millis(200)).await;
+
+        let buffer = connection.response_buffer();
+        assert!(buffer.buffered_bytes > 0);
+        assert!(buffer.paused_continuations > 0);
+
+        let rest: Vec<_> = answer_stream.collect().await;
+        assert_eq!(rest.len(), PEOPLE - 1);
+        assert_eq!(connection.response_buffer().buffered_bytes, 0);
+        connection.set_response_buffer_limit(None);
+
+        Ok(())
+    }
+
     #[ignore]
     async fn streaming_perf(connection: Connection) -> typedb_driver::Result {
         for i in 0..5 {
@@ -371,6 +505,16 @@ test_for_each_arg! {
     }
 }
 
+// Data helpers
+const PEOPLE: usize = 500;
+
+async fn insert_people(session: &Session, count: usize) -> typedb_driver::Result {
+    let transaction = session.transaction(Write).await?;
+    let people: Vec<_> = (0..count).map(|i| format!("$p{i} isa person;")).collect();
+    let _ = transaction.query().insert(&format!("insert {}", people.join(" ")));
+    transaction.commit().await
+}
+
 // Concept helpers
 // FIXME: should be removed after concept API is implemented
 fn unwrap_date_time(concept: Concept) -> NaiveDateTime {